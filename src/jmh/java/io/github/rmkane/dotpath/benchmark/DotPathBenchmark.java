@@ -0,0 +1,77 @@
+package io.github.rmkane.dotpath.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.rmkane.dotpath.api.DotPath;
+import io.github.rmkane.dotpath.api.DotPathException;
+
+/**
+ * Single-threaded throughput of the {@link DotPath} operations on bean, map and mixed graphs.
+ *
+ * <p>Each thread works on its own graph, so {@link DotPathMultiThreadedBenchmark} measures how the
+ * shared caches scale rather than contention on the graph itself. Allocation rates are reported
+ * with {@code -prof gc}.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DotPathBenchmark {
+    private static final Integer VALUE = 42;
+
+    @Param({"POJO", "MAP", "MIXED"})
+    private Graph graph;
+
+    @Param({"1", "2", "5", "10"})
+    private int depth;
+
+    private String path;
+    private Object source;
+    private Object target;
+
+    @Setup
+    public void setup() throws DotPathException {
+        path = graph.path(depth);
+        source = graph.newRoot();
+        target = graph.newRoot();
+        DotPath.set(source, path, VALUE);
+        DotPath.set(target, path, 0);
+    }
+
+    @Benchmark
+    public Object get() throws DotPathException {
+        return DotPath.get(source, path);
+    }
+
+    @Benchmark
+    public Object set() throws DotPathException {
+        DotPath.set(target, path, VALUE);
+        return target;
+    }
+
+    @Benchmark
+    public Object setFromString() throws DotPathException {
+        DotPath.setFromString(target, path, "42");
+        return target;
+    }
+
+    @Benchmark
+    public Object copy() throws DotPathException {
+        DotPath.copy(source, target, path);
+        return target;
+    }
+}
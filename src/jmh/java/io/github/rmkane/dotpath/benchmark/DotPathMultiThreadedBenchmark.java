@@ -0,0 +1,9 @@
+package io.github.rmkane.dotpath.benchmark;
+
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * The {@link DotPathBenchmark} operations run from as many threads as there are processors.
+ */
+@Threads(Threads.MAX)
+public class DotPathMultiThreadedBenchmark extends DotPathBenchmark {}
@@ -0,0 +1,44 @@
+package io.github.rmkane.dotpath.benchmark;
+
+import java.util.HashMap;
+
+/**
+ * The shapes of object graphs benchmarked, each reached through a path of a given depth that ends
+ * in an {@code int} value.
+ */
+public enum Graph {
+    /** Nested beans: {@code child.child.value} */
+    POJO,
+
+    /** Nested maps: {@code child.child.value} on a map root */
+    MAP,
+
+    /** Beans for the first half of the path, maps for the rest: {@code child.attributes.child.value} */
+    MIXED;
+
+    /**
+     * Creates an empty root object for this graph.
+     *
+     * @return A new root object
+     */
+    public Object newRoot() {
+        return this == MAP ? new HashMap<String, Object>() : new Node();
+    }
+
+    /**
+     * Returns the path to the value at a given depth.
+     *
+     * @param depth The number of segments in the path, at least 1
+     * @return The dot-notation path
+     */
+    public String path(int depth) {
+        StringBuilder path = new StringBuilder();
+        if (this == MIXED && depth > 1) {
+            int beans = (depth - 1) / 2;
+            path.append("child.".repeat(beans)).append("attributes.").append("child.".repeat(depth - 2 - beans));
+        } else {
+            path.append("child.".repeat(depth - 1));
+        }
+        return path.append("value").toString();
+    }
+}
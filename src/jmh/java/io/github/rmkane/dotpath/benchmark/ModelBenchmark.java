@@ -0,0 +1,71 @@
+package io.github.rmkane.dotpath.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.rmkane.dotpath.api.DotPath;
+import io.github.rmkane.dotpath.api.DotPathException;
+import io.github.rmkane.dotpath.model.Point;
+import io.github.rmkane.dotpath.model.State;
+
+/**
+ * Throughput of the {@link DotPath} operations on the {@code State}/{@code Point} test models.
+ */
+@org.openjdk.jmh.annotations.State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelBenchmark {
+    @Param({"count", "position.x", "properties.level"})
+    private String path;
+
+    private State source;
+    private State target;
+
+    @Setup
+    public void setup() throws DotPathException {
+        source = State.builder()
+                .player("Player1")
+                .position(Point.builder().x(10).y(20).build())
+                .count(42)
+                .build();
+        source.getProperties().put("level", 5);
+        target = State.builder().build();
+        DotPath.copy(source, target, path);
+    }
+
+    @Benchmark
+    public Object get() throws DotPathException {
+        return DotPath.get(source, path);
+    }
+
+    @Benchmark
+    public Object set() throws DotPathException {
+        DotPath.set(target, path, 7);
+        return target;
+    }
+
+    @Benchmark
+    public Object setFromString() throws DotPathException {
+        DotPath.setFromString(target, path, "7");
+        return target;
+    }
+
+    @Benchmark
+    public Object copy() throws DotPathException {
+        DotPath.copy(source, target, path);
+        return target;
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.rmkane.dotpath.benchmark;
+
+import java.util.Map;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A self-similar bean used to build object graphs of any depth.
+ */
+@Data
+@NoArgsConstructor
+public class Node {
+    private Node child;
+    private Map<String, Object> attributes;
+    private int value;
+    private String label;
+}
@@ -0,0 +1,29 @@
+package io.github.rmkane.dotpath.api;
+
+/**
+ * Strategies for reading and writing bean properties once they have been resolved.
+ *
+ * <p>Every engine falls back to the next simpler one for properties it cannot handle, for example
+ * classes in modules that are not open to DotPath: {@link #LAMBDA} falls back to
+ * {@link #METHOD_HANDLE}, which falls back to {@link #REFLECTION}.</p>
+ *
+ * @see DotPathSettings#setAccessorEngine(AccessorEngine)
+ */
+public enum AccessorEngine {
+    /**
+     * Uses {@link java.lang.reflect.Method#invoke} and {@link java.lang.reflect.Field#get}.
+     */
+    REFLECTION,
+
+    /**
+     * Uses {@link java.lang.invoke.MethodHandle}s adapted to a generic signature.
+     */
+    METHOD_HANDLE,
+
+    /**
+     * Uses {@link java.lang.invoke.LambdaMetafactory} to spin functional interfaces around getters and
+     * setters, which the JIT can inline like hand-written code. Field-backed properties use method
+     * handles.
+     */
+    LAMBDA
+}
@@ -0,0 +1,159 @@
+package io.github.rmkane.dotpath.api;
+
+import java.lang.reflect.Array;
+
+/**
+ * The values of one path across the roots of a {@link ColumnSet}, held in a primitive array where
+ * the declared type of the path allows it.
+ *
+ * <p>The {@link #getType() type} of the column is {@code int.class}, {@code long.class},
+ * {@code double.class} or {@code boolean.class} for numeric and boolean paths, or
+ * {@code Object.class} for any other path. Rows that are null, because the value, the root or an
+ * intermediate object is null, are marked in a bitmap and hold {@code 0} or {@code false} in
+ * primitive columns.</p>
+ */
+public final class Column {
+    private final String path;
+    private final Class<?> type;
+    private final Object values;
+    private final long[] nulls;
+    private final int size;
+
+    Column(String path, Class<?> type, Object values, long[] nulls, int size) {
+        this.path = path;
+        this.type = type;
+        this.values = values;
+        this.nulls = nulls;
+        this.size = size;
+    }
+
+    /**
+     * Returns the dot-notation path the column was read from.
+     *
+     * @return The path
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Returns the element type of the column.
+     *
+     * @return {@code int.class}, {@code long.class}, {@code double.class}, {@code boolean.class} or
+     *         {@code Object.class}
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return The number of roots the column was read from
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether a row is null.
+     *
+     * @param row The row index
+     * @return true if the value, the root or an intermediate object of the row is null
+     * @throws IndexOutOfBoundsException if the row is out of bounds
+     */
+    public boolean isNull(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row %d out of bounds for size %d".formatted(row, size));
+        }
+        return (nulls[row >>> 6] & (1L << row)) != 0;
+    }
+
+    /**
+     * Returns the number of null rows.
+     *
+     * @return The number of rows marked as null
+     */
+    public int nullCount() {
+        int count = 0;
+        for (long word : nulls) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the value of a row, boxing primitive values.
+     *
+     * @param row The row index
+     * @return The value, or null if the row is null
+     * @throws IndexOutOfBoundsException if the row is out of bounds
+     */
+    public Object get(int row) {
+        return isNull(row) ? null : Array.get(values, row);
+    }
+
+    /**
+     * Returns the values of an {@code int} column. The array is shared and not copied.
+     *
+     * @return The values, with {@code 0} for null rows
+     * @throws IllegalStateException if the column is not of type {@code int}
+     */
+    public int[] getInts() {
+        return values(int[].class);
+    }
+
+    /**
+     * Returns the values of a {@code long} column. The array is shared and not copied.
+     *
+     * @return The values, with {@code 0} for null rows
+     * @throws IllegalStateException if the column is not of type {@code long}
+     */
+    public long[] getLongs() {
+        return values(long[].class);
+    }
+
+    /**
+     * Returns the values of a {@code double} column. The array is shared and not copied.
+     *
+     * @return The values, with {@code 0} for null rows
+     * @throws IllegalStateException if the column is not of type {@code double}
+     */
+    public double[] getDoubles() {
+        return values(double[].class);
+    }
+
+    /**
+     * Returns the values of a {@code boolean} column. The array is shared and not copied.
+     *
+     * @return The values, with {@code false} for null rows
+     * @throws IllegalStateException if the column is not of type {@code boolean}
+     */
+    public boolean[] getBooleans() {
+        return values(boolean[].class);
+    }
+
+    /**
+     * Returns the values of a reference column. The array is shared and not copied.
+     *
+     * @return The values, with null for null rows
+     * @throws IllegalStateException if the column is of a primitive type
+     */
+    public Object[] getObjects() {
+        return values(Object[].class);
+    }
+
+    private <A> A values(Class<A> arrayType) {
+        if (values.getClass() != arrayType) {
+            throw new IllegalStateException("Column %s is of type %s, not %s"
+                    .formatted(
+                            path, type.getName(), arrayType.getComponentType().getName()));
+        }
+        return arrayType.cast(values);
+    }
+
+    @Override
+    public String toString() {
+        return path + " (" + type.getName() + "[" + size + "])";
+    }
+}
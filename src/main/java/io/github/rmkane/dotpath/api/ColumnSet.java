@@ -0,0 +1,70 @@
+package io.github.rmkane.dotpath.api;
+
+import java.util.List;
+
+/**
+ * The values of several paths read from a list of roots, one {@link Column} per path.
+ *
+ * <p>Instances are obtained from {@link DotPath#project(List, String...)} or
+ * {@link PathSet#project(java.util.Collection)}:</p>
+ * <pre>
+ * ColumnSet columns = DotPath.project(states, "position.x", "value");
+ * int[] xs = columns.get("position.x").getInts();
+ * double total = Arrays.stream(columns.get("value").getDoubles()).sum();
+ * </pre>
+ */
+public final class ColumnSet {
+    private final List<String> paths;
+    private final Column[] columns;
+    private final int size;
+
+    ColumnSet(List<String> paths, Column[] columns, int size) {
+        this.paths = paths;
+        this.columns = columns;
+        this.size = size;
+    }
+
+    /**
+     * Returns the paths of the columns, in the order they were given.
+     *
+     * @return The paths
+     */
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    /**
+     * Returns the number of rows of every column.
+     *
+     * @return The number of roots
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the column at an index.
+     *
+     * @param index The index of the path
+     * @return The column
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public Column get(int index) {
+        return columns[index];
+    }
+
+    /**
+     * Returns the column of a path.
+     *
+     * @param path The path, as given when projecting
+     * @return The column of the first occurrence of the path
+     * @throws IllegalArgumentException if the path was not projected
+     */
+    public Column get(String path) {
+        int index = paths.indexOf(path);
+        if (index < 0) {
+            throw new IllegalArgumentException("Path was not projected: " + path);
+        }
+        return columns[index];
+    }
+}
@@ -0,0 +1,872 @@
+package io.github.rmkane.dotpath.api;
+
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+import io.github.rmkane.dotpath.internal.TypeResolver;
+import io.github.rmkane.dotpath.internal.ValidationUtils;
+import io.github.rmkane.dotpath.internal.access.Accessors;
+import io.github.rmkane.dotpath.internal.access.PathAccessor;
+import io.github.rmkane.dotpath.internal.access.PathAccessorGenerator;
+import io.github.rmkane.dotpath.internal.access.PropertyAccessor;
+import io.github.rmkane.dotpath.internal.metadata.ClassMetadata;
+import io.github.rmkane.dotpath.internal.metadata.PropertyMetadata;
+import io.github.rmkane.dotpath.internal.operations.AtomicOperations;
+import io.github.rmkane.dotpath.internal.operations.BulkExtractor;
+import io.github.rmkane.dotpath.internal.operations.CopyOperations;
+import io.github.rmkane.dotpath.internal.operations.IndexOperations;
+import io.github.rmkane.dotpath.internal.operations.MapOperations;
+import io.github.rmkane.dotpath.internal.operations.PropertyOperations;
+import io.github.rmkane.dotpath.internal.parsers.ByteSequence;
+import io.github.rmkane.dotpath.internal.traversal.ElementAccessor;
+import io.github.rmkane.dotpath.internal.traversal.PathTraverser;
+import io.github.rmkane.dotpath.internal.traversal.PropertyChain;
+
+/**
+ * A dot-notation path that has been parsed and validated once so it can be evaluated against any
+ * number of root objects. Instances are immutable and safe to share between threads.
+ *
+ * <p>Instances are obtained from {@link DotPath#compile(String)}:</p>
+ * <pre>
+ * CompiledPath path = DotPath.compile("position.x");
+ * Integer x = path.get(state);
+ * path.set(state, 30);
+ * </pre>
+ */
+public final class CompiledPath {
+    private static final PathTraverser pathTraverser = new PathTraverser();
+    private static final PropertyOperations propertyOperations = new PropertyOperations();
+    private static final TypeResolver typeResolver = new TypeResolver();
+    private static final ValidationUtils validationUtils = new ValidationUtils();
+    private static final MapOperations mapOperations = new MapOperations();
+    private static final CopyOperations copyOperations = new CopyOperations();
+    private static final AtomicOperations atomicOperations = new AtomicOperations();
+    private static final BulkExtractor bulkExtractor = new BulkExtractor();
+
+    private final String path;
+    private final String[] segments;
+
+    /**
+     * The accessor of the element selected by the last segment, or null if it is not an index
+     * segment
+     */
+    private final ElementAccessor leafElement;
+
+    /**
+     * The generated accessor for the most recently seen root class, see
+     * {@link DotPathSettings#setGeneratedPaths(boolean)}
+     */
+    private volatile GeneratedAccessor generatedAccessor;
+
+    /**
+     * The plans for the last segment per class of the object holding it, see {@link LeafPlan}
+     */
+    private final ClassValue<LeafPlan> leafPlans = new ClassValue<>() {
+        @Override
+        protected LeafPlan computeValue(Class<?> type) {
+            return LeafPlan.of(type, segments[segments.length - 1], leafElement != null);
+        }
+    };
+
+    /**
+     * The conversion plans per root class, see {@link #setFromString(Object, CharSequence)}. Their
+     * chains also serve {@link #read(Object)}.
+     */
+    private final ClassValue<ConversionPlan> conversionPlans = new ClassValue<>() {
+        @Override
+        protected ConversionPlan computeValue(Class<?> rootClass) {
+            return conversionPlan(rootClass);
+        }
+    };
+
+    CompiledPath(String path, String[] segments) {
+        this.path = path;
+        this.segments = segments;
+        int index = IndexOperations.parseIndex(segments[segments.length - 1]);
+        this.leafElement = index >= 0 ? new ElementAccessor(index, null, false) : null;
+    }
+
+    /**
+     * Returns the dot-notation path this instance was compiled from.
+     *
+     * @return The original path
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Returns the validated segments of the path. The array is shared and must not be modified.
+     *
+     * @return The path segments
+     */
+    String[] getSegments() {
+        return segments;
+    }
+
+    /**
+     * Traverses all but the last segment of the path, creating intermediate objects if needed.
+     *
+     * @param root The root object to traverse
+     * @return The object that holds the final property
+     * @throws DotPathException if the path is invalid or inaccessible
+     */
+    private Object traverseToParent(Object root) throws DotPathException {
+        validationUtils.validateInput(root, "root");
+        return pathTraverser.traversePathAndCreateIfNeeded(root, segments, segments.length - 1);
+    }
+
+    /**
+     * Gets the value at this path from an object.
+     *
+     * @param root The root object to traverse
+     * @return The value at this path
+     * @throws DotPathException if the path is invalid or inaccessible
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object root) throws DotPathException {
+        PathAccessor accessor = generatedAccessor(root);
+        if (accessor != null) {
+            try {
+                return (T) accessor.get(root);
+            } catch (Exception e) {
+                throw new DotPathException("Error getting value at path: " + path, e);
+            }
+        }
+
+        Object target = traverseToParent(root);
+        String propertyName = segments[segments.length - 1];
+
+        if (mapOperations.isMap(target)) {
+            return mapOperations.getValue(mapOperations.asMap(target), propertyName);
+        }
+
+        try {
+            return (T) propertyOperations.getPropertyValue(target, propertyName);
+        } catch (Exception e) {
+            throw new DotPathException("Error getting value at path: " + path, e);
+        }
+    }
+
+    /**
+     * Gets the value at this path from an object without creating intermediate objects, for reads
+     * that must not modify the root. Unlike {@link #get(Object)}, a null intermediate object gives
+     * a null value; missing properties are still reported.
+     *
+     * @param root The root object to traverse
+     * @return The value at this path, or null if an intermediate object is null
+     * @throws DotPathException if the path is invalid or inaccessible
+     */
+    @SuppressWarnings("unchecked")
+    <T> T read(Object root) throws DotPathException {
+        validationUtils.validateInput(root, "root");
+
+        try {
+            PropertyChain chain = conversionPlans.get(root.getClass()).chain();
+            if (chain == null) {
+                // Does not resolve on the root class; resolving again reports why
+                chain = PropertyChain.resolve(root.getClass(), segments);
+            }
+            Object value = chain.get(root);
+            return value != PropertyChain.NULL_INTERMEDIATE ? (T) value : null;
+        } catch (Exception e) {
+            throw new DotPathException("Error getting value at path: " + path, e);
+        }
+    }
+
+    /**
+     * Gets the value at this path from an object if the path resolves. Unlike {@link #get(Object)},
+     * missing keys, missing properties and null intermediate objects are reported without
+     * exceptions, and no intermediate objects are created.
+     *
+     * @param root The root object to traverse
+     * @return The value at this path, or an empty optional if the path does not resolve or the value
+     *         is null
+     * @throws DotPathException if the root is null or a property exists but cannot be read
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Optional<T> tryGet(Object root) throws DotPathException {
+        Object value = find(root);
+        return value != PathTraverser.MISSING ? Optional.ofNullable((T) value) : Optional.empty();
+    }
+
+    /**
+     * Gets the value at this path from an object, or a default value if the path does not resolve.
+     * As with {@link java.util.Map#getOrDefault(Object, Object)}, a null value that is present is
+     * returned as is. No exceptions are created for misses and no intermediate objects are created.
+     *
+     * @param root         The root object to traverse
+     * @param defaultValue The value to return if the path does not resolve
+     * @return The value at this path, or the default value
+     * @throws DotPathException if the root is null or a property exists but cannot be read
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getOrDefault(Object root, T defaultValue) throws DotPathException {
+        Object value = find(root);
+        return value != PathTraverser.MISSING ? (T) value : defaultValue;
+    }
+
+    /**
+     * Checks whether this path resolves on an object, i.e. every intermediate object is non-null and
+     * every key and property exists. The value itself may be null.
+     *
+     * @param root The root object to traverse
+     * @return true if the path resolves
+     * @throws DotPathException if the root is null or a property exists but cannot be read
+     */
+    public boolean exists(Object root) throws DotPathException {
+        return find(root) != PathTraverser.MISSING;
+    }
+
+    /**
+     * Looks up the value at this path without creating intermediate objects or exceptions for
+     * misses.
+     *
+     * @param root The root object to traverse
+     * @return The value, or {@link PathTraverser#MISSING} if the path does not resolve
+     */
+    private Object find(Object root) throws DotPathException {
+        validationUtils.validateInput(root, "root");
+
+        Object current = root;
+        for (int i = 0; i < segments.length && current != PathTraverser.MISSING; i++) {
+            current = pathTraverser.findValue(current, segments[i]);
+        }
+        return current;
+    }
+
+    /**
+     * Gets the value at this path from each of many roots, in parallel for large collections. Roots
+     * are not modified: null roots and null intermediate objects give null values instead of
+     * creating intermediate objects.
+     *
+     * @param roots The root objects to traverse
+     * @return The values, in iteration order of the roots
+     * @throws DotPathException if the collection is null, or a key or property is missing or cannot
+     *                          be read on any root
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> extract(Collection<?> roots) throws DotPathException {
+        validationUtils.validateInput(roots, "roots");
+        return (List<T>) Arrays.asList(bulkExtractor.extract(roots, segments));
+    }
+
+    /**
+     * Sets the value at this path on an object.
+     *
+     * @param root  The root object to traverse
+     * @param value The value to set
+     * @throws DotPathException if the path is invalid or inaccessible
+     */
+    public <T> void set(Object root, T value) throws DotPathException {
+        PathAccessor accessor = generatedAccessor(root);
+        if (accessor != null) {
+            try {
+                accessor.set(root, value);
+                return;
+            } catch (Exception e) {
+                throw new DotPathException("Error setting value at path: " + path, e);
+            }
+        }
+
+        Object target = traverseToParent(root);
+        String propertyName = segments[segments.length - 1];
+
+        try {
+            if (mapOperations.isMap(target)) {
+                mapOperations.setValue(mapOperations.asMap(target), propertyName, value);
+            } else {
+                propertyOperations.setValueOnObject(target, propertyName, value);
+            }
+        } catch (Exception e) {
+            throw new DotPathException("Error setting value at path: " + path, e);
+        }
+    }
+
+    /**
+     * Gets a numeric value at this path as an {@code int}. Other numeric types are converted only if
+     * no information is lost, so 3.0 is read as 3 but 3.14 is rejected. Primitive bean properties
+     * are read without boxing.
+     *
+     * @param root The root object to traverse
+     * @return The value at this path
+     * @throws DotPathException if the path is invalid or inaccessible, or the value is null, not a
+     *                          number, or does not fit an {@code int}
+     */
+    public int getInt(Object root) throws DotPathException {
+        Object target = traverseToParent(root);
+        String propertyName = segments[segments.length - 1];
+        LeafPlan leaf = leafPlans.get(target.getClass());
+
+        try {
+            if (leaf.map()) {
+                return Accessors.toInt(mapOperations.getValue(mapOperations.asMap(target), propertyName));
+            }
+            return leaf.accessor(leafElement).getInt(target);
+        } catch (Exception e) {
+            throw new DotPathException("Error getting value at path: " + path, e);
+        }
+    }
+
+    /**
+     * Gets a numeric value at this path as a {@code long}. Other numeric types are converted only if
+     * no information is lost. Primitive bean properties are read without boxing.
+     *
+     * @param root The root object to traverse
+     * @return The value at this path
+     * @throws DotPathException if the path is invalid or inaccessible, or the value is null, not a
+     *                          number, or does not fit a {@code long}
+     */
+    public long getLong(Object root) throws DotPathException {
+        Object target = traverseToParent(root);
+        String propertyName = segments[segments.length - 1];
+        LeafPlan leaf = leafPlans.get(target.getClass());
+
+        try {
+            if (leaf.map()) {
+                return Accessors.toLong(mapOperations.getValue(mapOperations.asMap(target), propertyName));
+            }
+            return leaf.accessor(leafElement).getLong(target);
+        } catch (Exception e) {
+            throw new DotPathException("Error getting value at path: " + path, e);
+        }
+    }
+
+    /**
+     * Gets a numeric value at this path as a {@code double}. Other numeric types are converted only
+     * if no information is lost, so a {@code long} beyond 2^53 that a {@code double} would round is
+     * rejected. Primitive bean properties are read without boxing.
+     *
+     * @param root The root object to traverse
+     * @return The value at this path
+     * @throws DotPathException if the path is invalid or inaccessible, or the value is null, not a
+     *                          number, or is not exactly representable as a {@code double}
+     */
+    public double getDouble(Object root) throws DotPathException {
+        Object target = traverseToParent(root);
+        String propertyName = segments[segments.length - 1];
+        LeafPlan leaf = leafPlans.get(target.getClass());
+
+        try {
+            if (leaf.map()) {
+                return Accessors.toDouble(mapOperations.getValue(mapOperations.asMap(target), propertyName));
+            }
+            return leaf.accessor(leafElement).getDouble(target);
+        } catch (Exception e) {
+            throw new DotPathException("Error getting value at path: " + path, e);
+        }
+    }
+
+    /**
+     * Gets a boolean value at this path. Primitive bean properties are read without boxing.
+     *
+     * @param root The root object to traverse
+     * @return The value at this path
+     * @throws DotPathException if the path is invalid or inaccessible, or the value is null or not
+     *                          a boolean
+     */
+    public boolean getBoolean(Object root) throws DotPathException {
+        Object target = traverseToParent(root);
+        String propertyName = segments[segments.length - 1];
+        LeafPlan leaf = leafPlans.get(target.getClass());
+
+        try {
+            if (leaf.map()) {
+                return Accessors.toBoolean(mapOperations.getValue(mapOperations.asMap(target), propertyName));
+            }
+            return leaf.accessor(leafElement).getBoolean(target);
+        } catch (Exception e) {
+            throw new DotPathException("Error getting value at path: " + path, e);
+        }
+    }
+
+    /**
+     * Sets an {@code int} value at this path on an object. Bean properties of another numeric type
+     * receive the value converted to their type, which must hold it exactly. Primitive bean
+     * properties are written without boxing.
+     *
+     * @param root  The root object to traverse
+     * @param value The value to set
+     * @throws DotPathException if the path is invalid or inaccessible, or the property type does not
+     *                          accept the value
+     */
+    public void setInt(Object root, int value) throws DotPathException {
+        Object target = traverseToParent(root);
+        String propertyName = segments[segments.length - 1];
+        LeafPlan leaf = leafPlans.get(target.getClass());
+
+        try {
+            if (leaf.map()) {
+                mapOperations.setValue(mapOperations.asMap(target), propertyName, value);
+            } else if (leafElement != null) {
+                leafElement.setInt(target, value);
+            } else {
+                writeIntegral(leaf.property(int.class), target, value, int.class);
+            }
+        } catch (Exception e) {
+            throw new DotPathException("Error setting value at path: " + path, e);
+        }
+    }
+
+    /**
+     * Sets a {@code long} value at this path on an object. Bean properties of another numeric type
+     * receive the value converted to their type, which must hold it exactly, so a value beyond the
+     * range of an {@code int} property is rejected. Primitive bean properties are written without
+     * boxing.
+     *
+     * @param root  The root object to traverse
+     * @param value The value to set
+     * @throws DotPathException if the path is invalid or inaccessible, or the property type does not
+     *                          accept the value
+     */
+    public void setLong(Object root, long value) throws DotPathException {
+        Object target = traverseToParent(root);
+        String propertyName = segments[segments.length - 1];
+        LeafPlan leaf = leafPlans.get(target.getClass());
+
+        try {
+            if (leaf.map()) {
+                mapOperations.setValue(mapOperations.asMap(target), propertyName, value);
+            } else if (leafElement != null) {
+                leafElement.setLong(target, value);
+            } else {
+                writeIntegral(leaf.property(long.class), target, value, long.class);
+            }
+        } catch (Exception e) {
+            throw new DotPathException("Error setting value at path: " + path, e);
+        }
+    }
+
+    /**
+     * Sets a {@code double} value at this path on an object. Bean properties of another numeric type
+     * receive the value converted to their type, which must hold it exactly, so 3.0 can be written
+     * to an {@code int} property but 3.14 cannot. Primitive bean properties are written without
+     * boxing.
+     *
+     * @param root  The root object to traverse
+     * @param value The value to set
+     * @throws DotPathException if the path is invalid or inaccessible, or the property type does not
+     *                          accept the value
+     */
+    public void setDouble(Object root, double value) throws DotPathException {
+        Object target = traverseToParent(root);
+        String propertyName = segments[segments.length - 1];
+        LeafPlan leaf = leafPlans.get(target.getClass());
+
+        try {
+            if (leaf.map()) {
+                mapOperations.setValue(mapOperations.asMap(target), propertyName, value);
+            } else if (leafElement != null) {
+                leafElement.setDouble(target, value);
+            } else {
+                writeFloating(leaf.property(double.class), target, value);
+            }
+        } catch (Exception e) {
+            throw new DotPathException("Error setting value at path: " + path, e);
+        }
+    }
+
+    /**
+     * Sets a {@code boolean} value at this path on an object. Primitive bean properties are written
+     * without boxing.
+     *
+     * @param root  The root object to traverse
+     * @param value The value to set
+     * @throws DotPathException if the path is invalid or inaccessible, or the property type does not
+     *                          accept a {@code boolean}
+     */
+    public void setBoolean(Object root, boolean value) throws DotPathException {
+        Object target = traverseToParent(root);
+        String propertyName = segments[segments.length - 1];
+        LeafPlan leaf = leafPlans.get(target.getClass());
+
+        try {
+            if (leaf.map()) {
+                mapOperations.setValue(mapOperations.asMap(target), propertyName, value);
+            } else if (leafElement != null) {
+                leafElement.setBoolean(target, value);
+            } else {
+                leaf.property(boolean.class).getAccessor().setBoolean(target, value);
+            }
+        } catch (Exception e) {
+            throw new DotPathException("Error setting value at path: " + path, e);
+        }
+    }
+
+    /**
+     * Atomically sets the value at this path to {@code update} if it currently equals
+     * {@code expected}. Numbers are converted to the type of numeric bean properties first.
+     *
+     * <p>Bean properties with a backing field are updated lock-free through a cached
+     * {@link java.lang.invoke.VarHandle}, bypassing their setter; other bean properties are updated
+     * under the monitor of the object holding them. Map entries are updated with
+     * {@link Map#replace(Object, Object, Object)} or {@link Map#putIfAbsent(Object, Object)}, which
+     * are atomic for concurrent maps. Intermediate objects are created as by
+     * {@link #set(Object, Object)}.</p>
+     *
+     * @param root     The root object to traverse
+     * @param expected The expected current value, compared with {@code equals}
+     * @param update   The new value
+     * @return true if the value was updated
+     * @throws DotPathException if the path is invalid or inaccessible, or the values are not of the
+     *                          property type
+     */
+    public boolean compareAndSet(Object root, Object expected, Object update) throws DotPathException {
+        Object target = traverseToParent(root);
+        try {
+            return atomicOperations.compareAndSet(target, segments[segments.length - 1], expected, update);
+        } catch (Exception e) {
+            throw new DotPathException("Error updating value at path: " + path, e);
+        }
+    }
+
+    /**
+     * Atomically adds to the integral number at this path and returns its previous value. Null and
+     * missing values count as zero; missing map entries are created as an {@code Integer} when the
+     * result fits, or else as a {@code Long}. Updates are made as by
+     * {@link #compareAndSet(Object, Object, Object)}, with {@link Map#compute} for map entries.
+     *
+     * @param root  The root object to traverse
+     * @param delta The value to add
+     * @return The previous value
+     * @throws DotPathException if the path is invalid or inaccessible, or the value is not an
+     *                          integral number
+     */
+    public long getAndAdd(Object root, long delta) throws DotPathException {
+        Object target = traverseToParent(root);
+        try {
+            return atomicOperations.getAndAdd(target, segments[segments.length - 1], delta);
+        } catch (Exception e) {
+            throw new DotPathException("Error updating value at path: " + path, e);
+        }
+    }
+
+    /**
+     * Atomically increments the integral number at this path, see {@link #getAndAdd(Object, long)}.
+     *
+     * @param root The root object to traverse
+     * @return The new value
+     * @throws DotPathException if the path is invalid or inaccessible, or the value is not an
+     *                          integral number
+     */
+    public long incrementAndGet(Object root) throws DotPathException {
+        return getAndAdd(root, 1) + 1;
+    }
+
+    /**
+     * Atomically combines the value at this path with a given value and stores the result. Null
+     * and missing values are replaced by the given value, as by {@link Map#merge}, which is used
+     * for map entries. Bean properties are updated as by
+     * {@link #compareAndSet(Object, Object, Object)}, so the accumulator may be called more than once
+     * under contention and should be free of side effects.
+     *
+     * @param root        The root object to traverse
+     * @param value       The value to combine with the current value
+     * @param accumulator The function combining the current value with the given value
+     * @param <T>         The type of the values
+     * @return The new value
+     * @throws DotPathException if the path is invalid or inaccessible, or the result is not of the
+     *                          property type
+     */
+    public <T> T accumulate(Object root, T value, BinaryOperator<T> accumulator) throws DotPathException {
+        validationUtils.validateInput(value, "value");
+        validationUtils.validateInput(accumulator, "accumulator");
+        Object target = traverseToParent(root);
+        try {
+            return atomicOperations.accumulate(target, segments[segments.length - 1], value, accumulator);
+        } catch (Exception e) {
+            throw new DotPathException("Error updating value at path: " + path, e);
+        }
+    }
+
+    /**
+     * How the last segment of this path is read and written on objects of one class: as map
+     * entries, or through a bean property whose compatibility with each primitive value type is
+     * checked once.
+     *
+     * @param map           Whether the objects are maps
+     * @param property      The bean property, or null for maps and index segments
+     * @param acceptedTypes The primitive value types the property accepts
+     */
+    private record LeafPlan(boolean map, PropertyMetadata property, Set<Class<?>> acceptedTypes) {
+        private static final List<Class<?>> VALUE_TYPES = List.of(int.class, long.class, double.class, boolean.class);
+
+        static LeafPlan of(Class<?> type, String name, boolean indexed) {
+            if (Map.class.isAssignableFrom(type) || indexed) {
+                return new LeafPlan(Map.class.isAssignableFrom(type), null, Set.of());
+            }
+            PropertyMetadata property = ClassMetadata.of(type).getProperty(name);
+            Set<Class<?>> acceptedTypes = new HashSet<>();
+            for (Class<?> valueType : VALUE_TYPES) {
+                if (property.exists() && typeResolver.isCompatibleType(valueType, property.getType())) {
+                    acceptedTypes.add(valueType);
+                }
+            }
+            return new LeafPlan(false, property, Set.copyOf(acceptedTypes));
+        }
+
+        /**
+         * Returns the accessor of the property or element, for reading.
+         *
+         * @param element The accessor of the element selected by an index segment, or null
+         * @throws DotPathException if the property does not exist
+         */
+        PropertyAccessor accessor(ElementAccessor element) throws DotPathException {
+            return element != null ? element : existingProperty().getAccessor();
+        }
+
+        /**
+         * Returns the property, for writing a primitive value.
+         *
+         * @param valueType The primitive type of the value to write
+         * @throws DotPathException if the property does not exist or does not accept the value type
+         */
+        PropertyMetadata property(Class<?> valueType) throws DotPathException {
+            PropertyMetadata existing = existingProperty();
+            if (!acceptedTypes.contains(valueType)) {
+                throw new DotPathException("Type mismatch: value type %s is not compatible with field type %s"
+                        .formatted(valueType.getName(), existing.getType().getName()));
+            }
+            return existing;
+        }
+
+        private PropertyMetadata existingProperty() throws DotPathException {
+            if (property.exists()) {
+                return property;
+            }
+            // Throws the exception describing the missing property
+            return ClassMetadata.of(property.getOwnerType()).getExistingProperty(property.getName());
+        }
+    }
+
+    /**
+     * Writes an integral value to a numeric property, converted exactly to the declared type so that
+     * the accessor never narrows or rounds it. Properties of a non-numeric type such as
+     * {@code Object} receive the value boxed as the type it was given as.
+     */
+    private static void writeIntegral(PropertyMetadata property, Object target, long value, Class<?> valueType)
+            throws Exception {
+        Class<?> type = property.getType();
+        PropertyAccessor accessor = property.getAccessor();
+        if (type == long.class || type == Long.class) {
+            accessor.setLong(target, value);
+        } else if (type == int.class || type == Integer.class) {
+            accessor.setInt(target, Accessors.toInt(value));
+        } else if (type == double.class || type == Double.class) {
+            accessor.setDouble(target, Accessors.toDouble(value));
+        } else {
+            accessor.set(target, exactNumber(type, valueType == int.class ? (Number) (int) value : (Number) value));
+        }
+    }
+
+    /**
+     * Writes a floating-point value to a numeric property, converted exactly to the declared type
+     * so that the accessor never truncates it.
+     */
+    private static void writeFloating(PropertyMetadata property, Object target, double value) throws Exception {
+        Class<?> type = property.getType();
+        PropertyAccessor accessor = property.getAccessor();
+        if (type == double.class || type == Double.class) {
+            accessor.setDouble(target, value);
+        } else if (type == int.class || type == Integer.class) {
+            accessor.setInt(target, Accessors.toInt(value));
+        } else if (type == long.class || type == Long.class) {
+            accessor.setLong(target, Accessors.toLong(value));
+        } else {
+            accessor.set(target, exactNumber(type, value));
+        }
+    }
+
+    /**
+     * Converts a number to another numeric type such as {@code float} or {@code short}, or leaves
+     * it unchanged for types such as {@code Number} or {@code Object}.
+     */
+    private static Object exactNumber(Class<?> type, Number value) {
+        Function<Number, Object> converter = typeResolver.getExactNumberConverter(type);
+        return converter != null ? converter.apply(value) : value;
+    }
+
+    /**
+     * Sets the value at this path on an object, converting the string value to the appropriate type.
+     *
+     * <p>When the path ends in a bean property, its declared type and converter are resolved once
+     * per root class and reused, so each call costs one traversal and one parse. Paths ending in a
+     * map, where the type depends on the current value, and paths whose properties are only found on
+     * the runtime classes of intermediate objects, resolve the type from the parent reached by the
+     * write.</p>
+     *
+     * <p>Numbers, booleans, ISO dates and comma-separated lists are parsed straight from the
+     * character sequence, without first copying it into a {@code String}.</p>
+     *
+     * @param root     The root object to traverse
+     * @param valueStr The string value to convert and set
+     * @throws DotPathException if the path is invalid or inaccessible
+     */
+    public void setFromString(Object root, CharSequence valueStr) throws DotPathException {
+        validationUtils.validateInput(root, "root");
+        validationUtils.validateInput(valueStr, "valueStr");
+
+        try {
+            ConversionPlan plan = conversionPlans.get(root.getClass());
+            if (plan.parser() != null) {
+                plan.chain().set(root, plan.parser().parse(valueStr));
+                return;
+            }
+
+            Object target = traverseToParent(root);
+            String propertyName = segments[segments.length - 1];
+            if (mapOperations.isMap(target)) {
+                Class<?> targetType = mapOperations.getValueType(target, propertyName);
+                mapOperations.setValue(
+                        mapOperations.asMap(target), propertyName, typeResolver.parseValueByType(targetType, valueStr));
+            } else {
+                Class<?> targetType = typeResolver.resolveTypeForPathSegment(target.getClass(), propertyName);
+                propertyOperations.setValueOnObject(
+                        target, propertyName, typeResolver.parseValueByType(targetType, valueStr));
+            }
+        } catch (Exception e) {
+            throw new DotPathException("Error setting value from string at path: " + path, e);
+        }
+    }
+
+    /**
+     * Sets the value at this path on an object, converting a slice of UTF-8 bytes to the appropriate
+     * type without decoding it into an intermediate {@code String}.
+     *
+     * @param root   The root object to traverse
+     * @param bytes  The bytes holding the value
+     * @param offset The index of the first byte of the value
+     * @param length The number of bytes of the value
+     * @throws DotPathException if the slice is out of bounds, or the path is invalid or inaccessible
+     * @see #setFromString(Object, CharSequence)
+     */
+    public void setFromString(Object root, byte[] bytes, int offset, int length) throws DotPathException {
+        validationUtils.validateInput(bytes, "bytes");
+        try {
+            setFromString(root, ByteSequence.of(bytes, offset, length));
+        } catch (IndexOutOfBoundsException e) {
+            throw new DotPathException("Invalid byte range at path " + path + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Sets the value at this path on an object, converting a slice of UTF-8 bytes to the appropriate
+     * type without decoding it into an intermediate {@code String}. The slice is read with absolute
+     * indexes, so the position of the buffer is not changed.
+     *
+     * @param root   The root object to traverse
+     * @param buffer The buffer holding the value
+     * @param offset The absolute index of the first byte of the value
+     * @param length The number of bytes of the value
+     * @throws DotPathException if the slice is out of bounds, or the path is invalid or inaccessible
+     * @see #setFromString(Object, CharSequence)
+     */
+    public void setFromString(Object root, ByteBuffer buffer, int offset, int length) throws DotPathException {
+        validationUtils.validateInput(buffer, "buffer");
+        try {
+            setFromString(root, ByteSequence.of(buffer, offset, length));
+        } catch (IndexOutOfBoundsException e) {
+            throw new DotPathException("Invalid byte range at path " + path + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Resolves the conversion plan for a root class. Paths that do not resolve against the declared
+     * types, such as a property that only exists on the runtime subclass of a declared type, are
+     * resolved against the runtime values on every call instead.
+     */
+    private ConversionPlan conversionPlan(Class<?> rootClass) {
+        try {
+            PropertyChain chain = PropertyChain.resolve(rootClass, segments);
+            Class<?> targetType = chain.getType();
+            return new ConversionPlan(chain, targetType != null ? typeResolver.getParser(targetType) : null);
+        } catch (DotPathException e) {
+            return ConversionPlan.RUNTIME;
+        }
+    }
+
+    /**
+     * The resolved path and converter for roots of a class. The parser is null when the target type
+     * is only known at runtime.
+     */
+    private record ConversionPlan(PropertyChain chain, TypeResolver.ValueParser parser) {
+        static final ConversionPlan RUNTIME = new ConversionPlan(null, null);
+    }
+
+    /**
+     * Copies the value at this path from source to target object. Source and target are traversed
+     * together in a single pass, and missing intermediate objects are created in the target.
+     *
+     * @param source Source object to copy from
+     * @param target Target object to copy to
+     * @throws DotPathException if types are incompatible or property not found
+     */
+    public void copy(Object source, Object target) throws DotPathException {
+        if (source == null || target == null) {
+            throw new DotPathException("Source and target objects cannot be null");
+        }
+
+        // First check if source and target are of compatible types
+        if (!source.getClass().equals(target.getClass())) {
+            throw new DotPathException("Source type %s and target type %s are incompatible"
+                    .formatted(source.getClass().getName(), target.getClass().getName()));
+        }
+
+        try {
+            // Walk source and target together, creating missing intermediate objects in the target
+            Object sourceParent = source;
+            Object targetParent = target;
+            Type targetType = null;
+            for (int i = 0; i < segments.length - 1; i++) {
+                Type nextType = IndexOperations.parseIndex(segments[i + 1]) >= 0
+                        ? pathTraverser.getDeclaredType(targetParent, segments[i], targetType)
+                        : null;
+                sourceParent = pathTraverser.traversePath(sourceParent, segments[i]);
+                targetParent = pathTraverser.traversePathAndCreateIfNeeded(
+                        targetParent, segments[i], targetType, segments[i + 1]);
+                targetType = nextType;
+            }
+            copyOperations.copyValue(sourceParent, targetParent, segments[segments.length - 1]);
+        } catch (Exception e) {
+            throw new DotPathException("Failed to copy property: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the generated accessor for the class of a root object, if generated accessors are
+     * enabled and the path can be generated for that class. The accessor for the last root class
+     * is kept in a single-entry cache, which covers the common case of monomorphic call sites.
+     *
+     * @param root The root object
+     * @return The generated accessor, or null to use the generic traversal
+     */
+    private PathAccessor generatedAccessor(Object root) {
+        if (root == null || !DotPathSettings.isGeneratedPaths() || DotPathSettings.isConcurrent()) {
+            return null;
+        }
+
+        GeneratedAccessor cached = generatedAccessor;
+        if (cached == null || cached.rootClass() != root.getClass()) {
+            Class<?> rootClass = root.getClass();
+            cached = new GeneratedAccessor(rootClass, PathAccessorGenerator.forPath(rootClass, path, segments));
+            generatedAccessor = cached;
+        }
+        return cached.accessor();
+    }
+
+    private record GeneratedAccessor(Class<?> rootClass, PathAccessor accessor) {}
+
+    @Override
+    public String toString() {
+        return path;
+    }
+}
@@ -0,0 +1,188 @@
+package io.github.rmkane.dotpath.api;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import io.github.rmkane.dotpath.internal.parsers.CollectionParser;
+import io.github.rmkane.dotpath.internal.parsers.EnumParser;
+import io.github.rmkane.dotpath.internal.parsers.PrimitiveParser;
+import io.github.rmkane.dotpath.internal.parsers.TimeParser;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Global registry of the {@link ValueConverter}s used by {@code setFromString} and the other
+ * string-based writes.
+ *
+ * <p>The converter for a type is looked up in this order:</p>
+ * <ol>
+ *   <li>a converter registered for exactly that type with {@link #register(Class, ValueConverter)};</li>
+ *   <li>a converter created by the most specific factory registered for a supertype with
+ *       {@link #registerSubtypes(Class, Function)}, the latest registration winning between
+ *       unrelated supertypes;</li>
+ *   <li>for enums, a lookup of the constant by its exact name.</li>
+ * </ol>
+ *
+ * <p>Primitives and their wrappers, {@code String}, {@code LocalDate}, {@code LocalDateTime},
+ * {@code List} and {@code ArrayList} are registered by default and can be replaced.</p>
+ *
+ * <p>The result of the lookup is cached per class through a {@link ClassValue}, so lookups take
+ * constant time and never lock. Registrations replace an immutable snapshot of the registry, which
+ * invalidates every cached result at once.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ConverterRegistry {
+    private static final ClassValue<CachedConverter> CACHE = new ClassValue<>() {
+        @Override
+        protected CachedConverter computeValue(Class<?> type) {
+            return new CachedConverter();
+        }
+    };
+
+    private static volatile Snapshot snapshot = new Snapshot(Map.of(), List.of());
+
+    static {
+        // Register primitive and wrapper type converters
+        register(int.class, PrimitiveParser::parseInt);
+        register(Integer.class, PrimitiveParser::parseInt);
+        register(long.class, PrimitiveParser::parseLong);
+        register(Long.class, PrimitiveParser::parseLong);
+        register(double.class, PrimitiveParser::parseDouble);
+        register(Double.class, PrimitiveParser::parseDouble);
+        register(float.class, PrimitiveParser::parseFloat);
+        register(Float.class, PrimitiveParser::parseFloat);
+        register(boolean.class, PrimitiveParser::parseBoolean);
+        register(Boolean.class, PrimitiveParser::parseBoolean);
+        register(String.class, CharSequence::toString);
+
+        // Register date/time converters
+        register(LocalDate.class, TimeParser::parseLocalDate);
+        register(LocalDateTime.class, TimeParser::parseLocalDateTime);
+
+        // Register collection converters
+        register(List.class, CollectionParser::parseList);
+        register(ArrayList.class, CollectionParser::parseList);
+    }
+
+    /**
+     * Registers the converter for exactly the given type, replacing any previous one. Subtypes are
+     * not affected.
+     *
+     * @param type      The type values are converted to
+     * @param converter The converter
+     * @param <T>       The type values are converted to
+     */
+    public static synchronized <T> void register(Class<T> type, ValueConverter<? extends T> converter) {
+        Objects.requireNonNull(type, "type cannot be null");
+        Objects.requireNonNull(converter, "converter cannot be null");
+        Map<Class<?>, ValueConverter<?>> exact = new HashMap<>(snapshot.exact());
+        exact.put(type, converter);
+        snapshot = new Snapshot(Map.copyOf(exact), snapshot.factories());
+    }
+
+    /**
+     * Registers a factory creating the converters for a type and its subtypes, replacing any
+     * previous factory for the same type. The factory is called at most once per subtype and
+     * registry change, and may return null for subtypes it does not support.
+     *
+     * <p>Example, for value objects with a static {@code parse} method:</p>
+     * <pre>
+     * ConverterRegistry.registerSubtypes(Identifier.class, type -&gt; value -&gt; Identifier.parse(type, value));
+     * </pre>
+     *
+     * @param supertype The supertype of the types values are converted to
+     * @param factory   The factory creating the converter for a subtype
+     * @param <T>       The supertype
+     */
+    public static synchronized <T> void registerSubtypes(
+            Class<T> supertype, Function<Class<? extends T>, ValueConverter<? extends T>> factory) {
+        Objects.requireNonNull(supertype, "supertype cannot be null");
+        Objects.requireNonNull(factory, "factory cannot be null");
+        List<Factory> factories = new ArrayList<>();
+        for (Factory existing : snapshot.factories()) {
+            if (existing.supertype() != supertype) {
+                factories.add(existing);
+            }
+        }
+        factories.add(new Factory(supertype, factory));
+        snapshot = new Snapshot(snapshot.exact(), List.copyOf(factories));
+    }
+
+    /**
+     * Returns the converter for a type.
+     *
+     * @param type The type values are converted to
+     * @param <T>  The type values are converted to
+     * @return The converter, or null if the type has none
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ValueConverter<T> find(Class<T> type) {
+        CachedConverter cached = CACHE.get(type);
+        Snapshot current = snapshot;
+        Resolved resolved = cached.resolved;
+        if (resolved == null || resolved.snapshot() != current) {
+            resolved = new Resolved(current, resolve(current, type));
+            cached.resolved = resolved;
+        }
+        return (ValueConverter<T>) resolved.converter();
+    }
+
+    private static ValueConverter<?> resolve(Snapshot snapshot, Class<?> type) {
+        ValueConverter<?> converter = snapshot.exact().get(type);
+        if (converter != null) {
+            return converter;
+        }
+
+        Factory best = null;
+        for (Factory factory : snapshot.factories()) {
+            if (factory.supertype().isAssignableFrom(type)
+                    && (best == null || !factory.supertype().isAssignableFrom(best.supertype()))) {
+                best = factory;
+            }
+        }
+        if (best != null) {
+            converter = best.create(type);
+            if (converter != null) {
+                return converter;
+            }
+        }
+
+        if (Enum.class.isAssignableFrom(type) && type != Enum.class) {
+            return EnumParser.forType(type)::parse;
+        }
+        return null;
+    }
+
+    /**
+     * The registered converters. Snapshots are never modified, so they can be read without locking.
+     */
+    private record Snapshot(Map<Class<?>, ValueConverter<?>> exact, List<Factory> factories) {}
+
+    /**
+     * A converter factory for a supertype.
+     */
+    private record Factory(Class<?> supertype, Function<?, ?> factory) {
+        @SuppressWarnings("unchecked")
+        ValueConverter<?> create(Class<?> type) {
+            return ((Function<Class<?>, ValueConverter<?>>) factory).apply(type);
+        }
+    }
+
+    /**
+     * The converter of a class, resolved against a snapshot of the registry.
+     */
+    private record Resolved(Snapshot snapshot, ValueConverter<?> converter) {}
+
+    /**
+     * The cached lookup result for a class, replaced whenever the registry changes.
+     */
+    private static final class CachedConverter {
+        private volatile Resolved resolved;
+    }
+}
@@ -1,51 +1,133 @@
 package io.github.rmkane.dotpath.api;
 
-import io.github.rmkane.dotpath.internal.TypeResolver;
-import io.github.rmkane.dotpath.internal.ValidationUtils;
-import io.github.rmkane.dotpath.internal.operations.MapOperations;
-import io.github.rmkane.dotpath.internal.operations.PropertyOperations;
-import io.github.rmkane.dotpath.internal.traversal.PathTraverser;
-import io.github.rmkane.dotpath.internal.traversal.PropertyContext;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BinaryOperator;
+import java.util.stream.Stream;
+
+import io.github.rmkane.dotpath.internal.metadata.ClassMetadata;
+import io.github.rmkane.dotpath.internal.metadata.PropertyMetadata;
+import io.github.rmkane.dotpath.internal.operations.DumpLoader;
+import io.github.rmkane.dotpath.internal.parsers.EntryReader;
+import io.github.rmkane.dotpath.internal.traversal.PathParser;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
 /**
  * Main utility class for reflection operations. Provides high-level methods for getting and setting
  * values using dot-notation paths.
+ *
+ * <p>The string-based methods compile their path on first use and reuse the compiled form for
+ * subsequent calls. Callers that evaluate the same path repeatedly can hold on to a
+ * {@link CompiledPath} from {@link #compile(String)} instead.</p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class DotPath {
-    private static final PathTraverser pathTraverser = new PathTraverser();
-    private static final PropertyOperations propertyOperations = new PropertyOperations();
-    private static final TypeResolver typeResolver = new TypeResolver();
-    private static final ValidationUtils validationUtils = new ValidationUtils();
-    private static final MapOperations mapOperations = new MapOperations();
+    /**
+     * Upper bound on the number of distinct paths kept by the string-based methods, so that
+     * callers building paths dynamically cannot grow the cache without limit.
+     */
+    private static final int MAX_CACHED_PATHS = 1024;
 
     /**
-     * Traverses a path in an object and returns the final object and property name.
+     * Number of entries applied together by the bulk apply methods. Larger batches share more
+     * intermediate objects but hold more entries in memory.
+     */
+    private static final int APPLY_BATCH_SIZE = 1024;
+
+    private static final Map<String, CompiledPath> compiledPaths = new ConcurrentHashMap<>();
+    private static final PathParser pathParser = new PathParser();
+    private static final DumpLoader dumpLoader = new DumpLoader();
+
+    /**
+     * Parses and validates a dot-notation path once so it can be evaluated repeatedly.
      *
-     * @param root The root object to traverse
-     * @param path The dot-notation path to traverse
-     * @return A context containing the final object and property name
-     * @throws DotPathException if the path is invalid or inaccessible
+     * @param path The dot-notation path to compile
+     * @return The compiled path
+     * @throws DotPathException if the path is null, empty or contains empty segments
      */
-    private static PropertyContext traversePath(Object root, String path) throws DotPathException {
-        validationUtils.validateInput(root, path);
+    public static CompiledPath compile(String path) throws DotPathException {
+        CompiledPath compiled = path != null ? compiledPaths.get(path) : null;
+        if (compiled != null) {
+            return compiled;
+        }
 
-        String[] parts = path.split("\\.");
-        Object current = root;
+        compiled = new CompiledPath(path, pathParser.parse(path));
+        if (compiledPaths.size() < MAX_CACHED_PATHS) {
+            compiledPaths.putIfAbsent(path, compiled);
+        }
+        return compiled;
+    }
 
-        for (int i = 0; i < parts.length - 1; i++) {
-            String part = parts[i];
-            validationUtils.validatePathSegment(part);
+    /**
+     * Compiles a group of dot-notation paths into a {@link PathSet} that reads them together,
+     * visiting shared intermediate objects once.
+     *
+     * @param paths The dot-notation paths to compile
+     * @return The compiled paths
+     * @throws DotPathException if the collection is null or any path is null, empty or contains
+     *                          empty segments
+     */
+    public static PathSet compileAll(Collection<String> paths) throws DotPathException {
+        if (paths == null) {
+            throw new DotPathException("paths cannot be null");
+        }
 
-            current = pathTraverser.traversePathAndCreateIfNeeded(new PropertyContext(current, part));
+        List<CompiledPath> compiled = new ArrayList<>(paths.size());
+        for (String path : paths) {
+            compiled.add(compile(path));
         }
+        return new PathSet(compiled);
+    }
+
+    /**
+     * Compiles a query path, which may contain {@code *} and {@code **} segments, into a
+     * {@link PathQuery} that is evaluated lazily.
+     *
+     * @param path The query path to compile
+     * @return The compiled query
+     * @throws DotPathException if the path is null, empty or contains empty segments
+     */
+    public static PathQuery compileQuery(String path) throws DotPathException {
+        return new PathQuery(path, compile(path).getSegments());
+    }
 
-        String finalPart = parts[parts.length - 1];
-        validationUtils.validatePathSegment(finalPart);
+    /**
+     * Gets the values matching a query path, which may contain {@code *} and {@code **} segments,
+     * as a lazy stream. See {@link PathQuery} for the query syntax.
+     *
+     * @param root The root object to query
+     * @param path The query path
+     * @return The matching values, in depth-first order
+     * @throws DotPathException if the root or path is invalid
+     */
+    public static <T> Stream<T> query(Object root, String path) throws DotPathException {
+        return compileQuery(path).stream(root);
+    }
 
-        return new PropertyContext(current, finalPart);
+    /**
+     * Starts building a {@link MappingPlan} that maps properties between two classes. Types and
+     * conversions are resolved once, when the plan is built.
+     *
+     * @param sourceType The class to map from
+     * @param targetType The class to map to
+     * @return A builder for the plan
+     */
+    public static <S, T> MappingPlan.Builder<S, T> mapping(Class<S> sourceType, Class<T> targetType) {
+        return new MappingPlan.Builder<>(sourceType, targetType);
     }
 
     /**
@@ -56,21 +138,281 @@ public final class DotPath {
      * @return The value at the specified path
      * @throws DotPathException if the path is invalid or inaccessible
      */
-    @SuppressWarnings("unchecked")
     public static <T> T get(Object root, String path) throws DotPathException {
-        PropertyContext context = traversePath(root, path);
-        Object target = context.getTarget();
-        String propertyName = context.getPropertyName();
+        return compile(path).get(root);
+    }
 
-        if (mapOperations.isMap(target)) {
-            return mapOperations.getValue(mapOperations.asMap(target), propertyName);
-        }
+    /**
+     * Gets a value from an object using a dot-notation path if the path resolves, without creating
+     * exceptions for missing keys, missing properties or null intermediate objects.
+     *
+     * @param root The root object to traverse
+     * @param path The dot-notation path to the desired property
+     * @return The value at the specified path, or an empty optional if the path does not resolve or
+     *         the value is null
+     * @throws DotPathException if the root or path is invalid, or a property cannot be read
+     */
+    public static <T> Optional<T> tryGet(Object root, String path) throws DotPathException {
+        return compile(path).tryGet(root);
+    }
+
+    /**
+     * Gets a value from an object using a dot-notation path, or a default value if the path does not
+     * resolve. A null value that is present is returned as is.
+     *
+     * @param root         The root object to traverse
+     * @param path         The dot-notation path to the desired property
+     * @param defaultValue The value to return if the path does not resolve
+     * @return The value at the specified path, or the default value
+     * @throws DotPathException if the root or path is invalid, or a property cannot be read
+     */
+    public static <T> T getOrDefault(Object root, String path, T defaultValue) throws DotPathException {
+        return compile(path).getOrDefault(root, defaultValue);
+    }
+
+    /**
+     * Checks whether a dot-notation path resolves on an object. The value itself may be null.
+     *
+     * @param root The root object to traverse
+     * @param path The dot-notation path to check
+     * @return true if every intermediate object is non-null and every key and property exists
+     * @throws DotPathException if the root or path is invalid, or a property cannot be read
+     */
+    public static boolean exists(Object root, String path) throws DotPathException {
+        return compile(path).exists(root);
+    }
 
-        try {
-            return (T) propertyOperations.getPropertyValue(target, propertyName);
-        } catch (Exception e) {
-            throw new DotPathException("Error getting value at path: " + path, e);
+    /**
+     * Atomically sets the value at a dot-notation path if it currently equals an expected value,
+     * see {@link CompiledPath#compareAndSet(Object, Object, Object)}.
+     *
+     * @param root     The root object to traverse
+     * @param path     The dot-notation path to the desired property
+     * @param expected The expected current value, compared with {@code equals}
+     * @param update   The new value
+     * @return true if the value was updated
+     * @throws DotPathException if the path is invalid or inaccessible, or the values are not of the
+     *                          property type
+     */
+    public static boolean compareAndSet(Object root, String path, Object expected, Object update)
+            throws DotPathException {
+        return compile(path).compareAndSet(root, expected, update);
+    }
+
+    /**
+     * Atomically adds to the integral number at a dot-notation path and returns its previous value,
+     * see {@link CompiledPath#getAndAdd(Object, long)}.
+     *
+     * @param root  The root object to traverse
+     * @param path  The dot-notation path to the desired property
+     * @param delta The value to add
+     * @return The previous value
+     * @throws DotPathException if the path is invalid or inaccessible, or the value is not an
+     *                          integral number
+     */
+    public static long getAndAdd(Object root, String path, long delta) throws DotPathException {
+        return compile(path).getAndAdd(root, delta);
+    }
+
+    /**
+     * Atomically increments the integral number at a dot-notation path and returns its new value,
+     * see {@link CompiledPath#getAndAdd(Object, long)}.
+     *
+     * @param root The root object to traverse
+     * @param path The dot-notation path to the desired property
+     * @return The new value
+     * @throws DotPathException if the path is invalid or inaccessible, or the value is not an
+     *                          integral number
+     */
+    public static long incrementAndGet(Object root, String path) throws DotPathException {
+        return compile(path).incrementAndGet(root);
+    }
+
+    /**
+     * Atomically combines the value at a dot-notation path with a given value and stores the
+     * result, see {@link CompiledPath#accumulate(Object, Object, BinaryOperator)}.
+     *
+     * @param root        The root object to traverse
+     * @param path        The dot-notation path to the desired property
+     * @param value       The value to combine with the current value
+     * @param accumulator The function combining the current value with the given value
+     * @param <T>         The type of the values
+     * @return The new value
+     * @throws DotPathException if the path is invalid or inaccessible, or the result is not of the
+     *                          property type
+     */
+    public static <T> T accumulate(Object root, String path, T value, BinaryOperator<T> accumulator)
+            throws DotPathException {
+        return compile(path).accumulate(root, value, accumulator);
+    }
+
+    /**
+     * Gets the values at several dot-notation paths from an object, visiting shared intermediate
+     * objects once. Callers reading the same paths repeatedly can hold on to a {@link PathSet} from
+     * {@link #compileAll(Collection)} instead.
+     *
+     * @param root  The root object to traverse
+     * @param paths The dot-notation paths to read
+     * @return The values keyed by path, in iteration order of the paths
+     * @throws DotPathException if any path is invalid or inaccessible
+     */
+    public static Map<String, Object> getAll(Object root, Collection<String> paths) throws DotPathException {
+        return compileAll(paths).getAllAsMap(root);
+    }
+
+    /**
+     * Gets the value at a dot-notation path from each of many roots. The path is compiled once and
+     * large collections are split across the common {@link java.util.concurrent.ForkJoinPool}.
+     * Roots are not modified: null roots and null intermediate objects give null values.
+     *
+     * @param roots The root objects to traverse
+     * @param path  The dot-notation path to the desired property
+     * @return The values, in iteration order of the roots
+     * @throws DotPathException if the path is invalid, or a key or property is missing or cannot be
+     *                          read on any root
+     */
+    public static <T> List<T> extract(Collection<?> roots, String path) throws DotPathException {
+        return compile(path).extract(roots);
+    }
+
+    /**
+     * Gets the values at several dot-notation paths from each of many roots, in parallel for large
+     * collections. See {@link #extract(Collection, String)}.
+     *
+     * @param roots The root objects to traverse
+     * @param paths The dot-notation paths to read
+     * @return One row per root, in iteration order of the roots, with the values in iteration order
+     *         of the paths
+     * @throws DotPathException if any path is invalid, or a key or property is missing or cannot be
+     *                          read on any root
+     */
+    public static Object[][] extractAll(Collection<?> roots, Collection<String> paths) throws DotPathException {
+        return compileAll(paths).extractAll(roots);
+    }
+
+    /**
+     * Reads dot-notation paths from each of many roots into columns. Paths declared as numbers or
+     * booleans on the class of the first non-null root are read into {@code int[]}, {@code long[]},
+     * {@code double[]} or {@code boolean[]} arrays without boxing, other paths into {@code Object[]}
+     * arrays, and null rows are marked in a bitmap. Large lists are read in parallel, and roots are
+     * not modified.
+     *
+     * @param roots The root objects to traverse
+     * @param paths The dot-notation paths to read
+     * @return One column per path, with one row per root
+     * @throws DotPathException if any path is invalid, a key or property is missing or cannot be read
+     *                          on any root, or a value does not fit the type of its column
+     */
+    public static ColumnSet project(List<?> roots, String... paths) throws DotPathException {
+        if (paths == null) {
+            throw new DotPathException("paths cannot be null");
         }
+        return compileAll(Arrays.asList(paths)).project(roots);
+    }
+
+    /**
+     * Returns a comparator that orders objects by the natural ordering of the value at a dot-notation
+     * path, with null keys last. The path is compiled once and resolved once per root class, instead
+     * of on every comparison as with {@code Comparator.comparing(o -> DotPath.get(o, path))}.
+     *
+     * @param path The dot-notation path of the key
+     * @return The comparator, which can be extended with further keys
+     * @throws DotPathException if the path is null, empty or contains empty segments
+     */
+    public static <T> PathComparator<T> comparator(String path) throws DotPathException {
+        return PathComparator.of(compile(path), PathComparator.Kind.OBJECT);
+    }
+
+    /**
+     * Returns a comparator that orders objects by the value at a dot-notation path read as an
+     * {@code int}, without boxing primitive properties.
+     *
+     * @param path The dot-notation path of the key
+     * @return The comparator, which can be extended with further keys
+     * @throws DotPathException if the path is null, empty or contains empty segments
+     */
+    public static <T> PathComparator<T> comparingInt(String path) throws DotPathException {
+        return PathComparator.of(compile(path), PathComparator.Kind.INT);
+    }
+
+    /**
+     * Returns a comparator that orders objects by the value at a dot-notation path read as a
+     * {@code long}, without boxing primitive properties.
+     *
+     * @param path The dot-notation path of the key
+     * @return The comparator, which can be extended with further keys
+     * @throws DotPathException if the path is null, empty or contains empty segments
+     */
+    public static <T> PathComparator<T> comparingLong(String path) throws DotPathException {
+        return PathComparator.of(compile(path), PathComparator.Kind.LONG);
+    }
+
+    /**
+     * Returns a comparator that orders objects by the value at a dot-notation path read as a
+     * {@code double}, without boxing primitive properties.
+     *
+     * @param path The dot-notation path of the key
+     * @return The comparator, which can be extended with further keys
+     * @throws DotPathException if the path is null, empty or contains empty segments
+     */
+    public static <T> PathComparator<T> comparingDouble(String path) throws DotPathException {
+        return PathComparator.of(compile(path), PathComparator.Kind.DOUBLE);
+    }
+
+    /**
+     * Gets an {@code int} value from an object using a dot-notation path, without boxing primitive
+     * bean properties.
+     *
+     * @param root The root object to traverse
+     * @param path The dot-notation path to the desired property
+     * @return The value at the specified path
+     * @throws DotPathException if the path is invalid or inaccessible, or the value cannot be read as
+     *                          an {@code int} without loss
+     */
+    public static int getInt(Object root, String path) throws DotPathException {
+        return compile(path).getInt(root);
+    }
+
+    /**
+     * Gets a {@code long} value from an object using a dot-notation path, without boxing primitive
+     * bean properties.
+     *
+     * @param root The root object to traverse
+     * @param path The dot-notation path to the desired property
+     * @return The value at the specified path
+     * @throws DotPathException if the path is invalid or inaccessible, or the value cannot be read as
+     *                          a {@code long} without loss
+     */
+    public static long getLong(Object root, String path) throws DotPathException {
+        return compile(path).getLong(root);
+    }
+
+    /**
+     * Gets a {@code double} value from an object using a dot-notation path, without boxing primitive
+     * bean properties.
+     *
+     * @param root The root object to traverse
+     * @param path The dot-notation path to the desired property
+     * @return The value at the specified path
+     * @throws DotPathException if the path is invalid or inaccessible, or the value cannot be read as
+     *                          a {@code double} without loss
+     */
+    public static double getDouble(Object root, String path) throws DotPathException {
+        return compile(path).getDouble(root);
+    }
+
+    /**
+     * Gets a {@code boolean} value from an object using a dot-notation path, without boxing primitive
+     * bean properties.
+     *
+     * @param root The root object to traverse
+     * @param path The dot-notation path to the desired property
+     * @return The value at the specified path
+     * @throws DotPathException if the path is invalid or inaccessible, or the value cannot be read as
+     *                          a {@code boolean}
+     */
+    public static boolean getBoolean(Object root, String path) throws DotPathException {
+        return compile(path).getBoolean(root);
     }
 
     /**
@@ -82,19 +424,273 @@ public final class DotPath {
      * @throws DotPathException if the path is invalid or inaccessible
      */
     public static <T> void set(Object root, String path, T value) throws DotPathException {
-        PropertyContext context = traversePath(root, path);
-        Object target = context.getTarget();
-        String propertyName = context.getPropertyName();
+        compile(path).set(root, value);
+    }
+
+    /**
+     * Sets an {@code int} value in an object using a dot-notation path, without boxing primitive
+     * bean properties.
+     *
+     * @param root  The root object to traverse
+     * @param path  The dot-notation path to the desired property
+     * @param value The value to set
+     * @throws DotPathException if the path is invalid or inaccessible, or the property does not
+     *                          accept an {@code int}, or its numeric type cannot hold the value exactly
+     */
+    public static void setInt(Object root, String path, int value) throws DotPathException {
+        compile(path).setInt(root, value);
+    }
+
+    /**
+     * Sets a {@code long} value in an object using a dot-notation path, without boxing primitive
+     * bean properties.
+     *
+     * @param root  The root object to traverse
+     * @param path  The dot-notation path to the desired property
+     * @param value The value to set
+     * @throws DotPathException if the path is invalid or inaccessible, or the property does not
+     *                          accept a {@code long}, or its numeric type cannot hold the value exactly
+     */
+    public static void setLong(Object root, String path, long value) throws DotPathException {
+        compile(path).setLong(root, value);
+    }
+
+    /**
+     * Sets a {@code double} value in an object using a dot-notation path, without boxing primitive
+     * bean properties.
+     *
+     * @param root  The root object to traverse
+     * @param path  The dot-notation path to the desired property
+     * @param value The value to set
+     * @throws DotPathException if the path is invalid or inaccessible, or the property does not
+     *                          accept a {@code double}, or its numeric type cannot hold the value exactly
+     */
+    public static void setDouble(Object root, String path, double value) throws DotPathException {
+        compile(path).setDouble(root, value);
+    }
 
-        try {
-            if (mapOperations.isMap(target)) {
-                mapOperations.setValue(mapOperations.asMap(target), propertyName, value);
+    /**
+     * Sets a {@code boolean} value in an object using a dot-notation path, without boxing primitive
+     * bean properties.
+     *
+     * @param root  The root object to traverse
+     * @param path  The dot-notation path to the desired property
+     * @param value The value to set
+     * @throws DotPathException if the path is invalid or inaccessible, or the property does not
+     *                          accept a {@code boolean}
+     */
+    public static void setBoolean(Object root, String path, boolean value) throws DotPathException {
+        compile(path).setBoolean(root, value);
+    }
+
+    /**
+     * Sets values at several dot-notation paths in an object, creating shared intermediate objects
+     * once. All paths are attempted even if some of them fail.
+     *
+     * @param root   The root object to traverse
+     * @param values The values to set, keyed by dot-notation path
+     * @throws DotPathException if any path is invalid or could not be set, with one suppressed
+     *                          exception per failure
+     */
+    public static void setAll(Object root, Map<String, ?> values) throws DotPathException {
+        if (values == null) {
+            throw new DotPathException("values cannot be null");
+        }
+        // Paths and values are read in a single pass, so that they stay aligned if the map changes
+        List<String> paths = new ArrayList<>(values.size());
+        List<Object> batch = new ArrayList<>(values.size());
+        for (Map.Entry<String, ?> entry : values.entrySet()) {
+            paths.add(entry.getKey());
+            batch.add(entry.getValue());
+        }
+        compileAll(paths).setAll(root, batch.toArray());
+    }
+
+    /**
+     * Sets values at several dot-notation paths in an object, converting the string values to the
+     * appropriate types. Shared intermediate objects are created once and target types are resolved
+     * in the same traversal as the writes. All paths are attempted even if some of them fail.
+     *
+     * @param root   The root object to traverse
+     * @param values The string values to convert and set, keyed by dot-notation path
+     * @throws DotPathException if any path is invalid or could not be set, with one suppressed
+     *                          exception per failure
+     */
+    public static void setAllFromStrings(Object root, Map<String, String> values) throws DotPathException {
+        if (values == null) {
+            throw new DotPathException("values cannot be null");
+        }
+        List<String> paths = new ArrayList<>(values.size());
+        List<String> batch = new ArrayList<>(values.size());
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            paths.add(entry.getKey());
+            batch.add(entry.getValue());
+        }
+        compileAll(paths).setAllFromStrings(root, batch.toArray(new String[0]));
+    }
+
+    /**
+     * Applies every entry of a {@link Properties} object as a dot-notation path and a string value,
+     * see {@link #apply(Object, Reader)}.
+     *
+     * @param root       The root object to traverse
+     * @param properties The values to convert and set, keyed by dot-notation path
+     * @throws DotPathException if any entry could not be applied, with one suppressed exception per
+     *                          failure
+     */
+    public static void applyProperties(Object root, Properties properties) throws DotPathException {
+        if (properties == null) {
+            throw new DotPathException("properties cannot be null");
+        }
+        EntryApplier applier = new EntryApplier(root);
+        for (String name : properties.stringPropertyNames()) {
+            applier.add(name, properties.getProperty(name));
+        }
+        applier.finish();
+    }
+
+    /**
+     * Applies the environment variables starting with a prefix, see {@link #apply(Object, Reader)}.
+     * The path of a variable is its name without the prefix, with underscores separating the
+     * segments: with the prefix {@code APP_}, {@code APP_POSITION_X} sets {@code position.x}.
+     *
+     * <p>Segments are matched against the properties declared along the path ignoring case, so
+     * {@code APP_ROUTE_MAXSTOPS} sets {@code route.maxStops}. Segments that match no declared
+     * property, such as map keys and the segments below them, are used in lower case.</p>
+     *
+     * @param root   The root object to traverse
+     * @param prefix The prefix of the variables to apply
+     * @throws DotPathException if any variable could not be applied, with one suppressed exception
+     *                          per failure
+     */
+    public static void applyEnv(Object root, String prefix) throws DotPathException {
+        applyEnv(root, prefix, System.getenv());
+    }
+
+    /**
+     * Applies the variables of an environment starting with a prefix.
+     */
+    static void applyEnv(Object root, String prefix, Map<String, String> env) throws DotPathException {
+        if (prefix == null) {
+            throw new DotPathException("prefix cannot be null");
+        }
+        EntryApplier applier = new EntryApplier(root);
+        for (Map.Entry<String, String> entry : env.entrySet()) {
+            String name = entry.getKey();
+            if (name.startsWith(prefix) && name.length() > prefix.length()) {
+                applier.add(envPath(root, name.substring(prefix.length())), entry.getValue());
+            }
+        }
+        applier.finish();
+    }
+
+    /**
+     * Converts the name of an environment variable to a path, matching each segment against the
+     * properties of the declared type of the previous segment ignoring case.
+     */
+    private static String envPath(Object root, String name) {
+        String[] segments = name.toLowerCase(Locale.ROOT).split("_", -1);
+        Class<?> type = root != null ? root.getClass() : null;
+        for (int i = 0; i < segments.length; i++) {
+            PropertyMetadata match = null;
+            if (type != null && ClassMetadata.isBeanType(type)) {
+                for (PropertyMetadata property : ClassMetadata.of(type).getProperties()) {
+                    if (property.getName().equalsIgnoreCase(segments[i])) {
+                        match = property;
+                        break;
+                    }
+                }
+            }
+            if (match != null) {
+                segments[i] = match.getName();
+                type = match.getType();
             } else {
-                propertyOperations.setValueOnObject(target, propertyName, value);
+                type = null;
+            }
+        }
+        return String.join(".", segments);
+    }
+
+    /**
+     * Applies {@code path=value} lines read from a reader, converting each value to the type of its
+     * property. The input is read as a stream and applied in batches, so it is never loaded at once;
+     * within a batch, shared intermediate objects are visited once, as by
+     * {@link #setAllFromStrings(Object, Map)}. When a path occurs more than once in a batch, the last
+     * value wins.
+     *
+     * <p>Each line holds one entry, with the path separated from the value by the first {@code =} or
+     * {@code :}. Blank lines and lines starting with {@code #} or {@code !} are ignored. Escapes and
+     * continuation lines are not supported; such files can be loaded into a {@link Properties} object
+     * and applied with {@link #applyProperties(Object, Properties)}.</p>
+     *
+     * <p>All entries are attempted even if some of them fail, including malformed lines and invalid
+     * paths. The reader is not closed.</p>
+     *
+     * @param root   The root object to traverse
+     * @param reader The reader to read entries from
+     * @throws DotPathException if the input cannot be read, or if any entry could not be applied,
+     *                          with one suppressed exception per failure
+     */
+    public static void apply(Object root, Reader reader) throws DotPathException {
+        if (reader == null) {
+            throw new DotPathException("reader cannot be null");
+        }
+        EntryApplier applier = new EntryApplier(root);
+        EntryReader entries = new EntryReader(reader);
+        while (true) {
+            Map.Entry<String, String> entry;
+            try {
+                entry = entries.next();
+            } catch (IllegalArgumentException e) {
+                applier.fail(new DotPathException(e.getMessage(), e));
+                continue;
+            } catch (IOException e) {
+                throw new DotPathException("Failed to read entries", e);
             }
-        } catch (Exception e) {
-            throw new DotPathException("Error setting value at path: " + path, e);
+            if (entry == null) {
+                break;
+            }
+            applier.add(entry.getKey(), entry.getValue());
         }
+        applier.finish();
+    }
+
+    /**
+     * Loads a file of {@code path=value} lines into an object, see {@link #load(Object, Path, int)}.
+     *
+     * @param root The root object to load into
+     * @param file The file to load, encoded in UTF-8
+     * @throws DotPathException if the file cannot be read or any entry could not be applied, with
+     *                          one suppressed exception per failure
+     */
+    public static void load(Object root, Path file) throws DotPathException {
+        load(root, file, 1);
+    }
+
+    /**
+     * Loads a file of {@code path=value} lines into an object. The file is memory-mapped and read in
+     * place: repeated path segments are decoded once and values are converted straight from the
+     * mapped bytes, as {@link #setFromString(Object, String, CharSequence)} would convert them. The
+     * line format is the one of {@link #apply(Object, Reader)}.
+     *
+     * <p>With a parallelism above one and a map root, the file is split into that many chunks on line
+     * boundaries, which are loaded concurrently into separate maps and then merged into the root in
+     * file order, nested maps being merged and other values replaced. Entries reaching a value
+     * already in the root other than a nested map, such as a bean, are applied to the root after
+     * their chunk is merged, as by a serial load. Other values loaded this way are converted
+     * according to their content, since the chunk maps hold no previous values. Bean roots are
+     * always loaded by a single thread.</p>
+     *
+     * <p>All entries are attempted even if some of them fail; the first 100 failures are reported.</p>
+     *
+     * @param root        The root object to load into
+     * @param file        The file to load, encoded in UTF-8
+     * @param parallelism The number of chunks to load concurrently into map roots
+     * @throws DotPathException if the file cannot be read or any entry could not be applied, with
+     *                          one suppressed exception per reported failure
+     */
+    public static void load(Object root, Path file, int parallelism) throws DotPathException {
+        dumpLoader.load(root, file, parallelism);
     }
 
     /**
@@ -106,30 +702,22 @@ public final class DotPath {
      * @throws DotPathException if types are incompatible or property not found
      */
     public static void copy(Object source, Object target, String path) throws DotPathException {
-        if (source == null || target == null) {
-            throw new DotPathException("Source and target objects cannot be null");
-        }
-
-        // First check if source and target are of compatible types
-        if (!source.getClass().equals(target.getClass())) {
-            throw new DotPathException("Source type %s and target type %s are incompatible"
-                    .formatted(source.getClass().getName(), target.getClass().getName()));
-        }
-
-        try {
-            Class<?> sourceType = typeResolver.resolveType(source, path);
-            Class<?> targetType = typeResolver.resolveType(target, path);
-
-            if (!typeResolver.isCompatibleType(sourceType, targetType)) {
-                throw new DotPathException("Type mismatch: cannot copy from %s to %s"
-                        .formatted(sourceType.getName(), targetType.getName()));
-            }
+        compile(path).copy(source, target);
+    }
 
-            Object value = get(source, path);
-            set(target, path, value);
-        } catch (Exception e) {
-            throw new DotPathException("Failed to copy property: " + e.getMessage(), e);
-        }
+    /**
+     * Copies property values at several paths from source to target object, traversing source and
+     * target together and visiting shared intermediate objects once. All paths are attempted even
+     * if some of them fail.
+     *
+     * @param source Source object to copy from
+     * @param target Target object to copy to
+     * @param paths  Property paths to copy
+     * @throws DotPathException if the objects are incompatible, or if any path is invalid or could
+     *                          not be copied, with one suppressed exception per failure
+     */
+    public static void copyAll(Object source, Object target, Collection<String> paths) throws DotPathException {
+        compileAll(paths).copyAll(source, target);
     }
 
     /**
@@ -141,17 +729,112 @@ public final class DotPath {
      * @param valueStr The string value to convert and set
      * @throws DotPathException if the path is invalid or inaccessible
      */
-    public static void setFromString(Object root, String path, String valueStr) throws DotPathException {
-        validationUtils.validateInput(root, "root");
-        validationUtils.validateInput(path, "path");
-        validationUtils.validateInput(valueStr, "valueStr");
-
-        try {
-            Class<?> targetType = typeResolver.resolveType(root, path);
-            Object value = typeResolver.parseValueByType(targetType, valueStr);
-            set(root, path, value);
-        } catch (Exception e) {
-            throw new DotPathException("Error setting value from string at path: " + path, e);
+    public static void setFromString(Object root, String path, CharSequence valueStr) throws DotPathException {
+        compile(path).setFromString(root, valueStr);
+    }
+
+    /**
+     * Sets a value in an object using a dot-notation path, converting a slice of UTF-8 bytes to the
+     * appropriate type without decoding it into an intermediate {@code String}.
+     *
+     * @param root   The root object to traverse
+     * @param path   The dot-notation path to the desired property
+     * @param bytes  The bytes holding the value
+     * @param offset The index of the first byte of the value
+     * @param length The number of bytes of the value
+     * @throws DotPathException if the slice is out of bounds, or the path is invalid or inaccessible
+     */
+    public static void setFromString(Object root, String path, byte[] bytes, int offset, int length)
+            throws DotPathException {
+        compile(path).setFromString(root, bytes, offset, length);
+    }
+
+    /**
+     * Sets a value in an object using a dot-notation path, converting a slice of UTF-8 bytes to the
+     * appropriate type without decoding it into an intermediate {@code String}. The position of the
+     * buffer is not changed.
+     *
+     * @param root   The root object to traverse
+     * @param path   The dot-notation path to the desired property
+     * @param buffer The buffer holding the value
+     * @param offset The absolute index of the first byte of the value
+     * @param length The number of bytes of the value
+     * @throws DotPathException if the slice is out of bounds, or the path is invalid or inaccessible
+     */
+    public static void setFromString(Object root, String path, ByteBuffer buffer, int offset, int length)
+            throws DotPathException {
+        compile(path).setFromString(root, buffer, offset, length);
+    }
+
+    /**
+     * Applies entries in batches through a {@link PathSet}, collecting the failures of all batches.
+     */
+    private static final class EntryApplier {
+        private final Object root;
+        private final Map<String, CompiledPath> paths = new LinkedHashMap<>();
+        private final Map<String, String> values = new HashMap<>();
+        private final List<DotPathException> failures = new ArrayList<>();
+        private int count;
+
+        private EntryApplier(Object root) throws DotPathException {
+            if (root == null) {
+                throw new DotPathException("root cannot be null");
+            }
+            this.root = root;
+        }
+
+        private void add(String path, String value) {
+            count++;
+            if (!paths.containsKey(path)) {
+                try {
+                    paths.put(path, compile(path));
+                } catch (DotPathException e) {
+                    failures.add(new DotPathException("Invalid path: " + path, e));
+                    return;
+                }
+            }
+            values.put(path, value);
+            if (paths.size() >= APPLY_BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        private void fail(DotPathException failure) {
+            count++;
+            failures.add(failure);
+        }
+
+        private void flush() {
+            if (paths.isEmpty()) {
+                return;
+            }
+            String[] batch = new String[paths.size()];
+            int i = 0;
+            for (String path : paths.keySet()) {
+                batch[i++] = values.get(path);
+            }
+            try {
+                new PathSet(new ArrayList<>(paths.values())).setAllFromStrings(root, batch);
+            } catch (DotPathException e) {
+                if (e.getSuppressed().length == 0) {
+                    failures.add(e);
+                }
+                for (Throwable failure : e.getSuppressed()) {
+                    failures.add((DotPathException) failure);
+                }
+            }
+            paths.clear();
+            values.clear();
+        }
+
+        private void finish() throws DotPathException {
+            flush();
+            if (!failures.isEmpty()) {
+                DotPathException exception =
+                        new DotPathException("Failed to apply %d of %d entries".formatted(failures.size(), count));
+                failures.forEach(exception::addSuppressed);
+                throw exception;
+            }
         }
     }
 }
@@ -0,0 +1,25 @@
+package io.github.rmkane.dotpath.api;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a bean class for which the DotPath annotation processor generates a reflection-free accessor
+ * table at compile time. Bean classes reachable through the properties of an annotated class and
+ * compiled in the same round get a table as well.
+ *
+ * <p>Generated tables are registered through {@link java.util.ServiceLoader} and used before
+ * reflection when properties of the class are first resolved. The processor is
+ * {@code io.github.rmkane.dotpath.processor.DotPathProcessor}; when processors are configured
+ * explicitly (e.g. {@code annotationProcessorPaths}) it must be listed after Lombok so that it sees
+ * generated getters and setters.</p>
+ *
+ * @see io.github.rmkane.dotpath.spi.AccessorTable
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface DotPathAccessible {}
@@ -6,6 +6,9 @@ import java.io.Serial;
  * Custom exception for reflection-related errors.
  * This exception is thrown when reflection operations fail, such as when accessing
  * invalid properties or when type conversion fails.
+ *
+ * <p>Stack traces are not captured when disabled with
+ * {@link DotPathSettings#setStackTraces(boolean)}.</p>
  */
 public class DotPathException extends Exception {
     @Serial
@@ -17,7 +20,7 @@ public class DotPathException extends Exception {
      * @param message the detail message (which is saved for later retrieval by the {@link #getMessage()} method)
      */
     public DotPathException(String message) {
-        super(message);
+        super(message, null, true, DotPathSettings.isStackTraces());
     }
 
     /**
@@ -27,6 +30,6 @@ public class DotPathException extends Exception {
      * @param cause   the cause (which is saved for later retrieval by the {@link #getCause()} method)
      */
     public DotPathException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, true, DotPathSettings.isStackTraces());
     }
 }
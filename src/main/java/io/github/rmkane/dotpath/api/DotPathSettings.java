@@ -0,0 +1,146 @@
+package io.github.rmkane.dotpath.api;
+
+import java.util.Locale;
+import java.util.Objects;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Global settings that tune how DotPath accesses properties. Initial values are read from system
+ * properties when the class is loaded and can be changed at runtime.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DotPathSettings {
+    /**
+     * System property selecting the initial {@link AccessorEngine}, e.g.
+     * {@code -Ddotpath.accessorEngine=reflection}.
+     */
+    public static final String ACCESSOR_ENGINE_PROPERTY = "dotpath.accessorEngine";
+
+    /**
+     * System property enabling generated whole-path accessors, e.g. {@code -Ddotpath.generatedPaths=true}.
+     */
+    public static final String GENERATED_PATHS_PROPERTY = "dotpath.generatedPaths";
+
+    /**
+     * System property disabling stack traces of {@link DotPathException}s, e.g.
+     * {@code -Ddotpath.stackTraces=false}.
+     */
+    public static final String STACK_TRACES_PROPERTY = "dotpath.stackTraces";
+
+    /**
+     * System property enabling the concurrent mode, e.g. {@code -Ddotpath.concurrent=true}.
+     */
+    public static final String CONCURRENT_PROPERTY = "dotpath.concurrent";
+
+    private static volatile AccessorEngine accessorEngine =
+            parseEnum(AccessorEngine.class, System.getProperty(ACCESSOR_ENGINE_PROPERTY), AccessorEngine.LAMBDA);
+    private static volatile boolean generatedPaths = Boolean.getBoolean(GENERATED_PATHS_PROPERTY);
+    private static volatile boolean stackTraces = !"false".equalsIgnoreCase(System.getProperty(STACK_TRACES_PROPERTY));
+    private static volatile boolean concurrent = Boolean.getBoolean(CONCURRENT_PROPERTY);
+
+    /**
+     * Returns the engine used to access properties that are resolved from now on.
+     *
+     * @return The current accessor engine
+     */
+    public static AccessorEngine getAccessorEngine() {
+        return accessorEngine;
+    }
+
+    /**
+     * Selects the engine used to access bean properties. Accessors are created lazily per property
+     * and engine, so switching engines does not discard previously resolved metadata.
+     *
+     * @param engine The accessor engine to use
+     */
+    public static void setAccessorEngine(AccessorEngine engine) {
+        accessorEngine = Objects.requireNonNull(engine, "engine cannot be null");
+    }
+
+    /**
+     * Checks whether compiled paths use generated whole-path accessors.
+     *
+     * @return true if generated accessors are enabled
+     */
+    public static boolean isGeneratedPaths() {
+        return generatedPaths;
+    }
+
+    /**
+     * Enables or disables generated whole-path accessors. When enabled, a path made only of bean
+     * properties is read and written through a hidden class generated once per (root class, path),
+     * which calls the getters and setters along the path directly. Paths through maps always use
+     * the generic traversal.
+     *
+     * @param enabled true to use generated accessors where possible
+     */
+    public static void setGeneratedPaths(boolean enabled) {
+        generatedPaths = enabled;
+    }
+
+    /**
+     * Checks whether new {@link DotPathException}s capture a stack trace.
+     *
+     * @return true if stack traces are captured, the default
+     */
+    public static boolean isStackTraces() {
+        return stackTraces;
+    }
+
+    /**
+     * Enables or disables stack traces of new {@link DotPathException}s. Capturing the stack is
+     * usually the most expensive part of a failed lookup, so applications that treat failures as
+     * expected outcomes can disable it. Messages, causes and suppressed exceptions are kept.
+     *
+     * @param enabled true to capture stack traces
+     */
+    public static void setStackTraces(boolean enabled) {
+        stackTraces = enabled;
+    }
+
+    /**
+     * Checks whether intermediate objects are created in concurrent mode.
+     *
+     * @return true if concurrent mode is enabled
+     */
+    public static boolean isConcurrent() {
+        return concurrent;
+    }
+
+    /**
+     * Enables or disables the concurrent mode, in which threads writing paths through the same
+     * missing intermediate object agree on a single instance instead of each creating their own and
+     * losing the writes of the others:
+     *
+     * <ul>
+     *   <li>intermediate beans are published with a compare-and-exchange on their backing field, or
+     *       under the monitor of their parent for properties without a field;</li>
+     *   <li>intermediate maps, including properties declared as {@code Map}, are created as
+     *       {@link java.util.concurrent.ConcurrentHashMap}s and added atomically to map parents;</li>
+     *   <li>intermediate Lists are created as synchronized Lists and added atomically to map
+     *       parents, and List elements are created and written under the monitor of the List;</li>
+     *   <li>generated whole-path accessors are not used.</li>
+     * </ul>
+     *
+     * <p>No global lock is taken. Maps passed in by the caller must themselves be thread-safe, and
+     * maps created in this mode do not accept null values.</p>
+     *
+     * @param enabled true to enable concurrent mode
+     */
+    public static void setConcurrent(boolean enabled) {
+        concurrent = enabled;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, E defaultValue) {
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Enum.valueOf(type, value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return defaultValue;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package io.github.rmkane.dotpath.api;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Wraps a root object so that groups of paths can be read consistently while other threads write
+ * to it, in the manner of a seqlock.
+ *
+ * <p>Every write made through the wrapper advances a version of the root while it runs; writers are
+ * serialized among themselves. Reads take no lock: they note the version, read the paths, and
+ * retry if a write started or ran in the meantime, so they only pay for conflicts. A read that
+ * keeps failing because writes never pause falls back to waiting for the current write, so that it
+ * is guaranteed to complete.</p>
+ *
+ * <p>Reads must not modify the root, and exceptions they raise because of a concurrent write are
+ * discarded and the read retried. Writes made to the root directly, rather than through the
+ * wrapper, are not detected.</p>
+ *
+ * <pre>
+ * GuardedRoot&lt;State&gt; guarded = GuardedRoot.of(state);
+ * guarded.set("position.x", 10);                    // in a writer thread
+ * Object[] xy = guarded.getAll(positionPaths);      // x and y from the same version
+ * </pre>
+ *
+ * @param <T> The type of the root object
+ */
+public final class GuardedRoot<T> {
+    /**
+     * Number of optimistic attempts made before a read waits for the current write to complete.
+     */
+    private static final int MAX_OPTIMISTIC_READS = 64;
+
+    private final T root;
+    private final StampedLock lock = new StampedLock();
+
+    private GuardedRoot(T root) {
+        this.root = root;
+    }
+
+    /**
+     * Wraps a root object.
+     *
+     * @param root The root object
+     * @param <T>  The type of the root object
+     * @return The wrapper
+     * @throws DotPathException if the root is null
+     */
+    public static <T> GuardedRoot<T> of(T root) throws DotPathException {
+        if (root == null) {
+            throw new DotPathException("root cannot be null");
+        }
+        return new GuardedRoot<>(root);
+    }
+
+    /**
+     * Returns the wrapped root. Writes made directly to it are not seen by consistent reads.
+     *
+     * @return The root object
+     */
+    public T getRoot() {
+        return root;
+    }
+
+    /**
+     * Reads the value at a path, see {@link CompiledPath#get(Object)}. Unlike that method, missing
+     * intermediate objects are not created, since reads must not modify the root; paths below a null
+     * intermediate object give null.
+     *
+     * @param path The dot-notation path to read
+     * @param <V>  The expected type of the value
+     * @return The value at the path
+     * @throws DotPathException if the path is invalid or inaccessible
+     */
+    public <V> V get(String path) throws DotPathException {
+        CompiledPath compiled = DotPath.compile(path);
+        return read(compiled::read);
+    }
+
+    /**
+     * Reads several paths from the same version of the root, without creating intermediate objects
+     * as for {@link #get(String)}.
+     *
+     * @param paths The compiled paths to read
+     * @return The values in the order of {@link PathSet#getPaths()}
+     * @throws DotPathException if any path is invalid or inaccessible
+     */
+    public Object[] getAll(PathSet paths) throws DotPathException {
+        return read(paths::read);
+    }
+
+    /**
+     * Reads several paths from the same version of the root, without creating intermediate objects
+     * as for {@link #get(String)}.
+     *
+     * @param paths The dot-notation paths to read
+     * @return The values keyed by path, in iteration order of the given paths
+     * @throws DotPathException if any path is invalid or inaccessible
+     */
+    public Map<String, Object> getAll(Collection<String> paths) throws DotPathException {
+        PathSet compiled = DotPath.compileAll(paths);
+        return read(compiled::readAsMap);
+    }
+
+    /**
+     * Runs a read-only action against a consistent version of the root. The action may run more
+     * than once and must not modify the root.
+     *
+     * @param action The action reading the root
+     * @param <R>    The type of the result
+     * @return The result of the action for a version of the root that no write overlapped
+     * @throws DotPathException if the action fails on a consistent version of the root
+     */
+    public <R> R read(ReadAction<? super T, R> action) throws DotPathException {
+        for (int attempt = 0; attempt < MAX_OPTIMISTIC_READS; attempt++) {
+            long stamp = lock.tryOptimisticRead();
+            if (stamp == 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            try {
+                R result = action.apply(root);
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (DotPathException | RuntimeException e) {
+                if (lock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+
+        long stamp = lock.readLock();
+        try {
+            return action.apply(root);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Sets the value at a path, see {@link CompiledPath#set(Object, Object)}.
+     *
+     * @param path  The dot-notation path to write
+     * @param value The value to set
+     * @throws DotPathException if the path is invalid or inaccessible
+     */
+    public void set(String path, Object value) throws DotPathException {
+        CompiledPath compiled = DotPath.compile(path);
+        write(root -> compiled.set(root, value));
+    }
+
+    /**
+     * Sets the value at a path from a string, see {@link CompiledPath#setFromString(Object, CharSequence)}.
+     *
+     * @param path     The dot-notation path to write
+     * @param valueStr The string value to convert and set
+     * @throws DotPathException if the path is invalid or inaccessible
+     */
+    public void setFromString(String path, CharSequence valueStr) throws DotPathException {
+        CompiledPath compiled = DotPath.compile(path);
+        write(root -> compiled.setFromString(root, valueStr));
+    }
+
+    /**
+     * Sets values at several paths as a single write, see {@link DotPath#setAll(Object, Map)}.
+     *
+     * @param values The values to set, keyed by dot-notation path
+     * @throws DotPathException if any path is invalid or could not be set
+     */
+    public void setAll(Map<String, ?> values) throws DotPathException {
+        write(root -> DotPath.setAll(root, values));
+    }
+
+    /**
+     * Copies the value at a path from a source object into the root, see
+     * {@link CompiledPath#copy(Object, Object)}.
+     *
+     * @param source The object to copy from
+     * @param path   The dot-notation path to copy
+     * @throws DotPathException if the types are incompatible or the path is inaccessible
+     */
+    public void copyFrom(Object source, String path) throws DotPathException {
+        CompiledPath compiled = DotPath.compile(path);
+        write(root -> compiled.copy(source, root));
+    }
+
+    /**
+     * Runs an action that writes to the root as a single write, so that consistent reads see either
+     * none or all of its changes.
+     *
+     * @param action The action writing to the root
+     * @throws DotPathException if the action fails
+     */
+    public void write(WriteAction<? super T> action) throws DotPathException {
+        long stamp = lock.writeLock();
+        try {
+            action.accept(root);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Reads a root object, see {@link #read(ReadAction)}.
+     *
+     * @param <T> The type of the root object
+     * @param <R> The type of the result
+     */
+    @FunctionalInterface
+    public interface ReadAction<T, R> {
+        /**
+         * Reads the root object.
+         *
+         * @param root The root object
+         * @return The result
+         * @throws DotPathException if the read fails
+         */
+        R apply(T root) throws DotPathException;
+    }
+
+    /**
+     * Writes to a root object, see {@link #write(WriteAction)}.
+     *
+     * @param <T> The type of the root object
+     */
+    @FunctionalInterface
+    public interface WriteAction<T> {
+        /**
+         * Writes to the root object.
+         *
+         * @param root The root object
+         * @throws DotPathException if the write fails
+         */
+        void accept(T root) throws DotPathException;
+    }
+}
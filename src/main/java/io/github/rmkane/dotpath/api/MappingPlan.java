@@ -0,0 +1,208 @@
+package io.github.rmkane.dotpath.api;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.github.rmkane.dotpath.internal.TypeResolver;
+import io.github.rmkane.dotpath.internal.traversal.PropertyChain;
+
+/**
+ * A precompiled set of {@code sourcePath -> targetPath} mappings between two classes. Paths,
+ * accessors, type compatibility and numeric conversions are resolved once when the plan is built, so
+ * applying the plan only reads and writes properties. Instances are immutable and safe to share
+ * between threads.
+ *
+ * <p>Instances are built from {@link DotPath#mapping(Class, Class)}:</p>
+ * <pre>
+ * MappingPlan&lt;OrderDto, Order&gt; plan = DotPath.mapping(OrderDto.class, Order.class)
+ *         .map("customerName", "customer.name")
+ *         .map("total", "amount.value")
+ *         .build();
+ * Order order = plan.map(dto, Order::new);
+ * </pre>
+ *
+ * <p>Numbers are widened to the target type as by the widening primitive conversions of the Java
+ * language, which may round large {@code int} and {@code long} values converted to {@code float} or
+ * {@code double}, and narrowing mappings between numeric types are rejected when the plan is built.
+ * Values whose type is only known at runtime are converted only if no information is lost.</p>
+ *
+ * <p>Missing intermediate objects are created in the target. A mapping whose source path has a null
+ * intermediate object is skipped.</p>
+ */
+public final class MappingPlan<S, T> {
+    private static final TypeResolver typeResolver = new TypeResolver();
+
+    private final Class<S> sourceType;
+    private final Class<T> targetType;
+    private final Mapping[] mappings;
+
+    private MappingPlan(Class<S> sourceType, Class<T> targetType, Mapping[] mappings) {
+        this.sourceType = sourceType;
+        this.targetType = targetType;
+        this.mappings = mappings;
+    }
+
+    /**
+     * Returns the class the plan maps from.
+     *
+     * @return The source class
+     */
+    public Class<S> getSourceType() {
+        return sourceType;
+    }
+
+    /**
+     * Returns the class the plan maps to.
+     *
+     * @return The target class
+     */
+    public Class<T> getTargetType() {
+        return targetType;
+    }
+
+    /**
+     * Applies all mappings from a source object to a target object.
+     *
+     * @param source The object to read from
+     * @param target The object to write to
+     * @throws DotPathException if the objects are null or a mapping fails
+     */
+    public void apply(S source, T target) throws DotPathException {
+        if (source == null || target == null) {
+            throw new DotPathException("Source and target objects cannot be null");
+        }
+
+        for (Mapping mapping : mappings) {
+            mapping.apply(source, target);
+        }
+    }
+
+    /**
+     * Maps a source object to a new target object.
+     *
+     * @param source  The object to read from
+     * @param factory Creates the target object
+     * @return The new target object
+     * @throws DotPathException if the objects are null or a mapping fails
+     */
+    public T map(S source, Supplier<? extends T> factory) throws DotPathException {
+        T target = factory.get();
+        apply(source, target);
+        return target;
+    }
+
+    /**
+     * Maps each source object to a new target object.
+     *
+     * @param sources The objects to read from
+     * @param factory Creates each target object
+     * @return The new target objects, in iteration order of the sources
+     * @throws DotPathException if an object is null or a mapping fails
+     */
+    public List<T> mapAll(Collection<? extends S> sources, Supplier<? extends T> factory) throws DotPathException {
+        List<T> targets = new ArrayList<>(sources.size());
+        for (S source : sources) {
+            targets.add(map(source, factory));
+        }
+        return targets;
+    }
+
+    /**
+     * Builds a {@link MappingPlan}.
+     */
+    public static final class Builder<S, T> {
+        private final Class<S> sourceType;
+        private final Class<T> targetType;
+        private final List<String[]> pairs = new ArrayList<>();
+
+        Builder(Class<S> sourceType, Class<T> targetType) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+        }
+
+        /**
+         * Adds a mapping from a path of the source class to a path of the target class.
+         *
+         * @param sourcePath The dot-notation path to read
+         * @param targetPath The dot-notation path to write
+         * @return This builder
+         */
+        public Builder<S, T> map(String sourcePath, String targetPath) {
+            pairs.add(new String[] {sourcePath, targetPath});
+            return this;
+        }
+
+        /**
+         * Resolves the mappings and builds the plan.
+         *
+         * @return The plan
+         * @throws DotPathException if a path is invalid, a property does not exist, or the source and
+         *                          target types of a mapping are incompatible
+         */
+        public MappingPlan<S, T> build() throws DotPathException {
+            if (sourceType == null || targetType == null) {
+                throw new DotPathException("Source and target types cannot be null");
+            }
+
+            Mapping[] mappings = new Mapping[pairs.size()];
+            for (int i = 0; i < mappings.length; i++) {
+                mappings[i] = resolve(pairs.get(i)[0], pairs.get(i)[1]);
+            }
+            return new MappingPlan<>(sourceType, targetType, mappings);
+        }
+
+        private Mapping resolve(String sourcePath, String targetPath) throws DotPathException {
+            PropertyChain source = PropertyChain.resolve(
+                    sourceType, DotPath.compile(sourcePath).getSegments());
+            PropertyChain target = PropertyChain.resolve(
+                    targetType, DotPath.compile(targetPath).getSegments());
+
+            Class<?> from = source.getType();
+            Class<?> to = target.getType();
+            if (from != null && to != null && !typeResolver.isCompatibleType(from, to)) {
+                throw new DotPathException("Type mismatch: cannot map %s (%s) to %s (%s)"
+                        .formatted(sourcePath, from.getName(), targetPath, to.getName()));
+            }
+
+            // Numbers are only widened: narrowing between declared types is rejected here, widening
+            // follows the language, such as long to double, and values of runtime types are
+            // converted only if no information is lost
+            Function<Number, Object> converter = to != null ? typeResolver.getExactNumberConverter(to) : null;
+            if (converter != null && from != null && typeResolver.getNumberConverter(from) != null) {
+                if (!typeResolver.isWideningConversion(from, to)) {
+                    throw new DotPathException("Type mismatch: cannot narrow %s (%s) to %s (%s)"
+                            .formatted(sourcePath, from.getName(), targetPath, to.getName()));
+                }
+                converter = typeResolver.getWrapperType(from) == typeResolver.getWrapperType(to)
+                        ? null
+                        : typeResolver.getNumberConverter(to);
+            }
+            return new Mapping(sourcePath, targetPath, source, target, converter);
+        }
+    }
+
+    private record Mapping(
+            String sourcePath,
+            String targetPath,
+            PropertyChain source,
+            PropertyChain target,
+            Function<Number, Object> converter) {
+        void apply(Object sourceRoot, Object targetRoot) throws DotPathException {
+            try {
+                Object value = source.get(sourceRoot);
+                if (value == PropertyChain.NULL_INTERMEDIATE) {
+                    return;
+                }
+                if (converter != null && value instanceof Number number) {
+                    value = converter.apply(number);
+                }
+                target.set(targetRoot, value);
+            } catch (Exception e) {
+                throw new DotPathException("Error mapping %s to %s".formatted(sourcePath, targetPath), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,404 @@
+package io.github.rmkane.dotpath.api;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+
+import io.github.rmkane.dotpath.internal.access.Accessors;
+import io.github.rmkane.dotpath.internal.access.PropertyAccessor;
+import io.github.rmkane.dotpath.internal.operations.ColumnProjector;
+import io.github.rmkane.dotpath.internal.operations.KeySorter;
+import io.github.rmkane.dotpath.internal.traversal.PropertyChain;
+
+/**
+ * A comparator that orders objects by the values at one or more dot-notation paths. Instances are
+ * immutable and safe to share between threads.
+ *
+ * <p>Instances are obtained from {@link DotPath#comparator(String)} and its primitive variants, and
+ * extended with further keys:</p>
+ * <pre>
+ * PathComparator&lt;State&gt; order = DotPath.&lt;State&gt;comparator("player")
+ *         .thenComparingInt("position.x")
+ *         .nullsFirst();
+ * order.sort(states);
+ * </pre>
+ *
+ * <p>Each path is resolved once per root class, and primitive properties are compared without
+ * boxing. Keys compared by natural ordering must be {@link Comparable}; keys compared as
+ * {@code int}, {@code long} or {@code double} must be numbers that convert to that type without
+ * loss. Null roots, null intermediate objects and null values are null keys, which are placed last
+ * unless {@link #nullsFirst()} is set. Roots are only read, and errors reading a key are thrown as
+ * {@link UncheckedDotPathException}.</p>
+ *
+ * <p>{@link #sort(List)} sorts large lists of roots of a single class by reading every key once
+ * into primitive arrays before sorting, instead of reading two keys on every comparison.</p>
+ *
+ * @param <T> The type of the compared objects
+ */
+public final class PathComparator<T> implements Comparator<T> {
+    /**
+     * The smallest list for which {@link #sort(List)} reads the keys into arrays before sorting
+     */
+    private static final int DECORATE_THRESHOLD = 1024;
+
+    private static final ColumnProjector columnProjector = new ColumnProjector();
+    private static final KeySorter keySorter = new KeySorter();
+
+    /**
+     * How the values of a key are compared.
+     */
+    enum Kind {
+        OBJECT(Object.class),
+        INT(int.class),
+        LONG(long.class),
+        DOUBLE(double.class),
+        BOOLEAN(boolean.class);
+
+        private final Class<?> type;
+
+        Kind(Class<?> type) {
+            this.type = type;
+        }
+    }
+
+    private final Key[] keys;
+
+    private PathComparator(Key[] keys) {
+        this.keys = keys;
+    }
+
+    /**
+     * Creates a comparator with a single key.
+     *
+     * @param path The compiled path of the key
+     * @param kind How the values of the key are compared
+     * @return The comparator
+     */
+    static <T> PathComparator<T> of(CompiledPath path, Kind kind) {
+        return new PathComparator<>(new Key[] {new Key(path, kind, false, false)});
+    }
+
+    /**
+     * Returns a comparator that, for objects with equal keys, orders them by the natural ordering of
+     * the value at another path.
+     *
+     * @param path The dot-notation path of the next key
+     * @return The extended comparator
+     * @throws DotPathException if the path is null, empty or contains empty segments
+     */
+    public PathComparator<T> thenComparing(String path) throws DotPathException {
+        return then(path, Kind.OBJECT);
+    }
+
+    /**
+     * Returns a comparator that, for objects with equal keys, orders them by the value at another
+     * path read as an {@code int}.
+     *
+     * @param path The dot-notation path of the next key
+     * @return The extended comparator
+     * @throws DotPathException if the path is null, empty or contains empty segments
+     */
+    public PathComparator<T> thenComparingInt(String path) throws DotPathException {
+        return then(path, Kind.INT);
+    }
+
+    /**
+     * Returns a comparator that, for objects with equal keys, orders them by the value at another
+     * path read as a {@code long}.
+     *
+     * @param path The dot-notation path of the next key
+     * @return The extended comparator
+     * @throws DotPathException if the path is null, empty or contains empty segments
+     */
+    public PathComparator<T> thenComparingLong(String path) throws DotPathException {
+        return then(path, Kind.LONG);
+    }
+
+    /**
+     * Returns a comparator that, for objects with equal keys, orders them by the value at another
+     * path read as a {@code double}.
+     *
+     * @param path The dot-notation path of the next key
+     * @return The extended comparator
+     * @throws DotPathException if the path is null, empty or contains empty segments
+     */
+    public PathComparator<T> thenComparingDouble(String path) throws DotPathException {
+        return then(path, Kind.DOUBLE);
+    }
+
+    private PathComparator<T> then(String path, Kind kind) throws DotPathException {
+        Key[] extended = Arrays.copyOf(keys, keys.length + 1);
+        extended[keys.length] = new Key(DotPath.compile(path), kind, false, false);
+        return new PathComparator<>(extended);
+    }
+
+    /**
+     * Returns a comparator that places null keys of the last key before all other values.
+     *
+     * @return The comparator
+     */
+    public PathComparator<T> nullsFirst() {
+        return withLastKey(true);
+    }
+
+    /**
+     * Returns a comparator that places null keys of the last key after all other values, which is
+     * the default.
+     *
+     * @return The comparator
+     */
+    public PathComparator<T> nullsLast() {
+        return withLastKey(false);
+    }
+
+    private PathComparator<T> withLastKey(boolean nullsFirst) {
+        Key[] changed = keys.clone();
+        Key last = keys[keys.length - 1];
+        changed[keys.length - 1] = new Key(last.path, last.kind, last.descending, nullsFirst);
+        return new PathComparator<>(changed);
+    }
+
+    /**
+     * Returns a comparator that imposes the reverse ordering of this comparator, reversing the
+     * direction and the placement of nulls of every key.
+     *
+     * @return The reversed comparator
+     */
+    @Override
+    public PathComparator<T> reversed() {
+        Key[] reversed = new Key[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            reversed[i] = new Key(keys[i].path, keys[i].kind, !keys[i].descending, !keys[i].nullsFirst);
+        }
+        return new PathComparator<>(reversed);
+    }
+
+    @Override
+    public int compare(T a, T b) {
+        for (Key key : keys) {
+            int result;
+            try {
+                result = key.compare(a, b);
+            } catch (DotPathException e) {
+                throw new UncheckedDotPathException(e);
+            } catch (Exception e) {
+                throw new UncheckedDotPathException(
+                        new DotPathException("Error comparing values at path: " + key.path, e));
+            }
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Sorts a list in the order of this comparator. The sort is stable. Lists of at least 1024
+     * elements whose non-null elements are all of one class are sorted by reading the keys of all
+     * elements once, in parallel, into primitive arrays where the declared types of the keys allow
+     * it, and sorting the positions of the elements by those arrays. Other lists, whose keys may be
+     * declared with different types on each class, are sorted with {@link List#sort(Comparator)}.
+     *
+     * @param list The list to sort
+     * @throws DotPathException if the list is null, or a key cannot be read or compared
+     */
+    public void sort(List<T> list) throws DotPathException {
+        if (list == null) {
+            throw new DotPathException("list cannot be null");
+        }
+        Object[] elements = list.size() >= DECORATE_THRESHOLD ? list.toArray() : null;
+        if (elements == null || !isSingleClass(elements)) {
+            try {
+                list.sort(this);
+            } catch (UncheckedDotPathException e) {
+                throw e.getCause();
+            }
+            return;
+        }
+
+        String[][] segments = new String[keys.length][];
+        Class<?>[] keyTypes = new Class<?>[keys.length];
+        boolean[] descending = new boolean[keys.length];
+        boolean[] nullsFirst = new boolean[keys.length];
+        for (int k = 0; k < keys.length; k++) {
+            segments[k] = keys[k].path.getSegments();
+            keyTypes[k] = keys[k].kind.type;
+            descending[k] = keys[k].descending;
+            nullsFirst[k] = keys[k].nullsFirst;
+        }
+
+        int[] order;
+        try {
+            order = keySorter.sort(
+                    columnProjector.project(Arrays.asList(elements), segments), keyTypes, descending, nullsFirst);
+        } catch (ClassCastException e) {
+            throw new DotPathException("Sort keys are not mutually comparable", e);
+        }
+
+        ListIterator<T> iterator = list.listIterator();
+        for (int index : order) {
+            iterator.next();
+            @SuppressWarnings("unchecked")
+            T element = (T) elements[index];
+            iterator.set(element);
+        }
+    }
+
+    /**
+     * Checks whether the non-null elements of an array are all of the same class.
+     */
+    private static boolean isSingleClass(Object[] elements) {
+        Class<?> type = null;
+        for (Object element : elements) {
+            if (element != null) {
+                if (type == null) {
+                    type = element.getClass();
+                } else if (element.getClass() != type) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (Key key : keys) {
+            if (!builder.isEmpty()) {
+                builder.append(", ");
+            }
+            builder.append(key.path)
+                    .append(key.descending ? " desc" : " asc")
+                    .append(key.nullsFirst ? " nulls first" : " nulls last");
+        }
+        return builder.toString();
+    }
+
+    /**
+     * One sort key, with its accessors resolved per root class.
+     */
+    private static final class Key {
+        private final CompiledPath path;
+        private final Kind kind;
+        private final boolean descending;
+        private final boolean nullsFirst;
+
+        /**
+         * The resolved paths per root class
+         */
+        private final ClassValue<Resolved> resolved = new ClassValue<>() {
+            @Override
+            protected Resolved computeValue(Class<?> rootClass) {
+                try {
+                    PropertyChain chain = PropertyChain.resolve(rootClass, path.getSegments());
+                    Kind primitiveKind = primitiveKind(chain.getType());
+                    return new Resolved(chain, primitiveKind != null ? chain.getLeafAccessor() : null, primitiveKind);
+                } catch (DotPathException e) {
+                    throw new UncheckedDotPathException(e);
+                }
+            }
+        };
+
+        Key(CompiledPath path, Kind kind, boolean descending, boolean nullsFirst) {
+            this.path = path;
+            this.kind = kind;
+            this.descending = descending;
+            this.nullsFirst = nullsFirst;
+        }
+
+        @SuppressWarnings("unchecked")
+        int compare(Object a, Object b) throws Exception {
+            if (a != null && b != null && a.getClass() == b.getClass()) {
+                Resolved plan = resolve(a.getClass());
+                if (plan.leaf() != null) {
+                    Object parentA = plan.chain().getParent(a);
+                    Object parentB = plan.chain().getParent(b);
+                    if (parentA == PropertyChain.NULL_INTERMEDIATE || parentB == PropertyChain.NULL_INTERMEDIATE) {
+                        return compareNulls(
+                                parentA == PropertyChain.NULL_INTERMEDIATE, parentB == PropertyChain.NULL_INTERMEDIATE);
+                    }
+                    PropertyAccessor leaf = plan.leaf();
+                    return order(
+                            switch (plan.kind()) {
+                                case INT -> Integer.compare(leaf.getInt(parentA), leaf.getInt(parentB));
+                                case LONG -> Long.compare(leaf.getLong(parentA), leaf.getLong(parentB));
+                                case DOUBLE -> Double.compare(leaf.getDouble(parentA), leaf.getDouble(parentB));
+                                default -> Boolean.compare(leaf.getBoolean(parentA), leaf.getBoolean(parentB));
+                            });
+                }
+            }
+
+            Object valueA = read(a);
+            Object valueB = read(b);
+            if (valueA == null || valueB == null) {
+                return compareNulls(valueA == null, valueB == null);
+            }
+            return order(
+                    switch (kind) {
+                        case INT -> Integer.compare(Accessors.toInt(valueA), Accessors.toInt(valueB));
+                        case LONG -> Long.compare(Accessors.toLong(valueA), Accessors.toLong(valueB));
+                        case DOUBLE -> Double.compare(Accessors.toDouble(valueA), Accessors.toDouble(valueB));
+                        default -> ((Comparable<Object>) valueA).compareTo(valueB);
+                    });
+        }
+
+        /**
+         * Reads the value of the key without creating intermediate objects.
+         *
+         * @return The value, or null if the root, an intermediate object or the value is null
+         */
+        private Object read(Object root) throws Exception {
+            if (root == null) {
+                return null;
+            }
+            Object value = resolve(root.getClass()).chain().get(root);
+            return value != PropertyChain.NULL_INTERMEDIATE ? value : null;
+        }
+
+        private int compareNulls(boolean nullA, boolean nullB) {
+            if (nullA == nullB) {
+                return 0;
+            }
+            return nullA == nullsFirst ? -1 : 1;
+        }
+
+        private int order(int result) {
+            return descending ? -Integer.signum(result) : result;
+        }
+
+        /**
+         * Returns the resolved path for a root class, resolving it on first use.
+         */
+        private Resolved resolve(Class<?> rootClass) throws DotPathException {
+            try {
+                return resolved.get(rootClass);
+            } catch (UncheckedDotPathException e) {
+                throw e.getCause();
+            }
+        }
+
+        /**
+         * Returns how a primitive leaf is read without boxing, or null to read the value boxed.
+         */
+        private Kind primitiveKind(Class<?> leafType) {
+            if (leafType == null || !leafType.isPrimitive() || leafType == char.class) {
+                return null;
+            }
+            if (kind != Kind.OBJECT) {
+                return kind;
+            }
+            if (leafType == boolean.class) {
+                return Kind.BOOLEAN;
+            }
+            return leafType == float.class || leafType == double.class ? Kind.DOUBLE : Kind.LONG;
+        }
+    }
+
+    /**
+     * The path of a key resolved for a root class. The leaf accessor is null when the value is read
+     * boxed.
+     */
+    private record Resolved(PropertyChain chain, PropertyAccessor leaf, Kind kind) {}
+}
@@ -0,0 +1,77 @@
+package io.github.rmkane.dotpath.api;
+
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import io.github.rmkane.dotpath.internal.ValidationUtils;
+import io.github.rmkane.dotpath.internal.traversal.QuerySpliterator;
+
+/**
+ * A dot-notation path with wildcard segments, evaluated lazily against any number of root objects.
+ * Instances are immutable and safe to share between threads.
+ *
+ * <p>In addition to property names, map keys and indexes, a query path may contain {@code *}, which
+ * selects all values of a Map, all elements of a List or array, or all properties of a bean, and
+ * {@code **}, which selects a value and all of its descendants:</p>
+ * <pre>
+ * PathQuery skus = DotPath.compileQuery("orders.*.lines.*.sku");
+ * List&lt;String&gt; all = skus.&lt;String&gt;stream(root).toList();
+ * long errors = DotPath.query(root, "**.error").count();
+ * </pre>
+ *
+ * <p>Results are produced as the stream is consumed, walking the object graph once without
+ * collecting intermediate results. Parallel streams split the elements of the first wildcard.
+ * Missing keys, properties and elements, as well as null values, produce no results instead of
+ * exceptions, and no intermediate objects are created. Errors reading a property while the stream
+ * is consumed are thrown as {@link UncheckedDotPathException}.</p>
+ */
+public final class PathQuery {
+    private static final ValidationUtils validationUtils = new ValidationUtils();
+
+    private final String path;
+    private final String[] segments;
+
+    PathQuery(String path, String[] segments) {
+        this.path = path;
+        this.segments = segments;
+    }
+
+    /**
+     * Returns the query path this instance was compiled from.
+     *
+     * @return The original path
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Returns a lazy stream of the values matching this query on an object.
+     *
+     * @param root The root object to query
+     * @return The matching values, in depth-first order
+     * @throws DotPathException if the root is null
+     */
+    public <T> Stream<T> stream(Object root) throws DotPathException {
+        return StreamSupport.stream(spliterator(root), false);
+    }
+
+    /**
+     * Returns a spliterator over the values matching this query on an object.
+     *
+     * @param root The root object to query
+     * @return The matching values, in depth-first order
+     * @throws DotPathException if the root is null
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Spliterator<T> spliterator(Object root) throws DotPathException {
+        validationUtils.validateInput(root, "root");
+        return (Spliterator<T>) new QuerySpliterator(root, segments);
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+}
@@ -0,0 +1,484 @@
+package io.github.rmkane.dotpath.api;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.github.rmkane.dotpath.internal.TypeResolver;
+import io.github.rmkane.dotpath.internal.ValidationUtils;
+import io.github.rmkane.dotpath.internal.operations.BulkExtractor;
+import io.github.rmkane.dotpath.internal.operations.ColumnProjector;
+import io.github.rmkane.dotpath.internal.operations.CopyOperations;
+import io.github.rmkane.dotpath.internal.operations.IndexOperations;
+import io.github.rmkane.dotpath.internal.operations.MapOperations;
+import io.github.rmkane.dotpath.internal.operations.PropertyOperations;
+import io.github.rmkane.dotpath.internal.traversal.PathTraverser;
+
+/**
+ * A group of dot-notation paths compiled into a prefix trie, so that reading, writing or copying all
+ * of them on a root object visits each shared intermediate object once. Instances are immutable and safe to share
+ * between threads.
+ *
+ * <p>Instances are obtained from {@link DotPath#compileAll(java.util.Collection)}:</p>
+ * <pre>
+ * PathSet paths = DotPath.compileAll(List.of("config.db.host", "config.db.port", "config.db.pool.size"));
+ * Object[] values = paths.getAll(root);  // config and config.db are traversed once
+ * paths.setAllFromStrings(root, new String[] {"localhost", "5432", "10"});
+ * </pre>
+ *
+ * <p>Writes and copies apply to all paths even if some of them fail, and report the failures together. A path
+ * is written before the paths that extend it.</p>
+ */
+public final class PathSet {
+    private static final PathTraverser pathTraverser = new PathTraverser();
+    private static final PropertyOperations propertyOperations = new PropertyOperations();
+    private static final TypeResolver typeResolver = new TypeResolver();
+    private static final ValidationUtils validationUtils = new ValidationUtils();
+    private static final MapOperations mapOperations = new MapOperations();
+    private static final CopyOperations copyOperations = new CopyOperations();
+
+    private static final BulkExtractor bulkExtractor = new BulkExtractor();
+    private static final ColumnProjector columnProjector = new ColumnProjector();
+
+    private final List<String> paths;
+    private final String[][] segments;
+    private final Node[] roots;
+
+    PathSet(List<CompiledPath> compiledPaths) {
+        List<String> names = new ArrayList<>(compiledPaths.size());
+        String[][] pathSegments = new String[compiledPaths.size()][];
+        Node trie = new Node(null);
+        for (int i = 0; i < compiledPaths.size(); i++) {
+            CompiledPath compiled = compiledPaths.get(i);
+            names.add(compiled.getPath());
+            pathSegments[i] = compiled.getSegments();
+
+            Node node = trie;
+            for (String segment : compiled.getSegments()) {
+                node = node.child(segment);
+            }
+            node.addPath(i);
+        }
+        this.paths = Collections.unmodifiableList(names);
+        this.segments = pathSegments;
+        this.roots = trie.freeze();
+    }
+
+    /**
+     * Returns the paths in this set, in the order they were given.
+     *
+     * @return The paths, including duplicates
+     */
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    /**
+     * Returns the number of paths in this set.
+     *
+     * @return The number of paths, including duplicates
+     */
+    public int size() {
+        return paths.size();
+    }
+
+    /**
+     * Gets the values at all paths of this set from an object. Intermediate objects are created if
+     * needed, as with {@link CompiledPath#get(Object)}.
+     *
+     * @param root The root object to traverse
+     * @return The values, at the same indexes as {@link #getPaths()}
+     * @throws DotPathException if any path is invalid or inaccessible
+     */
+    public Object[] getAll(Object root) throws DotPathException {
+        validationUtils.validateInput(root, "root");
+
+        Object[] values = new Object[paths.size()];
+        for (Node node : roots) {
+            visit(node, root, null, values);
+        }
+        return values;
+    }
+
+    /**
+     * Gets the values at all paths of this set from an object without creating intermediate
+     * objects, for reads that must not modify the root. Paths below a null intermediate object give
+     * null values.
+     *
+     * @param root The root object to traverse
+     * @return The values, at the same indexes as {@link #getPaths()}
+     * @throws DotPathException if any path is invalid or inaccessible
+     */
+    Object[] read(Object root) throws DotPathException {
+        validationUtils.validateInput(root, "root");
+
+        Object[] values = new Object[paths.size()];
+        for (Node node : roots) {
+            find(node, root, values);
+        }
+        return values;
+    }
+
+    /**
+     * Gets the values at all paths of this set from an object, keyed by path, without creating
+     * intermediate objects as for {@link #read(Object)}.
+     *
+     * @param root The root object to traverse
+     * @return The values keyed by path, in the order of {@link #getPaths()}
+     * @throws DotPathException if any path is invalid or inaccessible
+     */
+    Map<String, Object> readAsMap(Object root) throws DotPathException {
+        return asMap(read(root));
+    }
+
+    /**
+     * Gets the values at all paths of this set from an object, keyed by path.
+     *
+     * @param root The root object to traverse
+     * @return The values keyed by path, in the order of {@link #getPaths()}
+     * @throws DotPathException if any path is invalid or inaccessible
+     */
+    public Map<String, Object> getAllAsMap(Object root) throws DotPathException {
+        return asMap(getAll(root));
+    }
+
+    /**
+     * Keys values by the paths at the same indexes.
+     */
+    private Map<String, Object> asMap(Object[] values) {
+        Map<String, Object> result = new LinkedHashMap<>(values.length * 2);
+        for (int i = 0; i < values.length; i++) {
+            result.put(paths.get(i), values[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the values at all paths of this set from each of many roots, in parallel for large
+     * collections. Roots are not modified: null roots and null intermediate objects give null values
+     * instead of creating intermediate objects.
+     *
+     * @param roots The root objects to traverse
+     * @return One row per root, in iteration order of the roots, with the values at the same indexes
+     *         as {@link #getPaths()}
+     * @throws DotPathException if the collection is null, or a key or property is missing or cannot
+     *                          be read on any root
+     */
+    public Object[][] extractAll(Collection<?> roots) throws DotPathException {
+        validationUtils.validateInput(roots, "roots");
+        return bulkExtractor.extractRows(roots, segments);
+    }
+
+    /**
+     * Reads the values at all paths of this set from each of many roots into columns, using primitive
+     * arrays for paths declared as numbers or booleans on the class of the first non-null root.
+     * Large collections are read in parallel, and roots are not modified.
+     *
+     * @param roots The root objects to traverse
+     * @return One column per path, with one row per root in iteration order of the roots
+     * @throws DotPathException if the collection is null, a key or property is missing or cannot be
+     *                          read on any root, or a value does not fit the type of its column
+     */
+    public ColumnSet project(Collection<?> roots) throws DotPathException {
+        validationUtils.validateInput(roots, "roots");
+        ColumnProjector.Projection projection = columnProjector.project(roots, segments);
+        Column[] columns = new Column[paths.size()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = new Column(
+                    paths.get(i),
+                    projection.types()[i],
+                    projection.columns()[i],
+                    projection.nulls()[i],
+                    projection.size());
+        }
+        return new ColumnSet(paths, columns, projection.size());
+    }
+
+    /**
+     * Sets the values at all paths of this set on an object, creating intermediate objects once.
+     *
+     * @param root   The root object to traverse
+     * @param values The values to set, at the same indexes as {@link #getPaths()}
+     * @throws DotPathException if the number of values does not match, or if any path could not be
+     *                          set, with one suppressed exception per failure
+     */
+    public void setAll(Object root, Object[] values) throws DotPathException {
+        setAll(root, values, false);
+    }
+
+    /**
+     * Sets the values at all paths of this set on an object, converting the string values to the
+     * type of each property. Types are resolved during the same traversal as the writes.
+     *
+     * @param root   The root object to traverse
+     * @param values The string values to convert and set, at the same indexes as {@link #getPaths()}
+     * @throws DotPathException if the number of values does not match, or if any path could not be
+     *                          set, with one suppressed exception per failure
+     */
+    public void setAllFromStrings(Object root, String[] values) throws DotPathException {
+        setAll(root, values, true);
+    }
+
+    private void setAll(Object root, Object[] values, boolean fromStrings) throws DotPathException {
+        validationUtils.validateInput(root, "root");
+        validationUtils.validateInput(values, "values");
+        if (values.length != paths.size()) {
+            throw new DotPathException("Expected %d values but got %d".formatted(paths.size(), values.length));
+        }
+
+        List<DotPathException> failures = new ArrayList<>();
+        for (Node node : roots) {
+            write(node, root, null, values, fromStrings, failures);
+        }
+
+        if (!failures.isEmpty()) {
+            DotPathException exception =
+                    new DotPathException("Failed to set %d of %d paths".formatted(failures.size(), paths.size()));
+            failures.forEach(exception::addSuppressed);
+            throw exception;
+        }
+    }
+
+    /**
+     * Writes the values of the paths ending at a trie node to its parent object, then visits the
+     * children of the node with the current value as their parent.
+     */
+    private void write(
+            Node node,
+            Object parent,
+            Type parentType,
+            Object[] values,
+            boolean fromStrings,
+            List<DotPathException> failures) {
+        for (int index : node.paths) {
+            try {
+                if (fromStrings) {
+                    writeString(node, parent, (String) values[index]);
+                } else {
+                    writeValue(node, parent, values[index]);
+                }
+            } catch (Exception e) {
+                failures.add(new DotPathException(
+                        (fromStrings ? "Error setting value from string at path: " : "Error setting value at path: ")
+                                + paths.get(index),
+                        e));
+            }
+        }
+
+        if (node.children.length > 0) {
+            Type type = childType(node, parent, parentType);
+            Object current;
+            try {
+                current = createChild(node, parent, parentType);
+            } catch (DotPathException e) {
+                failures.add(e);
+                return;
+            }
+            for (Node child : node.children) {
+                write(child, current, type, values, fromStrings, failures);
+            }
+        }
+    }
+
+    private void writeValue(Node node, Object parent, Object value) throws Exception {
+        if (mapOperations.isMap(parent)) {
+            mapOperations.setValue(mapOperations.asMap(parent), node.segment, value);
+        } else {
+            propertyOperations.setValueOnObject(parent, node.segment, value);
+        }
+    }
+
+    private void writeString(Node node, Object parent, String valueStr) throws Exception {
+        validationUtils.validateInput(valueStr, "valueStr");
+
+        Class<?> targetType = mapOperations.isMap(parent)
+                ? mapOperations.getValueType(parent, node.segment)
+                : typeResolver.resolveTypeForPathSegment(parent.getClass(), node.segment);
+        writeValue(node, parent, typeResolver.parseValueByType(targetType, valueStr));
+    }
+
+    /**
+     * Copies the values at all paths of this set from source to target object. Source and target
+     * are traversed together, visiting each shared intermediate object once, and missing
+     * intermediate objects are created in the target.
+     *
+     * @param source Source object to copy from
+     * @param target Target object to copy to, of the same class as the source
+     * @throws DotPathException if the objects are incompatible, or if any path could not be copied,
+     *                          with one suppressed exception per failure
+     */
+    public void copyAll(Object source, Object target) throws DotPathException {
+        if (source == null || target == null) {
+            throw new DotPathException("Source and target objects cannot be null");
+        }
+        if (!source.getClass().equals(target.getClass())) {
+            throw new DotPathException("Source type %s and target type %s are incompatible"
+                    .formatted(source.getClass().getName(), target.getClass().getName()));
+        }
+
+        List<DotPathException> failures = new ArrayList<>();
+        for (Node node : roots) {
+            copy(node, source, target, null, failures);
+        }
+
+        if (!failures.isEmpty()) {
+            DotPathException exception =
+                    new DotPathException("Failed to copy %d of %d paths".formatted(failures.size(), paths.size()));
+            failures.forEach(exception::addSuppressed);
+            throw exception;
+        }
+    }
+
+    /**
+     * Copies the value of a trie node between its source and target parents, then visits the
+     * children of the node with the current source and target values as their parents.
+     */
+    private void copy(
+            Node node, Object sourceParent, Object targetParent, Type targetType, List<DotPathException> failures) {
+        if (node.paths.length > 0) {
+            try {
+                copyOperations.copyValue(sourceParent, targetParent, node.segment);
+            } catch (Exception e) {
+                failures.add(new DotPathException(
+                        "Failed to copy property at path %s: %s".formatted(paths.get(node.paths[0]), e.getMessage()),
+                        e));
+            }
+        }
+
+        if (node.children.length > 0) {
+            Type type = childType(node, targetParent, targetType);
+            Object source;
+            Object target;
+            try {
+                source = pathTraverser.traversePath(sourceParent, node.segment);
+                target = createChild(node, targetParent, targetType);
+            } catch (DotPathException e) {
+                failures.add(e);
+                return;
+            }
+            for (Node child : node.children) {
+                copy(child, source, target, type, failures);
+            }
+        }
+    }
+
+    /**
+     * Reads the value of a trie node from its parent object, then visits the children of the node
+     * with the value as their parent.
+     */
+    private void visit(Node node, Object parent, Type parentType, Object[] values) throws DotPathException {
+        if (node.paths.length > 0) {
+            Object value = read(node, parent);
+            for (int index : node.paths) {
+                values[index] = value;
+            }
+        }
+
+        if (node.children.length > 0) {
+            Type type = childType(node, parent, parentType);
+            Object current = createChild(node, parent, parentType);
+            for (Node child : node.children) {
+                visit(child, current, type, values);
+            }
+        }
+    }
+
+    private void find(Node node, Object parent, Object[] values) throws DotPathException {
+        Object value = read(node, parent);
+        for (int index : node.paths) {
+            values[index] = value;
+        }
+        if (value != null) {
+            for (Node child : node.children) {
+                find(child, value, values);
+            }
+        }
+    }
+
+    /**
+     * Gets the value of a trie node from its parent object, creating it if needed. Missing elements
+     * and map entries are created to suit the children of the node.
+     */
+    private Object createChild(Node node, Object parent, Type parentType) throws DotPathException {
+        return pathTraverser.traversePathAndCreateIfNeeded(parent, node.segment, parentType, node.children[0].segment);
+    }
+
+    /**
+     * Returns the declared type of the value of a trie node when its children select elements by
+     * index, so that missing elements are created with the declared element type.
+     */
+    private Type childType(Node node, Object parent, Type parentType) {
+        return IndexOperations.parseIndex(node.children[0].segment) >= 0
+                ? pathTraverser.getDeclaredType(parent, node.segment, parentType)
+                : null;
+    }
+
+    private Object read(Node node, Object parent) throws DotPathException {
+        if (mapOperations.isMap(parent)) {
+            return mapOperations.getValue(mapOperations.asMap(parent), node.segment);
+        }
+
+        try {
+            return propertyOperations.getPropertyValue(parent, node.segment);
+        } catch (Exception e) {
+            throw new DotPathException("Error getting value at path: " + paths.get(firstPath(node)), e);
+        }
+    }
+
+    /**
+     * Returns the index of a path ending at or below a trie node, for error messages.
+     */
+    private static int firstPath(Node node) {
+        Node current = node;
+        while (current.paths.length == 0) {
+            current = current.children[0];
+        }
+        return current.paths[0];
+    }
+
+    /**
+     * A segment in the trie, with the indexes of the paths that end at it.
+     */
+    private static final class Node {
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final int[] NO_PATHS = new int[0];
+
+        private final String segment;
+        private Map<String, Node> childrenBySegment = new LinkedHashMap<>();
+        private Node[] children = NO_CHILDREN;
+        private int[] paths = NO_PATHS;
+
+        private Node(String segment) {
+            this.segment = segment;
+        }
+
+        private Node child(String segment) {
+            return childrenBySegment.computeIfAbsent(segment, Node::new);
+        }
+
+        private void addPath(int index) {
+            int[] grown = new int[paths.length + 1];
+            System.arraycopy(paths, 0, grown, 0, paths.length);
+            grown[paths.length] = index;
+            paths = grown;
+        }
+
+        /**
+         * Replaces the child maps used while building with arrays, recursively.
+         *
+         * @return The children of this node
+         */
+        private Node[] freeze() {
+            children = childrenBySegment.values().toArray(NO_CHILDREN);
+            childrenBySegment = null;
+            for (Node child : children) {
+                child.freeze();
+            }
+            return children;
+        }
+    }
+}
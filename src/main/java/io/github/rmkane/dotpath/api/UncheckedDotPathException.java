@@ -0,0 +1,31 @@
+package io.github.rmkane.dotpath.api;
+
+import java.io.Serial;
+
+/**
+ * Wraps a {@link DotPathException} where checked exceptions cannot be thrown, such as while a
+ * stream of query results is consumed.
+ */
+public class UncheckedDotPathException extends RuntimeException {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a new unchecked exception wrapping a {@link DotPathException}.
+     *
+     * @param cause the wrapped exception
+     */
+    public UncheckedDotPathException(DotPathException cause) {
+        super(cause.getMessage(), cause, true, DotPathSettings.isStackTraces());
+    }
+
+    /**
+     * Returns the wrapped exception.
+     *
+     * @return the wrapped {@link DotPathException}
+     */
+    @Override
+    public synchronized DotPathException getCause() {
+        return (DotPathException) super.getCause();
+    }
+}
@@ -0,0 +1,23 @@
+package io.github.rmkane.dotpath.api;
+
+/**
+ * Converts string values to a target type, see {@link ConverterRegistry}.
+ *
+ * <p>Values are passed as character sequences, which may be views of byte buffers. Converters that
+ * only need a few characters at a time can read them in place; converters that need a
+ * {@code String} can call {@link CharSequence#toString()}.</p>
+ *
+ * @param <T> The type values are converted to
+ */
+@FunctionalInterface
+public interface ValueConverter<T> {
+    /**
+     * Converts a value.
+     *
+     * @param value The value to convert, never null
+     * @return The converted value
+     * @throws Exception if the value cannot be converted; the exception is reported as the cause of
+     *                   a {@link DotPathException}
+     */
+    T convert(CharSequence value) throws Exception;
+}
@@ -1,63 +1,47 @@
 package io.github.rmkane.dotpath.internal;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.math.BigDecimal;
 import java.util.List;
-import java.util.Map;
+import java.util.function.Function;
 
+import io.github.rmkane.dotpath.api.ConverterRegistry;
 import io.github.rmkane.dotpath.api.DotPathException;
+import io.github.rmkane.dotpath.internal.metadata.ClassMetadata;
+import io.github.rmkane.dotpath.internal.operations.IndexOperations;
 import io.github.rmkane.dotpath.internal.operations.MapOperations;
 import io.github.rmkane.dotpath.internal.operations.PropertyOperations;
-import io.github.rmkane.dotpath.internal.parsers.CollectionParser;
-import io.github.rmkane.dotpath.internal.parsers.TimeParser;
+import io.github.rmkane.dotpath.internal.parsers.PrimitiveParser;
+import io.github.rmkane.dotpath.internal.traversal.PathParser;
 
 /**
  * Handles type resolution and conversion.
  */
 public class TypeResolver {
-    private static final Map<Class<?>, TypeConverter<?>> TYPE_CONVERTERS = new HashMap<>();
+    /**
+     * Numeric wrapper types in order of the widening primitive conversions between them
+     */
+    private static final List<Class<?>> NUMERIC_RANKS =
+            List.of(Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class);
 
     private final MapOperations mapOperations = new MapOperations();
     private final PropertyOperations propertyOperations = new PropertyOperations();
-    private final ValidationUtils validationUtils = new ValidationUtils();
-
-    static {
-        // Register primitive and wrapper type converters
-        registerConverter(int.class, Integer::parseInt);
-        registerConverter(Integer.class, Integer::parseInt);
-        registerConverter(long.class, Long::parseLong);
-        registerConverter(Long.class, Long::parseLong);
-        registerConverter(double.class, Double::parseDouble);
-        registerConverter(Double.class, Double::parseDouble);
-        registerConverter(float.class, Float::parseFloat);
-        registerConverter(Float.class, Float::parseFloat);
-        registerConverter(boolean.class, Boolean::parseBoolean);
-        registerConverter(Boolean.class, Boolean::parseBoolean);
-        registerConverter(String.class, String::valueOf);
-
-        // Register date/time converters
-        registerConverter(LocalDate.class, TimeParser::parseLocalDate);
-        registerConverter(LocalDateTime.class, TimeParser::parseLocalDateTime);
-
-        // Register collection converters
-        registerConverter(List.class, CollectionParser::parseList);
-        registerConverter(ArrayList.class, CollectionParser::parseList);
-    }
+    private final PathParser pathParser = new PathParser();
 
     /**
      * Resolves the type of property at a given path.
      */
     public Class<?> resolveType(Object root, String path) throws Exception {
-        String[] parts = path.split("\\.");
+        return resolveType(root, pathParser.parse(path));
+    }
+
+    /**
+     * Resolves the type of property at a path that has already been split into validated segments.
+     */
+    public Class<?> resolveType(Object root, String[] parts) throws Exception {
         Object current = root;
 
         for (int i = 0; i < parts.length - 1; i++) {
             String part = parts[i];
-            validationUtils.validatePathSegment(part);
 
             if (mapOperations.isMap(current)) {
                 current = mapOperations.getValueOrDefault(current, part, Object.class);
@@ -68,7 +52,6 @@ public class TypeResolver {
         }
 
         String last = parts[parts.length - 1];
-        validationUtils.validatePathSegment(last);
 
         if (mapOperations.isMap(current)) {
             return mapOperations.getValueType(current, last);
@@ -79,71 +62,158 @@ public class TypeResolver {
     }
 
     /**
-     * Resolves the type for a path segment.
+     * Resolves the type for a path segment. Elements of arrays have the component type, and
+     * elements of Lists, whose type is not known from the class, are inferred as {@code Object}.
      */
-    public Class<?> resolveTypeForPathSegment(Class<?> currentClass, String part) throws Exception {
-        String getter = "get" + propertyOperations.capitalize(part);
-        try {
-            Method method = currentClass.getMethod(getter);
-            return method.getReturnType();
-        } catch (NoSuchMethodException e) {
-            try {
-                Field field = currentClass.getDeclaredField(part);
-                field.setAccessible(true);
-                return field.getType();
-            } catch (NoSuchFieldException e2) {
-                throw new DotPathException(
-                        "Property '%s' not found in class %s".formatted(part, currentClass.getName()));
-            }
+    public Class<?> resolveTypeForPathSegment(Class<?> currentClass, String part) throws DotPathException {
+        if (IndexOperations.parseIndex(part) >= 0) {
+            return currentClass.isArray() ? currentClass.getComponentType() : Object.class;
         }
+        return ClassMetadata.of(currentClass).getExistingProperty(part).getType();
     }
 
     /**
-     * Parses a string value into the specified type.
+     * Parses a string value into the specified type. Any character sequence is accepted, and only
+     * values converted to strings are copied into new strings.
      */
     @SuppressWarnings("unchecked")
-    public <T> T parseValueByType(Class<T> type, String valueStr) throws DotPathException {
+    public <T> T parseValueByType(Class<T> type, CharSequence valueStr) throws DotPathException {
         if (valueStr == null) {
             return null;
         }
+        return (T) getParser(type).parse(valueStr);
+    }
 
+    /**
+     * Returns a parser for string values of the specified type, so that callers converting many
+     * values to the same type look up the converter once.
+     *
+     * @param type The type to convert to; {@code Object} infers the type from each value
+     * @return The parser
+     * @throws DotPathException if no converter is registered for the type
+     * @see ConverterRegistry
+     */
+    public ValueParser getParser(Class<?> type) throws DotPathException {
         // For Object type, try to infer the most appropriate type
         if (type == Object.class) {
-            return (T) inferObjectType(valueStr);
+            return this::inferObjectType;
         }
 
         // Try registered converters
-        TypeConverter<?> converter = TYPE_CONVERTERS.get(type);
-        if (converter != null) {
+        if (ConverterRegistry.find(type) == null) {
+            throw new DotPathException("Unsupported type: " + type.getName());
+        }
+        return valueStr -> {
+            if (valueStr == null) {
+                return null;
+            }
             try {
-                return (T) converter.convert(valueStr);
+                // Looked up on each call, so that converters registered later take effect
+                return ConverterRegistry.find(type).convert(valueStr);
             } catch (Exception e) {
                 throw new DotPathException("Failed to convert value '" + valueStr + "' to type " + type.getName(), e);
             }
-        }
-
-        throw new DotPathException("Unsupported type: " + type.getName());
+        };
     }
 
     /**
-     * Infers the most appropriate type for a string value when converting to Object.
+     * Infers the most appropriate type for a string value when converting to Object. Values are
+     * screened before parsing so that plain strings do not raise {@link NumberFormatException}s.
      */
-    private Object inferObjectType(String valueStr) throws DotPathException {
+    private Object inferObjectType(CharSequence valueStr) {
         // Try numeric types first
-        try {
-            return Integer.valueOf(valueStr);
-        } catch (NumberFormatException e) {
+        if (isInteger(valueStr)) {
+            long value = PrimitiveParser.parseLong(valueStr);
+            if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                return (int) value;
+            }
+        }
+        if (mayBeDouble(valueStr)) {
             try {
-                return Double.valueOf(valueStr);
-            } catch (NumberFormatException e2) {
-                // Try boolean
-                if (valueStr.equalsIgnoreCase("true") || valueStr.equalsIgnoreCase("false")) {
-                    return Boolean.valueOf(valueStr);
-                }
-                // Default to string
-                return valueStr;
+                return PrimitiveParser.parseDouble(valueStr);
+            } catch (NumberFormatException e) {
+                // Not a number after all
+            }
+        }
+
+        // Try boolean
+        if (PrimitiveParser.parseBoolean(valueStr)) {
+            return Boolean.TRUE;
+        }
+        if (isFalse(valueStr)) {
+            return Boolean.FALSE;
+        }
+
+        // Default to string
+        return valueStr.toString();
+    }
+
+    /**
+     * Checks whether a string is {@code false}, ignoring case.
+     */
+    private static boolean isFalse(CharSequence value) {
+        if (value.length() != 5) {
+            return false;
+        }
+        for (int i = 0; i < 5; i++) {
+            if (Character.toLowerCase(value.charAt(i)) != "false".charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether a string is an optionally signed decimal integer short enough to be parsed as a
+     * long without overflow.
+     */
+    private static boolean isInteger(CharSequence value) {
+        int start = !value.isEmpty() && (value.charAt(0) == '-' || value.charAt(0) == '+') ? 1 : 0;
+        int length = value.length() - start;
+        if (length < 1 || length > 18) {
+            return false;
+        }
+        for (int i = start; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
             }
         }
+        return true;
+    }
+
+    /**
+     * Checks whether a string could be accepted by {@link Double#valueOf(String)}, which requires a
+     * digit or decimal point after the optional sign, or one of the special values.
+     */
+    private static boolean mayBeDouble(CharSequence value) {
+        int start = 0;
+        while (start < value.length() && value.charAt(start) <= ' ') {
+            start++;
+        }
+        if (start < value.length() && (value.charAt(start) == '-' || value.charAt(start) == '+')) {
+            start++;
+        }
+        if (start >= value.length()) {
+            return false;
+        }
+        char first = value.charAt(start);
+        return (first >= '0' && first <= '9')
+                || first == '.'
+                || startsWith(value, "NaN", start)
+                || startsWith(value, "Infinity", start);
+    }
+
+    private static boolean startsWith(CharSequence value, String prefix, int start) {
+        if (value.length() - start < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (value.charAt(start + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -180,10 +250,91 @@ public class TypeResolver {
         return targetWrapper.isAssignableFrom(sourceWrapper);
     }
 
+    /**
+     * Returns a function converting any number to the wrapper of a numeric type, following the numeric
+     * conversions allowed by {@link #isCompatibleType(Class, Class)}.
+     *
+     * @param targetType The primitive or wrapper numeric type to convert to
+     * @return The conversion, or null if the type is not numeric
+     */
+    public Function<Number, Object> getNumberConverter(Class<?> targetType) {
+        Class<?> wrapper = getWrapperType(targetType);
+        if (wrapper == Integer.class) return Number::intValue;
+        if (wrapper == Long.class) return Number::longValue;
+        if (wrapper == Double.class) return Number::doubleValue;
+        if (wrapper == Float.class) return Number::floatValue;
+        if (wrapper == Short.class) return Number::shortValue;
+        if (wrapper == Byte.class) return Number::byteValue;
+        return null;
+    }
+
+    /**
+     * Checks whether a numeric type converts to another without narrowing, following the widening
+     * primitive conversions of the Java language. Primitive and wrapper types are treated alike.
+     *
+     * @param sourceType The primitive or wrapper numeric type to convert from
+     * @param targetType The primitive or wrapper numeric type to convert to
+     * @return true if the types are the same or the conversion is a widening conversion
+     */
+    public boolean isWideningConversion(Class<?> sourceType, Class<?> targetType) {
+        int source = NUMERIC_RANKS.indexOf(getWrapperType(sourceType));
+        int target = NUMERIC_RANKS.indexOf(getWrapperType(targetType));
+        return source >= 0 && target >= source;
+    }
+
+    /**
+     * Returns a function converting any number to the wrapper of a numeric type only if no
+     * information is lost, such as the fraction of 3.9 converted to an {@code int} or the low bits
+     * of a large {@code long} converted to a {@code double}.
+     *
+     * @param targetType The primitive or wrapper numeric type to convert to
+     * @return The conversion, which throws an {@link ArithmeticException} for lossy conversions, or
+     *         null if the type is not numeric
+     */
+    public Function<Number, Object> getExactNumberConverter(Class<?> targetType) {
+        Function<Number, Object> converter = getNumberConverter(targetType);
+        if (converter == null) {
+            return null;
+        }
+        return number -> {
+            Number converted = (Number) converter.apply(number);
+            if (!isLossless(number, converted)) {
+                throw new ArithmeticException("Cannot convert %s %s to %s without loss"
+                        .formatted(number.getClass().getSimpleName(), number, targetType.getName()));
+            }
+            return converted;
+        };
+    }
+
+    private static boolean isLossless(Number value, Number converted) {
+        boolean floatingValue = value instanceof Double || value instanceof Float;
+        boolean floatingResult = converted instanceof Double || converted instanceof Float;
+        if (floatingValue) {
+            double x = value.doubleValue();
+            if (floatingResult) {
+                return converted.doubleValue() == x || (Double.isNaN(x) && Double.isNaN(converted.doubleValue()));
+            }
+            return converted.longValue() == x && x < 0x1p63;
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            long v = value.longValue();
+            if (floatingResult) {
+                double d = converted.doubleValue();
+                return d < 0x1p63 && (long) d == v;
+            }
+            return converted.longValue() == v;
+        }
+        try {
+            return new BigDecimal(value.toString()).compareTo(new BigDecimal(converted.toString())) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
     /**
      * Gets the wrapper type for a primitive type.
      */
-    private Class<?> getWrapperType(Class<?> primitiveType) {
+    public Class<?> getWrapperType(Class<?> primitiveType) {
         if (primitiveType == int.class) return Integer.class;
         if (primitiveType == long.class) return Long.class;
         if (primitiveType == double.class) return Double.class;
@@ -208,12 +359,18 @@ public class TypeResolver {
                 || type == short.class;
     }
 
-    private static void registerConverter(Class<?> type, TypeConverter<?> converter) {
-        TYPE_CONVERTERS.put(type, converter);
-    }
-
+    /**
+     * Converts string values to a single target type.
+     */
     @FunctionalInterface
-    private interface TypeConverter<T> {
-        T convert(String value) throws Exception;
+    public interface ValueParser {
+        /**
+         * Converts a string value, which may be any character sequence.
+         *
+         * @param valueStr The string value
+         * @return The converted value
+         * @throws DotPathException if the value cannot be converted
+         */
+        Object parse(CharSequence valueStr) throws DotPathException;
     }
 }
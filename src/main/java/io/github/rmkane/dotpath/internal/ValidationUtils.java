@@ -12,17 +12,28 @@ public class ValidationUtils {
      *
      * @param value     The value to validate
      * @param paramName The name of the parameter being validated (used in error messages)
-     * @throws DotPathException if the value is null or, if it's a String, if it's empty
+     * @throws DotPathException if the value is null or, if it's a character sequence, if it's blank
      */
     public void validateInput(Object value, String paramName) throws DotPathException {
         if (value == null) {
             throw new DotPathException(paramName + " cannot be null");
         }
-        if (value instanceof String stringValue) {
-            if (stringValue.trim().isEmpty()) {
-                throw new DotPathException(paramName + " cannot be empty");
+        if (value instanceof CharSequence sequence && isBlank(sequence)) {
+            throw new DotPathException(paramName + " cannot be empty");
+        }
+    }
+
+    /**
+     * Checks whether a character sequence is empty or only contains whitespace, as trimmed by
+     * {@link String#trim()}.
+     */
+    private static boolean isBlank(CharSequence sequence) {
+        for (int i = 0; i < sequence.length(); i++) {
+            if (sequence.charAt(i) > ' ') {
+                return false;
             }
         }
+        return true;
     }
 
     /**
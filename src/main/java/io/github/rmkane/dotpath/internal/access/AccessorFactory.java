@@ -0,0 +1,17 @@
+package io.github.rmkane.dotpath.internal.access;
+
+import io.github.rmkane.dotpath.internal.metadata.PropertyMetadata;
+
+/**
+ * Creates {@link PropertyAccessor}s for resolved properties.
+ */
+interface AccessorFactory {
+    /**
+     * Creates an accessor for a property that exists.
+     *
+     * @param property The resolved property
+     * @return The accessor
+     * @throws Exception if this factory cannot handle the property
+     */
+    PropertyAccessor create(PropertyMetadata property) throws Exception;
+}
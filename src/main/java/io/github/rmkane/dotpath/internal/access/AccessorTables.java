@@ -0,0 +1,58 @@
+package io.github.rmkane.dotpath.internal.access;
+
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+import io.github.rmkane.dotpath.spi.AccessorTable;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Finds the {@link AccessorTable} generated at compile time for a class, if any. Tables are
+ * discovered through {@link ServiceLoader} using the class loader of the class they describe and
+ * cached per class through a {@link ClassValue}.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AccessorTables {
+    /**
+     * Suffix the annotation processor appends to the binary name of a class to name its table.
+     */
+    private static final String TABLE_SUFFIX = "$DotPathAccessors";
+
+    private static final ClassValue<Optional<AccessorTable>> CACHE = new ClassValue<>() {
+        @Override
+        protected Optional<AccessorTable> computeValue(Class<?> type) {
+            return load(type);
+        }
+    };
+
+    /**
+     * Returns the generated table for a class.
+     *
+     * @param type The class to look up
+     * @return The table, or null if none was generated for the class
+     */
+    public static AccessorTable forClass(Class<?> type) {
+        return CACHE.get(type).orElse(null);
+    }
+
+    private static Optional<AccessorTable> load(Class<?> type) {
+        ClassLoader loader = type.getClassLoader();
+        if (loader == null || type.isPrimitive() || type.isArray()) {
+            return Optional.empty();
+        }
+
+        String tableName = type.getName() + TABLE_SUFFIX;
+        try {
+            // Match providers by class name so that only the table for this class is instantiated
+            return ServiceLoader.load(AccessorTable.class, loader).stream()
+                    .filter(provider -> provider.type().getName().equals(tableName))
+                    .map(ServiceLoader.Provider::get)
+                    .filter(table -> table.type() == type)
+                    .findFirst();
+        } catch (ServiceConfigurationError e) {
+            return Optional.empty();
+        }
+    }
+}
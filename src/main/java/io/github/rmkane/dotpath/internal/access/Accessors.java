@@ -0,0 +1,260 @@
+package io.github.rmkane.dotpath.internal.access;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.math.BigDecimal;
+
+import io.github.rmkane.dotpath.api.AccessorEngine;
+import io.github.rmkane.dotpath.api.DotPathException;
+import io.github.rmkane.dotpath.internal.metadata.PropertyMetadata;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Creates {@link PropertyAccessor}s using the requested {@link AccessorEngine}, falling back to
+ * simpler engines for properties the requested engine cannot handle.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Accessors {
+    private static final ReflectionAccessorFactory reflectionFactory = new ReflectionAccessorFactory();
+    private static final AccessorFactory methodHandleFactory = new MethodHandleAccessorFactory();
+    private static final AccessorFactory lambdaFactory = new LambdaAccessorFactory();
+
+    /**
+     * Creates an accessor for a property that exists.
+     *
+     * @param property The resolved property
+     * @param engine   The preferred accessor engine
+     * @return The accessor, created by the preferred engine when possible
+     */
+    public static PropertyAccessor create(PropertyMetadata property, AccessorEngine engine) {
+        for (AccessorEngine candidate = engine;
+                candidate != AccessorEngine.REFLECTION;
+                candidate = fallback(candidate)) {
+            try {
+                PropertyAccessor accessor = factory(candidate).create(property);
+                if (accessor != null) {
+                    return accessor;
+                }
+            } catch (Exception | LinkageError e) {
+                // The engine cannot handle this property (e.g. inaccessible module), try the next one
+            }
+        }
+        return reflectionFactory.create(property);
+    }
+
+    private static AccessorFactory factory(AccessorEngine engine) {
+        return switch (engine) {
+            case REFLECTION -> reflectionFactory;
+            case METHOD_HANDLE -> methodHandleFactory;
+            case LAMBDA -> lambdaFactory;
+        };
+    }
+
+    private static AccessorEngine fallback(AccessorEngine engine) {
+        return switch (engine) {
+            case LAMBDA -> AccessorEngine.METHOD_HANDLE;
+            case METHOD_HANDLE, REFLECTION -> AccessorEngine.REFLECTION;
+        };
+    }
+
+    /**
+     * Creates the exception thrown when writing a property that has neither a setter nor a field.
+     */
+    static DotPathException readOnly(String name, Class<?> ownerType) {
+        return new DotPathException("Property '%s' is read-only in class %s".formatted(name, ownerType.getName()));
+    }
+
+    /**
+     * Unboxes a value read as a primitive number.
+     *
+     * @param value The value read
+     * @return The value as a number
+     * @throws DotPathException if the value is null or not a number
+     */
+    public static Number toNumber(Object value) throws DotPathException {
+        if (value instanceof Number number) {
+            return number;
+        }
+        throw notPrimitive(value, "number");
+    }
+
+    /**
+     * Unboxes a value read as an {@code int}, converting other numeric types only if no information
+     * is lost.
+     *
+     * @param value The value read
+     * @return The value as an {@code int}
+     * @throws DotPathException if the value is null, not a number, or does not fit an {@code int}
+     */
+    public static int toInt(Object value) throws DotPathException {
+        Number number = toNumber(value);
+        if (number instanceof Integer || number instanceof Short || number instanceof Byte) {
+            return number.intValue();
+        }
+        if (number instanceof Long) {
+            return toInt(number.longValue());
+        }
+        if (number instanceof Double || number instanceof Float) {
+            return toInt(number.doubleValue());
+        }
+        try {
+            return new BigDecimal(number.toString()).intValueExact();
+        } catch (ArithmeticException | NumberFormatException e) {
+            throw lossy(number, "int");
+        }
+    }
+
+    /**
+     * Unboxes a value read as a {@code long}, converting other numeric types only if no information
+     * is lost.
+     *
+     * @param value The value read
+     * @return The value as a {@code long}
+     * @throws DotPathException if the value is null, not a number, or does not fit a {@code long}
+     */
+    public static long toLong(Object value) throws DotPathException {
+        Number number = toNumber(value);
+        if (number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte) {
+            return number.longValue();
+        }
+        if (number instanceof Double || number instanceof Float) {
+            return toLong(number.doubleValue());
+        }
+        try {
+            return new BigDecimal(number.toString()).longValueExact();
+        } catch (ArithmeticException | NumberFormatException e) {
+            throw lossy(number, "long");
+        }
+    }
+
+    /**
+     * Unboxes a value read as a {@code double}, converting other numeric types only if no
+     * information is lost.
+     *
+     * @param value The value read
+     * @return The value as a {@code double}
+     * @throws DotPathException if the value is null, not a number, or is not exactly representable
+     *                          as a {@code double}
+     */
+    public static double toDouble(Object value) throws DotPathException {
+        Number number = toNumber(value);
+        if (number instanceof Double
+                || number instanceof Float
+                || number instanceof Integer
+                || number instanceof Short
+                || number instanceof Byte) {
+            return number.doubleValue();
+        }
+        if (number instanceof Long) {
+            return toDouble(number.longValue());
+        }
+        double converted = number.doubleValue();
+        try {
+            if (new BigDecimal(number.toString()).compareTo(new BigDecimal(converted)) == 0) {
+                return converted;
+            }
+        } catch (NumberFormatException e) {
+            // Not a finite decimal, such as an infinite or NaN value
+        }
+        throw lossy(number, "double");
+    }
+
+    /**
+     * Narrows a {@code long} to an {@code int}.
+     *
+     * @param value The value to convert
+     * @return The same value as an {@code int}
+     * @throws DotPathException if the value does not fit an {@code int}
+     */
+    public static int toInt(long value) throws DotPathException {
+        if ((int) value != value) {
+            throw lossy(value, "int");
+        }
+        return (int) value;
+    }
+
+    /**
+     * Converts a {@code double} to an {@code int}.
+     *
+     * @param value The value to convert
+     * @return The same value as an {@code int}
+     * @throws DotPathException if the value has a fraction, is NaN, or does not fit an {@code int}
+     */
+    public static int toInt(double value) throws DotPathException {
+        if ((int) value != value) {
+            throw lossy(value, "int");
+        }
+        return (int) value;
+    }
+
+    /**
+     * Converts a {@code double} to a {@code long}.
+     *
+     * @param value The value to convert
+     * @return The same value as a {@code long}
+     * @throws DotPathException if the value has a fraction, is NaN, or does not fit a {@code long}
+     */
+    public static long toLong(double value) throws DotPathException {
+        // 2^63 rounds to Long.MAX_VALUE and compares equal, although it does not fit
+        if ((long) value != value || value >= 0x1p63) {
+            throw lossy(value, "long");
+        }
+        return (long) value;
+    }
+
+    /**
+     * Converts a {@code long} to a {@code double}, which holds integers exactly only up to 2^53.
+     *
+     * @param value The value to convert
+     * @return The same value as a {@code double}
+     * @throws DotPathException if the value is not exactly representable as a {@code double}
+     */
+    public static double toDouble(long value) throws DotPathException {
+        double converted = value;
+        if (converted >= 0x1p63 || (long) converted != value) {
+            throw lossy(value, "double");
+        }
+        return converted;
+    }
+
+    private static DotPathException lossy(Object value, String type) {
+        return new DotPathException("Cannot convert %s %s to %s without loss"
+                .formatted(value.getClass().getSimpleName(), value, type));
+    }
+
+    /**
+     * Unboxes a value read as a primitive boolean.
+     *
+     * @param value The value read
+     * @return The value as a boolean
+     * @throws DotPathException if the value is null or not a boolean
+     */
+    public static boolean toBoolean(Object value) throws DotPathException {
+        if (value instanceof Boolean bool) {
+            return bool;
+        }
+        throw notPrimitive(value, "boolean");
+    }
+
+    private static DotPathException notPrimitive(Object value, String expected) {
+        return new DotPathException(
+                value == null
+                        ? "Cannot read null as a " + expected
+                        : "Value of type %s is not a %s"
+                                .formatted(value.getClass().getName(), expected));
+    }
+
+    /**
+     * Rethrows errors and returns checked exceptions unchanged, so that throwables raised by method
+     * handle invocations can be propagated from methods declaring {@code throws Exception}.
+     */
+    static Exception propagate(Throwable t) {
+        if (t instanceof Error error) {
+            throw error;
+        }
+        if (t instanceof Exception exception) {
+            return exception;
+        }
+        return new UndeclaredThrowableException(t);
+    }
+}
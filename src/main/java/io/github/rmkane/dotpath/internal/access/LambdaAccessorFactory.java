@@ -0,0 +1,299 @@
+package io.github.rmkane.dotpath.internal.access;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import io.github.rmkane.dotpath.internal.TypeResolver;
+import io.github.rmkane.dotpath.internal.metadata.PropertyMetadata;
+
+/**
+ * Creates accessors that call getters and setters through {@link Function} and {@link BiConsumer}
+ * instances spun by {@link LambdaMetafactory}. These are ordinary interface calls the JIT can
+ * inline. Properties without a getter, or with a field but no setter, are left to the method
+ * handle engine since the metafactory cannot target fields.
+ *
+ * <p>Primitive getters and setters also get a primitive functional interface, such as
+ * {@link ToIntFunction} or {@link ObjIntConsumer}, so the primitive accessor methods never box.</p>
+ */
+final class LambdaAccessorFactory implements AccessorFactory {
+    private static final TypeResolver typeResolver = new TypeResolver();
+    private static final MethodType FUNCTION_TYPE = MethodType.methodType(Function.class);
+    private static final MethodType BI_CONSUMER_TYPE = MethodType.methodType(BiConsumer.class);
+    private static final Object[][] PRIMITIVE_GETTERS = {
+        {int.class, ToIntFunction.class, "applyAsInt"},
+        {long.class, ToLongFunction.class, "applyAsLong"},
+        {double.class, ToDoubleFunction.class, "applyAsDouble"},
+        {boolean.class, Predicate.class, "test"}
+    };
+    private static final Object[][] PRIMITIVE_SETTERS = {
+        {int.class, ObjIntConsumer.class},
+        {long.class, ObjLongConsumer.class},
+        {double.class, ObjDoubleConsumer.class},
+        {boolean.class, ObjBooleanConsumer.class}
+    };
+
+    @Override
+    public PropertyAccessor create(PropertyMetadata property) throws Exception {
+        Method getter = property.getGetter();
+        Method setter = property.getSetter();
+        if (getter == null || (setter == null && property.getField() != null)) {
+            return null;
+        }
+
+        Function<Object, Object> getterFunction = createGetter(getter);
+        BiConsumer<Object, Object> setterFunction = setter != null ? createSetter(setter) : null;
+        Class<?> parameterType = setter != null ? setter.getParameterTypes()[0] : null;
+
+        return new LambdaAccessor(
+                property,
+                getterFunction,
+                setterFunction,
+                parameterType != null && parameterType.isPrimitive() ? wrap(parameterType) : null,
+                createPrimitiveGetter(getter),
+                setter != null ? createPrimitiveSetter(setter) : null);
+    }
+
+    /**
+     * Spins a primitive functional interface calling a getter that returns {@code int},
+     * {@code long}, {@code double} or {@code boolean}.
+     *
+     * @return The function, or null if the getter does not return one of these types
+     */
+    private static Object createPrimitiveGetter(Method getter) throws Exception {
+        for (Object[] candidate : PRIMITIVE_GETTERS) {
+            if (getter.getReturnType() == candidate[0]) {
+                Class<?> owner = getter.getDeclaringClass();
+                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(owner, MethodHandles.lookup());
+                return instantiate(LambdaMetafactory.metafactory(
+                        lookup,
+                        (String) candidate[2],
+                        MethodType.methodType((Class<?>) candidate[1]),
+                        MethodType.methodType(getter.getReturnType(), Object.class),
+                        lookup.unreflect(getter),
+                        MethodType.methodType(getter.getReturnType(), owner)));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Spins a primitive functional interface calling a setter that accepts {@code int},
+     * {@code long}, {@code double} or {@code boolean}.
+     *
+     * @return The consumer, or null if the setter does not accept one of these types
+     */
+    private static Object createPrimitiveSetter(Method setter) throws Exception {
+        Class<?> parameterType = setter.getParameterTypes()[0];
+        for (Object[] candidate : PRIMITIVE_SETTERS) {
+            if (parameterType == candidate[0]) {
+                Class<?> owner = setter.getDeclaringClass();
+                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(owner, MethodHandles.lookup());
+                return instantiate(LambdaMetafactory.metafactory(
+                        lookup,
+                        "accept",
+                        MethodType.methodType((Class<?>) candidate[1]),
+                        MethodType.methodType(void.class, Object.class, parameterType),
+                        lookup.unreflect(setter),
+                        MethodType.methodType(void.class, owner, parameterType)));
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> createGetter(Method getter) throws Exception {
+        Class<?> owner = getter.getDeclaringClass();
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(owner, MethodHandles.lookup());
+        CallSite site = LambdaMetafactory.metafactory(
+                lookup,
+                "apply",
+                FUNCTION_TYPE,
+                MethodType.methodType(Object.class, Object.class),
+                lookup.unreflect(getter),
+                MethodType.methodType(wrap(getter.getReturnType()), owner));
+        return (Function<Object, Object>) instantiate(site);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> createSetter(Method setter) throws Exception {
+        Class<?> owner = setter.getDeclaringClass();
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(owner, MethodHandles.lookup());
+        CallSite site = LambdaMetafactory.metafactory(
+                lookup,
+                "accept",
+                BI_CONSUMER_TYPE,
+                MethodType.methodType(void.class, Object.class, Object.class),
+                lookup.unreflect(setter),
+                MethodType.methodType(void.class, owner, wrap(setter.getParameterTypes()[0])));
+        return (BiConsumer<Object, Object>) instantiate(site);
+    }
+
+    private static Object instantiate(CallSite site) throws Exception {
+        try {
+            return site.getTarget().invoke();
+        } catch (Throwable t) {
+            throw Accessors.propagate(t);
+        }
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    /**
+     * Converts boxed numbers to the wrapper expected by a primitive setter parameter, which
+     * reflection and method handles do implicitly for widening conversions. Values that do not fit
+     * the parameter type are rejected rather than truncated.
+     */
+    private static Object coerce(Object value, Class<?> wrapperType) {
+        if (!(value instanceof Number number) || value.getClass() == wrapperType) {
+            return value;
+        }
+        Function<Number, Object> converter = typeResolver.getExactNumberConverter(wrapperType);
+        return converter != null ? converter.apply(number) : value;
+    }
+
+    /**
+     * A setter accepting a {@code boolean}, which has no counterpart in {@code java.util.function}.
+     * Public so that the metafactory can implement it in the package of any bean.
+     */
+    @FunctionalInterface
+    public interface ObjBooleanConsumer<T> {
+        void accept(T target, boolean value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static final class LambdaAccessor implements PropertyAccessor {
+        private final PropertyMetadata property;
+        private final Function<Object, Object> getter;
+        private final BiConsumer<Object, Object> setter;
+        private final Class<?> primitiveWrapper;
+        private final ToIntFunction<Object> intGetter;
+        private final ToLongFunction<Object> longGetter;
+        private final ToDoubleFunction<Object> doubleGetter;
+        private final Predicate<Object> booleanGetter;
+        private final ObjIntConsumer<Object> intSetter;
+        private final ObjLongConsumer<Object> longSetter;
+        private final ObjDoubleConsumer<Object> doubleSetter;
+        private final ObjBooleanConsumer<Object> booleanSetter;
+
+        private LambdaAccessor(
+                PropertyMetadata property,
+                Function<Object, Object> getter,
+                BiConsumer<Object, Object> setter,
+                Class<?> primitiveWrapper,
+                Object primitiveGetter,
+                Object primitiveSetter) {
+            this.property = property;
+            this.getter = getter;
+            this.setter = setter;
+            this.primitiveWrapper = primitiveWrapper;
+            this.intGetter = primitiveGetter instanceof ToIntFunction<?> f ? (ToIntFunction<Object>) f : null;
+            this.longGetter = primitiveGetter instanceof ToLongFunction<?> f ? (ToLongFunction<Object>) f : null;
+            this.doubleGetter = primitiveGetter instanceof ToDoubleFunction<?> f ? (ToDoubleFunction<Object>) f : null;
+            this.booleanGetter = primitiveGetter instanceof Predicate<?> p ? (Predicate<Object>) p : null;
+            this.intSetter = primitiveSetter instanceof ObjIntConsumer<?> c ? (ObjIntConsumer<Object>) c : null;
+            this.longSetter = primitiveSetter instanceof ObjLongConsumer<?> c ? (ObjLongConsumer<Object>) c : null;
+            this.doubleSetter =
+                    primitiveSetter instanceof ObjDoubleConsumer<?> c ? (ObjDoubleConsumer<Object>) c : null;
+            this.booleanSetter =
+                    primitiveSetter instanceof ObjBooleanConsumer<?> c ? (ObjBooleanConsumer<Object>) c : null;
+        }
+
+        @Override
+        public Object get(Object target) {
+            return getter.apply(target);
+        }
+
+        @Override
+        public void set(Object target, Object value) throws Exception {
+            if (setter == null) {
+                throw Accessors.readOnly(property.getName(), property.getOwnerType());
+            }
+            setter.accept(target, primitiveWrapper != null ? coerce(value, primitiveWrapper) : value);
+        }
+
+        @Override
+        public int getInt(Object target) throws Exception {
+            return intGetter != null ? intGetter.applyAsInt(target) : PropertyAccessor.super.getInt(target);
+        }
+
+        @Override
+        public long getLong(Object target) throws Exception {
+            if (longGetter != null) {
+                return longGetter.applyAsLong(target);
+            }
+            return intGetter != null ? intGetter.applyAsInt(target) : PropertyAccessor.super.getLong(target);
+        }
+
+        @Override
+        public double getDouble(Object target) throws Exception {
+            if (doubleGetter != null) {
+                return doubleGetter.applyAsDouble(target);
+            }
+            if (longGetter != null) {
+                return Accessors.toDouble(longGetter.applyAsLong(target));
+            }
+            return intGetter != null ? intGetter.applyAsInt(target) : PropertyAccessor.super.getDouble(target);
+        }
+
+        @Override
+        public boolean getBoolean(Object target) throws Exception {
+            return booleanGetter != null ? booleanGetter.test(target) : PropertyAccessor.super.getBoolean(target);
+        }
+
+        @Override
+        public void setInt(Object target, int value) throws Exception {
+            if (intSetter != null) {
+                intSetter.accept(target, value);
+            } else if (longSetter != null) {
+                longSetter.accept(target, value);
+            } else if (doubleSetter != null) {
+                doubleSetter.accept(target, value);
+            } else {
+                PropertyAccessor.super.setInt(target, value);
+            }
+        }
+
+        @Override
+        public void setLong(Object target, long value) throws Exception {
+            if (longSetter != null) {
+                longSetter.accept(target, value);
+            } else if (doubleSetter != null) {
+                doubleSetter.accept(target, Accessors.toDouble(value));
+            } else {
+                PropertyAccessor.super.setLong(target, value);
+            }
+        }
+
+        @Override
+        public void setDouble(Object target, double value) throws Exception {
+            if (doubleSetter != null) {
+                doubleSetter.accept(target, value);
+            } else {
+                PropertyAccessor.super.setDouble(target, value);
+            }
+        }
+
+        @Override
+        public void setBoolean(Object target, boolean value) throws Exception {
+            if (booleanSetter != null) {
+                booleanSetter.accept(target, value);
+            } else {
+                PropertyAccessor.super.setBoolean(target, value);
+            }
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package io.github.rmkane.dotpath.internal.access;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+
+import io.github.rmkane.dotpath.internal.metadata.PropertyMetadata;
+
+/**
+ * Creates accessors backed by {@link MethodHandle}s adapted to {@code (Object)Object} getters and
+ * {@code (Object, Object)void} setters. Boxed arguments are unboxed and widened by the handle
+ * itself, so no access checks are repeated per call.
+ *
+ * <p>Primitive properties also get handles adapted to each primitive type the property type widens
+ * from or to, e.g. {@code (Object)long} for an {@code int} getter, so the primitive accessor
+ * methods never box.</p>
+ */
+final class MethodHandleAccessorFactory implements AccessorFactory {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    @Override
+    public PropertyAccessor create(PropertyMetadata property) throws IllegalAccessException {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+        MethodHandle getter = property.getGetter() != null
+                ? lookup.unreflect(property.getGetter())
+                : lookup.unreflectGetter(property.getField());
+
+        MethodHandle setter = null;
+        if (property.getSetter() != null) {
+            setter = lookup.unreflect(property.getSetter());
+        } else if (property.getField() != null) {
+            setter = lookup.unreflectSetter(property.getField());
+        }
+
+        return new MethodHandleAccessor(property, getter, setter);
+    }
+
+    /**
+     * Adapts a getter to return a primitive type, if the property is primitive and widens to it
+     * exactly.
+     */
+    private static MethodHandle primitiveGetter(MethodHandle getter, Class<?> primitiveType) {
+        Class<?> type = getter.type().returnType();
+        if (!type.isPrimitive() || isLossyWidening(type, primitiveType)) {
+            return null;
+        }
+        return adapt(getter, MethodType.methodType(primitiveType, Object.class));
+    }
+
+    /**
+     * Adapts a setter to accept a primitive type, if the property is primitive and the type widens
+     * to it exactly.
+     */
+    private static MethodHandle primitiveSetter(MethodHandle setter, Class<?> primitiveType) {
+        if (setter == null) {
+            return null;
+        }
+        Class<?> type = setter.type().parameterType(1);
+        if (!type.isPrimitive() || isLossyWidening(primitiveType, type)) {
+            return null;
+        }
+        return adapt(setter, MethodType.methodType(void.class, Object.class, primitiveType));
+    }
+
+    /**
+     * Checks whether a widening primitive conversion, which {@link MethodHandle#asType} applies
+     * implicitly, may round the value.
+     */
+    private static boolean isLossyWidening(Class<?> from, Class<?> to) {
+        return (from == long.class && (to == float.class || to == double.class))
+                || (from == int.class && to == float.class);
+    }
+
+    private static MethodHandle adapt(MethodHandle handle, MethodType type) {
+        try {
+            return handle.asType(type);
+        } catch (WrongMethodTypeException e) {
+            return null;
+        }
+    }
+
+    private static final class MethodHandleAccessor implements PropertyAccessor {
+        private final PropertyMetadata property;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        private final MethodHandle intGetter;
+        private final MethodHandle longGetter;
+        private final MethodHandle doubleGetter;
+        private final MethodHandle booleanGetter;
+        private final MethodHandle intSetter;
+        private final MethodHandle longSetter;
+        private final MethodHandle doubleSetter;
+        private final MethodHandle booleanSetter;
+
+        private MethodHandleAccessor(PropertyMetadata property, MethodHandle getter, MethodHandle setter) {
+            this.property = property;
+            this.getter = getter.asType(GETTER_TYPE);
+            this.setter = setter != null ? setter.asType(SETTER_TYPE) : null;
+            this.intGetter = primitiveGetter(getter, int.class);
+            this.longGetter = primitiveGetter(getter, long.class);
+            this.doubleGetter = primitiveGetter(getter, double.class);
+            this.booleanGetter = primitiveGetter(getter, boolean.class);
+            this.intSetter = primitiveSetter(setter, int.class);
+            this.longSetter = primitiveSetter(setter, long.class);
+            this.doubleSetter = primitiveSetter(setter, double.class);
+            this.booleanSetter = primitiveSetter(setter, boolean.class);
+        }
+
+        @Override
+        public Object get(Object target) throws Exception {
+            try {
+                return (Object) getter.invokeExact(target);
+            } catch (Throwable t) {
+                throw Accessors.propagate(t);
+            }
+        }
+
+        @Override
+        public void set(Object target, Object value) throws Exception {
+            if (setter == null) {
+                throw Accessors.readOnly(property.getName(), property.getOwnerType());
+            }
+            try {
+                setter.invokeExact(target, value);
+            } catch (Throwable t) {
+                throw Accessors.propagate(t);
+            }
+        }
+
+        @Override
+        public int getInt(Object target) throws Exception {
+            if (intGetter == null) {
+                return PropertyAccessor.super.getInt(target);
+            }
+            try {
+                return (int) intGetter.invokeExact(target);
+            } catch (Throwable t) {
+                throw Accessors.propagate(t);
+            }
+        }
+
+        @Override
+        public long getLong(Object target) throws Exception {
+            if (longGetter == null) {
+                return PropertyAccessor.super.getLong(target);
+            }
+            try {
+                return (long) longGetter.invokeExact(target);
+            } catch (Throwable t) {
+                throw Accessors.propagate(t);
+            }
+        }
+
+        @Override
+        public double getDouble(Object target) throws Exception {
+            if (doubleGetter == null) {
+                if (longGetter != null) {
+                    return Accessors.toDouble(getLong(target));
+                }
+                return PropertyAccessor.super.getDouble(target);
+            }
+            try {
+                return (double) doubleGetter.invokeExact(target);
+            } catch (Throwable t) {
+                throw Accessors.propagate(t);
+            }
+        }
+
+        @Override
+        public boolean getBoolean(Object target) throws Exception {
+            if (booleanGetter == null) {
+                return PropertyAccessor.super.getBoolean(target);
+            }
+            try {
+                return (boolean) booleanGetter.invokeExact(target);
+            } catch (Throwable t) {
+                throw Accessors.propagate(t);
+            }
+        }
+
+        @Override
+        public void setInt(Object target, int value) throws Exception {
+            if (intSetter == null) {
+                PropertyAccessor.super.setInt(target, value);
+                return;
+            }
+            try {
+                intSetter.invokeExact(target, value);
+            } catch (Throwable t) {
+                throw Accessors.propagate(t);
+            }
+        }
+
+        @Override
+        public void setLong(Object target, long value) throws Exception {
+            if (longSetter == null) {
+                PropertyAccessor.super.setLong(target, value);
+                return;
+            }
+            try {
+                longSetter.invokeExact(target, value);
+            } catch (Throwable t) {
+                throw Accessors.propagate(t);
+            }
+        }
+
+        @Override
+        public void setDouble(Object target, double value) throws Exception {
+            if (doubleSetter == null) {
+                PropertyAccessor.super.setDouble(target, value);
+                return;
+            }
+            try {
+                doubleSetter.invokeExact(target, value);
+            } catch (Throwable t) {
+                throw Accessors.propagate(t);
+            }
+        }
+
+        @Override
+        public void setBoolean(Object target, boolean value) throws Exception {
+            if (booleanSetter == null) {
+                PropertyAccessor.super.setBoolean(target, value);
+                return;
+            }
+            try {
+                booleanSetter.invokeExact(target, value);
+            } catch (Throwable t) {
+                throw Accessors.propagate(t);
+            }
+        }
+    }
+}
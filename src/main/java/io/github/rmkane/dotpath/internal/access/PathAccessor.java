@@ -0,0 +1,25 @@
+package io.github.rmkane.dotpath.internal.access;
+
+/**
+ * Reads and writes a complete dot-notation path for roots of a single class. Implementations are
+ * generated by {@link PathAccessorGenerator}.
+ */
+public interface PathAccessor {
+    /**
+     * Reads the value at the path, creating missing intermediate objects.
+     *
+     * @param root The root object, which must be of the class the accessor was generated for
+     * @return The value at the path
+     * @throws Exception if a getter, setter or constructor along the path fails
+     */
+    Object get(Object root) throws Exception;
+
+    /**
+     * Writes the value at the path, creating missing intermediate objects.
+     *
+     * @param root  The root object, which must be of the class the accessor was generated for
+     * @param value The value to write
+     * @throws Exception if a getter, setter or constructor along the path fails
+     */
+    void set(Object root, Object value) throws Exception;
+}
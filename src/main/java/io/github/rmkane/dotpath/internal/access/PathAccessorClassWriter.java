@@ -0,0 +1,298 @@
+package io.github.rmkane.dotpath.internal.access;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes the class file of a {@link PathAccessor} implementation whose methods delegate to two
+ * {@code static final} method handles loaded from the class data of a hidden class.
+ *
+ * <p>The generated class is equivalent to:</p>
+ * <pre>
+ * final class GeneratedPathAccessor implements PathAccessor {
+ *     private static final MethodHandle GETTER = MethodHandles.classDataAt(lookup(), "_", MethodHandle.class, 0);
+ *     private static final MethodHandle SETTER = MethodHandles.classDataAt(lookup(), "_", MethodHandle.class, 1);
+ *
+ *     public Object get(Object root) { return (Object) GETTER.invokeExact(root); }
+ *     public void set(Object root, Object value) { SETTER.invokeExact(root, value); }
+ * }
+ * </pre>
+ *
+ * <p>Because the handles are constants of the generated class, the JIT folds the whole handle tree
+ * into the calling method. The bytecode contains no branches, so no stack map frames are needed.</p>
+ */
+final class PathAccessorClassWriter {
+    private static final int CLASS_FILE_VERSION = 65;
+
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_PRIVATE = 0x0002;
+    private static final int ACC_STATIC = 0x0008;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+
+    private static final int ICONST_0 = 0x03;
+    private static final int ICONST_1 = 0x04;
+    private static final int LDC_W = 0x13;
+    private static final int ALOAD_0 = 0x2a;
+    private static final int ALOAD_1 = 0x2b;
+    private static final int ALOAD_2 = 0x2c;
+    private static final int ARETURN = 0xb0;
+    private static final int RETURN = 0xb1;
+    private static final int GETSTATIC = 0xb2;
+    private static final int PUTSTATIC = 0xb3;
+    private static final int INVOKEVIRTUAL = 0xb6;
+    private static final int INVOKESPECIAL = 0xb7;
+    private static final int INVOKESTATIC = 0xb8;
+    private static final int CHECKCAST = 0xc0;
+
+    private static final String OBJECT = "java/lang/Object";
+    private static final String METHOD_HANDLE = "java/lang/invoke/MethodHandle";
+    private static final String METHOD_HANDLES = "java/lang/invoke/MethodHandles";
+    private static final String METHOD_HANDLE_DESCRIPTOR = "L" + METHOD_HANDLE + ";";
+
+    private final ConstantPool pool = new ConstantPool();
+    private final String className;
+
+    /**
+     * @param className The internal name of the generated class, which must be in the package of
+     *                  {@link PathAccessor}
+     */
+    PathAccessorClassWriter(String className) {
+        this.className = className;
+    }
+
+    /**
+     * Writes the class file.
+     *
+     * @return The class file bytes
+     */
+    byte[] write() {
+        int thisClass = pool.classRef(className);
+        int superClass = pool.classRef(OBJECT);
+        int accessorInterface = pool.classRef(PathAccessor.class.getName().replace('.', '/'));
+
+        int getterField = pool.fieldRef(className, "GETTER", METHOD_HANDLE_DESCRIPTOR);
+        int setterField = pool.fieldRef(className, "SETTER", METHOD_HANDLE_DESCRIPTOR);
+        int objectInit = pool.methodRef(OBJECT, "<init>", "()V");
+        int lookup = pool.methodRef(METHOD_HANDLES, "lookup", "()Ljava/lang/invoke/MethodHandles$Lookup;");
+        int classDataAt = pool.methodRef(
+                METHOD_HANDLES,
+                "classDataAt",
+                "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/Class;I)Ljava/lang/Object;");
+        int invokeGetter = pool.methodRef(METHOD_HANDLE, "invokeExact", "(Ljava/lang/Object;)Ljava/lang/Object;");
+        int invokeSetter = pool.methodRef(METHOD_HANDLE, "invokeExact", "(Ljava/lang/Object;Ljava/lang/Object;)V");
+        int defaultName = pool.string("_");
+        int methodHandleClass = pool.classRef(METHOD_HANDLE);
+
+        Code init = new Code(1, 1).op(ALOAD_0).op(INVOKESPECIAL, objectInit).op(RETURN);
+
+        Code clinit = new Code(4, 0);
+        loadClassData(clinit, lookup, classDataAt, defaultName, methodHandleClass, ICONST_0, getterField);
+        loadClassData(clinit, lookup, classDataAt, defaultName, methodHandleClass, ICONST_1, setterField);
+        clinit.op(RETURN);
+
+        Code get = new Code(2, 2)
+                .op(GETSTATIC, getterField)
+                .op(ALOAD_1)
+                .op(INVOKEVIRTUAL, invokeGetter)
+                .op(ARETURN);
+
+        Code set = new Code(3, 3)
+                .op(GETSTATIC, setterField)
+                .op(ALOAD_1)
+                .op(ALOAD_2)
+                .op(INVOKEVIRTUAL, invokeSetter)
+                .op(RETURN);
+
+        // Resolve every remaining constant before the pool is written
+        int fieldFlags = ACC_PRIVATE | ACC_STATIC | ACC_FINAL;
+        int getterName = pool.utf8("GETTER");
+        int setterName = pool.utf8("SETTER");
+        int handleDescriptor = pool.utf8(METHOD_HANDLE_DESCRIPTOR);
+        int codeName = pool.utf8("Code");
+        int[][] methods = {
+            {ACC_PUBLIC, pool.utf8("<init>"), pool.utf8("()V")},
+            {ACC_STATIC, pool.utf8("<clinit>"), pool.utf8("()V")},
+            {ACC_PUBLIC | ACC_FINAL, pool.utf8("get"), pool.utf8("(Ljava/lang/Object;)Ljava/lang/Object;")},
+            {ACC_PUBLIC | ACC_FINAL, pool.utf8("set"), pool.utf8("(Ljava/lang/Object;Ljava/lang/Object;)V")}
+        };
+        Code[] bodies = {init, clinit, get, set};
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(CLASS_FILE_VERSION);
+            pool.writeTo(out);
+            out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(1);
+            out.writeShort(accessorInterface);
+
+            out.writeShort(2);
+            for (int name : new int[] {getterName, setterName}) {
+                out.writeShort(fieldFlags);
+                out.writeShort(name);
+                out.writeShort(handleDescriptor);
+                out.writeShort(0);
+            }
+
+            out.writeShort(methods.length);
+            for (int i = 0; i < methods.length; i++) {
+                out.writeShort(methods[i][0]);
+                out.writeShort(methods[i][1]);
+                out.writeShort(methods[i][2]);
+                out.writeShort(1);
+                bodies[i].writeTo(out, codeName);
+            }
+
+            out.writeShort(0);
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void loadClassData(
+            Code code, int lookup, int classDataAt, int name, int type, int indexOpcode, int field) {
+        code.op(INVOKESTATIC, lookup)
+                .op(LDC_W, name)
+                .op(LDC_W, type)
+                .op(indexOpcode)
+                .op(INVOKESTATIC, classDataAt)
+                .op(CHECKCAST, type)
+                .op(PUTSTATIC, field);
+    }
+
+    /**
+     * The body of a method, written as a {@code Code} attribute without exception handlers.
+     */
+    private static final class Code {
+        private final ByteArrayOutputStream bytecode = new ByteArrayOutputStream();
+        private final int maxStack;
+        private final int maxLocals;
+
+        private Code(int maxStack, int maxLocals) {
+            this.maxStack = maxStack;
+            this.maxLocals = maxLocals;
+        }
+
+        private Code op(int opcode) {
+            bytecode.write(opcode);
+            return this;
+        }
+
+        private Code op(int opcode, int constantIndex) {
+            bytecode.write(opcode);
+            bytecode.write(constantIndex >>> 8);
+            bytecode.write(constantIndex);
+            return this;
+        }
+
+        private void writeTo(DataOutputStream out, int codeName) throws IOException {
+            byte[] code = bytecode.toByteArray();
+            out.writeShort(codeName);
+            out.writeInt(12 + code.length);
+            out.writeShort(maxStack);
+            out.writeShort(maxLocals);
+            out.writeInt(code.length);
+            out.write(code);
+            out.writeShort(0);
+            out.writeShort(0);
+        }
+    }
+
+    /**
+     * A deduplicating constant pool supporting the handful of entry kinds the generated class uses.
+     */
+    private static final class ConstantPool {
+        private static final int UTF8 = 1;
+        private static final int CLASS = 7;
+        private static final int STRING = 8;
+        private static final int FIELD_REF = 9;
+        private static final int METHOD_REF = 10;
+        private static final int NAME_AND_TYPE = 12;
+
+        private final ByteArrayOutputStream entries = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(entries);
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private int count = 1;
+
+        private int utf8(String value) {
+            return entry("U" + value, () -> {
+                out.writeByte(UTF8);
+                out.writeUTF(value);
+            });
+        }
+
+        private int classRef(String internalName) {
+            int name = utf8(internalName);
+            return entry("C" + internalName, () -> {
+                out.writeByte(CLASS);
+                out.writeShort(name);
+            });
+        }
+
+        private int string(String value) {
+            int utf8 = utf8(value);
+            return entry("S" + value, () -> {
+                out.writeByte(STRING);
+                out.writeShort(utf8);
+            });
+        }
+
+        private int fieldRef(String owner, String name, String descriptor) {
+            return memberRef(FIELD_REF, owner, name, descriptor);
+        }
+
+        private int methodRef(String owner, String name, String descriptor) {
+            return memberRef(METHOD_REF, owner, name, descriptor);
+        }
+
+        private int memberRef(int tag, String owner, String name, String descriptor) {
+            int ownerClass = classRef(owner);
+            int nameUtf8 = utf8(name);
+            int descriptorUtf8 = utf8(descriptor);
+            int nameAndType = entry("N" + name + ":" + descriptor, () -> {
+                out.writeByte(NAME_AND_TYPE);
+                out.writeShort(nameUtf8);
+                out.writeShort(descriptorUtf8);
+            });
+            return entry(tag + owner + "." + name + ":" + descriptor, () -> {
+                out.writeByte(tag);
+                out.writeShort(ownerClass);
+                out.writeShort(nameAndType);
+            });
+        }
+
+        private int entry(String key, EntryWriter writer) {
+            Integer index = indexes.get(key);
+            if (index != null) {
+                return index;
+            }
+            try {
+                writer.write();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            indexes.put(key, count);
+            return count++;
+        }
+
+        private void writeTo(DataOutputStream target) throws IOException {
+            target.writeShort(count);
+            entries.writeTo(target);
+        }
+
+        @FunctionalInterface
+        private interface EntryWriter {
+            void write() throws IOException;
+        }
+    }
+}
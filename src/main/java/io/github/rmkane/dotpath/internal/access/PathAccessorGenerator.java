@@ -0,0 +1,219 @@
+package io.github.rmkane.dotpath.internal.access;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.github.rmkane.dotpath.internal.metadata.ClassMetadata;
+import io.github.rmkane.dotpath.internal.metadata.PropertyMetadata;
+import io.github.rmkane.dotpath.internal.operations.PropertyOperations;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Generates one hidden class per (root class, path) that reads and writes the whole path with direct
+ * getter and setter calls, null checks and intermediate-object creation, instead of walking the path
+ * segment by segment through generic code.
+ *
+ * <p>Only paths made of bean properties can be generated. Paths that pass through maps or through
+ * properties declared as {@code Object} depend on runtime values and are left to the generic
+ * traversal, as are paths with properties that do not exist or are served by compile-time
+ * accessor tables.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PathAccessorGenerator {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final String CLASS_NAME =
+            PathAccessor.class.getPackageName().replace('.', '/') + "/GeneratedPathAccessor";
+
+    /**
+     * Marks the paths that cannot be generated in the cache, which cannot hold null values.
+     */
+    private static final Object NOT_GENERATED = new Object();
+
+    /**
+     * The accessors per root class and path, or {@link #NOT_GENERATED}
+     */
+    private static final ClassValue<ConcurrentMap<String, Object>> CACHE = new ClassValue<>() {
+        @Override
+        protected ConcurrentMap<String, Object> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final MethodHandles.Lookup lookup = MethodHandles.lookup();
+    private static final byte[] classBytes = new PathAccessorClassWriter(CLASS_NAME).write();
+    private static final MethodHandle NON_NULL;
+    private static final MethodHandle NEW_INSTANCE;
+    private static final MethodHandle SET_VALUE;
+    private static final MethodHandle CHECK_VALUE_TYPE;
+
+    static {
+        try {
+            NON_NULL = lookup.findStatic(Objects.class, "nonNull", MethodType.methodType(boolean.class, Object.class));
+            NEW_INSTANCE =
+                    lookup.findVirtual(PropertyMetadata.class, "newInstance", MethodType.methodType(Object.class));
+            SET_VALUE = lookup.findVirtual(
+                    PropertyMetadata.class, "setValue", MethodType.methodType(void.class, Object.class, Object.class));
+            CHECK_VALUE_TYPE = lookup.findVirtual(
+                            PropertyOperations.class,
+                            "checkValueType",
+                            MethodType.methodType(Object.class, Class.class, Object.class))
+                    .bindTo(new PropertyOperations());
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Returns the cached accessor for a path on roots of the given class, generating it on first use.
+     *
+     * @param rootClass The exact class of the root objects
+     * @param path      The dot-notation path, used as the cache key
+     * @param segments  The validated path segments
+     * @return The accessor, or null if the path cannot be generated for this class
+     */
+    public static PathAccessor forPath(Class<?> rootClass, String path, String[] segments) {
+        ConcurrentMap<String, Object> accessors = CACHE.get(rootClass);
+        Object accessor = accessors.get(path);
+        if (accessor == null) {
+            accessor = accessors.computeIfAbsent(path, k -> generate(rootClass, segments));
+        }
+        return accessor instanceof PathAccessor generated ? generated : null;
+    }
+
+    /**
+     * Generates the accessor for a path.
+     *
+     * @return The accessor, or {@link #NOT_GENERATED} if the path cannot be generated
+     */
+    private static Object generate(Class<?> rootClass, String[] segments) {
+        try {
+            MethodHandle[] handles = createHandles(rootClass, segments);
+            if (handles == null) {
+                return NOT_GENERATED;
+            }
+            MethodHandles.Lookup hidden = lookup.defineHiddenClassWithClassData(classBytes, List.of(handles), true);
+            return (PathAccessor) hidden.findConstructor(hidden.lookupClass(), MethodType.methodType(void.class))
+                    .invoke();
+        } catch (Throwable e) {
+            if (e instanceof Error error && !(e instanceof LinkageError)) {
+                throw error;
+            }
+            return NOT_GENERATED;
+        }
+    }
+
+    /**
+     * Composes the getter and setter handles for the whole path.
+     *
+     * @return The {@code (Object)Object} getter and {@code (Object, Object)void} setter, or null if
+     *         the path cannot be generated
+     */
+    private static MethodHandle[] createHandles(Class<?> rootClass, String[] segments) throws Exception {
+        if (!ClassMetadata.isBeanType(rootClass)) {
+            return null;
+        }
+
+        MethodHandle chain = MethodHandles.identity(rootClass);
+        Class<?> current = rootClass;
+        for (int i = 0; i < segments.length - 1; i++) {
+            PropertyMetadata property = ClassMetadata.of(current).getProperty(segments[i]);
+            if (!isReflective(property) || !ClassMetadata.isBeanType(property.getType())) {
+                return null;
+            }
+            chain = MethodHandles.filterReturnValue(chain, getOrCreate(current, property));
+            current = property.getType();
+        }
+
+        PropertyMetadata leaf = ClassMetadata.of(current).getProperty(segments[segments.length - 1]);
+        if (!isReflective(leaf)) {
+            return null;
+        }
+
+        MethodHandle getter = MethodHandles.filterReturnValue(chain, getter(current, leaf));
+        // Values are checked against the declared type as by the generic write, before any
+        // intermediate object is created
+        MethodHandle setter =
+                MethodHandles.filterArguments(setter(current, leaf), 0, chain).asType(SETTER_TYPE);
+        setter = MethodHandles.filterArguments(
+                setter, 1, MethodHandles.insertArguments(CHECK_VALUE_TYPE, 0, leaf.getType()));
+        return new MethodHandle[] {getter.asType(GETTER_TYPE), setter};
+    }
+
+    /**
+     * Builds {@code (C)T}: reads the property and, if it is null, creates, stores and returns a new
+     * instance, mirroring {@code PathTraverser.traversePathAndCreateIfNeeded}.
+     */
+    private static MethodHandle getOrCreate(Class<?> owner, PropertyMetadata property) throws Exception {
+        Class<?> type = property.getType();
+
+        // (C, T)T: store the new instance and return it
+        MethodHandle setAndReturn = MethodHandles.foldArguments(
+                MethodHandles.dropArguments(MethodHandles.identity(type), 0, owner), setter(owner, property));
+        // (C)T: create a new instance and store it
+        MethodHandle createAndSet = MethodHandles.collectArguments(setAndReturn, 1, creator(property));
+
+        // (T, C)T: keep the current value unless it is null
+        MethodHandle orCreate = MethodHandles.guardWithTest(
+                MethodHandles.dropArguments(NON_NULL.asType(MethodType.methodType(boolean.class, type)), 1, owner),
+                MethodHandles.dropArguments(MethodHandles.identity(type), 1, owner),
+                MethodHandles.dropArguments(createAndSet, 0, type));
+
+        return MethodHandles.foldArguments(orCreate, getter(owner, property));
+    }
+
+    /**
+     * Builds {@code (C)T} reading the property.
+     */
+    private static MethodHandle getter(Class<?> owner, PropertyMetadata property) throws IllegalAccessException {
+        MethodHandle getter = property.getGetter() != null
+                ? lookup.unreflect(property.getGetter())
+                : lookup.unreflectGetter(property.getField());
+        return getter.asType(MethodType.methodType(property.getType(), owner));
+    }
+
+    /**
+     * Builds {@code (C, T)void} writing the property, going through the property metadata when it
+     * has no setter or writable field so that the usual read-only error is raised.
+     */
+    private static MethodHandle setter(Class<?> owner, PropertyMetadata property) {
+        MethodType type = MethodType.methodType(void.class, owner, property.getType());
+        try {
+            if (property.getSetter() != null) {
+                return lookup.unreflect(property.getSetter()).asType(type);
+            }
+            if (property.getField() != null) {
+                return lookup.unreflectSetter(property.getField()).asType(type);
+            }
+        } catch (IllegalAccessException e) {
+            // Fall through to the generic write
+        }
+        return SET_VALUE.bindTo(property).asType(type);
+    }
+
+    /**
+     * Builds {@code ()T} creating an intermediate value, going through the property metadata when the
+     * declared type has no usable constructor so that the usual error is raised.
+     */
+    private static MethodHandle creator(PropertyMetadata property) throws IllegalAccessException {
+        MethodType type = MethodType.methodType(property.getType());
+        if (property.getConstructor() != null) {
+            return lookup.unreflectConstructor(property.getConstructor()).asType(type);
+        }
+        return NEW_INSTANCE.bindTo(property).asType(type);
+    }
+
+    /**
+     * Checks whether a property exists and was resolved through reflection. Properties served by a
+     * table generated at compile time are already accessed directly and have no members to unreflect.
+     */
+    private static boolean isReflective(PropertyMetadata property) {
+        return property.getGetter() != null || property.getField() != null;
+    }
+}
@@ -0,0 +1,124 @@
+package io.github.rmkane.dotpath.internal.access;
+
+/**
+ * Reads and writes a single resolved property of a class.
+ *
+ * <p>The primitive methods box through {@link #get(Object)} and {@link #set(Object, Object)} by
+ * default. Engines override them for primitive properties so that reads and writes of the matching
+ * (or an exactly widened) primitive type do not allocate. Conversions never lose information:
+ * values that do not fit the requested type, such as a fractional {@code double} read as an
+ * {@code int}, are rejected.</p>
+ */
+public interface PropertyAccessor {
+    /**
+     * Reads the property from an object.
+     *
+     * @param target The object to read from
+     * @return The property value
+     * @throws Exception if the property cannot be read
+     */
+    Object get(Object target) throws Exception;
+
+    /**
+     * Writes the property on an object.
+     *
+     * @param target The object to write to
+     * @param value  The value to write
+     * @throws Exception if the property cannot be written
+     */
+    void set(Object target, Object value) throws Exception;
+
+    /**
+     * Reads a numeric property as an {@code int}, converting other numeric types only if no
+     * information is lost.
+     *
+     * @param target The object to read from
+     * @return The property value
+     * @throws Exception if the property cannot be read, is not a non-null number, or does not fit
+     *                   the type
+     */
+    default int getInt(Object target) throws Exception {
+        return Accessors.toInt(get(target));
+    }
+
+    /**
+     * Reads a numeric property as a {@code long}, converting other numeric types only if no
+     * information is lost.
+     *
+     * @param target The object to read from
+     * @return The property value
+     * @throws Exception if the property cannot be read, is not a non-null number, or does not fit
+     *                   the type
+     */
+    default long getLong(Object target) throws Exception {
+        return Accessors.toLong(get(target));
+    }
+
+    /**
+     * Reads a numeric property as a {@code double}, converting other numeric types only if no
+     * information is lost.
+     *
+     * @param target The object to read from
+     * @return The property value
+     * @throws Exception if the property cannot be read, is not a non-null number, or does not fit
+     *                   the type
+     */
+    default double getDouble(Object target) throws Exception {
+        return Accessors.toDouble(get(target));
+    }
+
+    /**
+     * Reads a boolean property.
+     *
+     * @param target The object to read from
+     * @return The property value
+     * @throws Exception if the property cannot be read or is not a non-null boolean
+     */
+    default boolean getBoolean(Object target) throws Exception {
+        return Accessors.toBoolean(get(target));
+    }
+
+    /**
+     * Writes an {@code int} to a property whose type accepts it.
+     *
+     * @param target The object to write to
+     * @param value  The value to write
+     * @throws Exception if the property cannot be written
+     */
+    default void setInt(Object target, int value) throws Exception {
+        set(target, value);
+    }
+
+    /**
+     * Writes a {@code long} to a property whose type accepts it.
+     *
+     * @param target The object to write to
+     * @param value  The value to write
+     * @throws Exception if the property cannot be written
+     */
+    default void setLong(Object target, long value) throws Exception {
+        set(target, value);
+    }
+
+    /**
+     * Writes a {@code double} to a property whose type accepts it.
+     *
+     * @param target The object to write to
+     * @param value  The value to write
+     * @throws Exception if the property cannot be written
+     */
+    default void setDouble(Object target, double value) throws Exception {
+        set(target, value);
+    }
+
+    /**
+     * Writes a {@code boolean} to a property whose type accepts it.
+     *
+     * @param target The object to write to
+     * @param value  The value to write
+     * @throws Exception if the property cannot be written
+     */
+    default void setBoolean(Object target, boolean value) throws Exception {
+        set(target, value);
+    }
+}
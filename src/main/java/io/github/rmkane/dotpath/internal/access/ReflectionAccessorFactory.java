@@ -0,0 +1,143 @@
+package io.github.rmkane.dotpath.internal.access;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import io.github.rmkane.dotpath.internal.metadata.PropertyMetadata;
+
+/**
+ * Creates accessors backed by {@link Method#invoke} and {@link Field#get}. Always succeeds and is
+ * the final fallback of every other engine.
+ *
+ * <p>Primitive fields accessed without a getter or setter use the unboxed {@link Field} methods,
+ * such as {@link Field#getInt(Object)}.</p>
+ */
+final class ReflectionAccessorFactory implements AccessorFactory {
+    @Override
+    public PropertyAccessor create(PropertyMetadata property) {
+        return new ReflectionAccessor(property);
+    }
+
+    private static final class ReflectionAccessor implements PropertyAccessor {
+        private final PropertyMetadata property;
+        private final Method getter;
+        private final Method setter;
+        private final Field field;
+
+        private ReflectionAccessor(PropertyMetadata property) {
+            this.property = property;
+            this.getter = property.getGetter();
+            this.setter = property.getSetter();
+            this.field = property.getField();
+        }
+
+        @Override
+        public Object get(Object target) throws Exception {
+            if (getter != null) {
+                return getter.invoke(target);
+            }
+            return field.get(target);
+        }
+
+        @Override
+        public void set(Object target, Object value) throws Exception {
+            if (setter != null) {
+                setter.invoke(target, value);
+            } else if (field != null) {
+                field.set(target, value);
+            } else {
+                throw Accessors.readOnly(property.getName(), property.getOwnerType());
+            }
+        }
+
+        @Override
+        public int getInt(Object target) throws Exception {
+            if (isPrimitiveRead()) {
+                try {
+                    return field.getInt(target);
+                } catch (IllegalArgumentException e) {
+                    // Not widening to int, convert the boxed value instead
+                }
+            }
+            return PropertyAccessor.super.getInt(target);
+        }
+
+        @Override
+        public long getLong(Object target) throws Exception {
+            if (isPrimitiveRead()) {
+                try {
+                    return field.getLong(target);
+                } catch (IllegalArgumentException e) {
+                    // Not widening to long, convert the boxed value instead
+                }
+            }
+            return PropertyAccessor.super.getLong(target);
+        }
+
+        @Override
+        public double getDouble(Object target) throws Exception {
+            if (isPrimitiveRead() && field.getType() == long.class) {
+                return Accessors.toDouble(field.getLong(target));
+            }
+            if (isPrimitiveRead()) {
+                try {
+                    return field.getDouble(target);
+                } catch (IllegalArgumentException e) {
+                    // Not widening to double, convert the boxed value instead
+                }
+            }
+            return PropertyAccessor.super.getDouble(target);
+        }
+
+        @Override
+        public boolean getBoolean(Object target) throws Exception {
+            return isPrimitiveRead() && field.getType() == boolean.class
+                    ? field.getBoolean(target)
+                    : PropertyAccessor.super.getBoolean(target);
+        }
+
+        @Override
+        public void setInt(Object target, int value) throws Exception {
+            if (isPrimitiveWrite()) {
+                field.setInt(target, value);
+            } else {
+                PropertyAccessor.super.setInt(target, value);
+            }
+        }
+
+        @Override
+        public void setLong(Object target, long value) throws Exception {
+            if (isPrimitiveWrite()) {
+                field.setLong(target, value);
+            } else {
+                PropertyAccessor.super.setLong(target, value);
+            }
+        }
+
+        @Override
+        public void setDouble(Object target, double value) throws Exception {
+            if (isPrimitiveWrite()) {
+                field.setDouble(target, value);
+            } else {
+                PropertyAccessor.super.setDouble(target, value);
+            }
+        }
+
+        @Override
+        public void setBoolean(Object target, boolean value) throws Exception {
+            if (isPrimitiveWrite()) {
+                field.setBoolean(target, value);
+            } else {
+                PropertyAccessor.super.setBoolean(target, value);
+            }
+        }
+
+        private boolean isPrimitiveRead() {
+            return getter == null && field.getType().isPrimitive();
+        }
+
+        private boolean isPrimitiveWrite() {
+            return setter == null && field != null && field.getType().isPrimitive();
+        }
+    }
+}
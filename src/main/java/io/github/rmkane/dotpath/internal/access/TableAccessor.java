@@ -0,0 +1,48 @@
+package io.github.rmkane.dotpath.internal.access;
+
+import io.github.rmkane.dotpath.spi.AccessorTable;
+
+/**
+ * Accesses a property through an {@link AccessorTable} generated at compile time, without any
+ * reflection.
+ */
+public final class TableAccessor implements PropertyAccessor {
+    private final AccessorTable table;
+    private final int index;
+    private final String name;
+    private final boolean writable;
+
+    /**
+     * @param table The generated table of the owner class
+     * @param index The index of the property in the table
+     * @param name  The property name, used in error messages
+     */
+    public TableAccessor(AccessorTable table, int index, String name) {
+        this.table = table;
+        this.index = index;
+        this.name = name;
+        this.writable = table.isWritable(index);
+    }
+
+    @Override
+    public Object get(Object target) {
+        return table.get(target, index);
+    }
+
+    @Override
+    public void set(Object target, Object value) throws Exception {
+        if (!writable) {
+            throw Accessors.readOnly(name, table.type());
+        }
+        table.set(target, index, value);
+    }
+
+    /**
+     * Creates a new instance of the declared property type.
+     *
+     * @return The new instance, or null if the table cannot create one
+     */
+    public Object newInstance() {
+        return table.newInstance(index);
+    }
+}
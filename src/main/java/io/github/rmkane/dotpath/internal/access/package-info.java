@@ -0,0 +1,15 @@
+/**
+ * Accessor engines that read and write resolved properties.
+ *
+ * <p>This package provides:</p>
+ * <ul>
+ *   <li>{@code Accessors} - Creates accessors for the selected engine with fallback</li>
+ *   <li>{@code PropertyAccessor} - Reads and writes a single property</li>
+ *   <li>Reflection, method handle and lambda metafactory based implementations</li>
+ *   <li>{@code PathAccessorGenerator} - Generates hidden classes that access a whole path at once</li>
+ *   <li>{@code AccessorTables} - Finds accessor tables generated at compile time</li>
+ * </ul>
+ *
+ * @see io.github.rmkane.dotpath.api.AccessorEngine
+ */
+package io.github.rmkane.dotpath.internal.access;
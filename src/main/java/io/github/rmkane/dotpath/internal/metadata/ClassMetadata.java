@@ -0,0 +1,284 @@
+package io.github.rmkane.dotpath.internal.metadata;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.github.rmkane.dotpath.api.DotPathException;
+import io.github.rmkane.dotpath.internal.access.AccessorTables;
+import io.github.rmkane.dotpath.internal.access.TableAccessor;
+import io.github.rmkane.dotpath.spi.AccessorTable;
+
+/**
+ * Per-class cache of {@link PropertyMetadata}. Instances are attached to their class through a
+ * {@link ClassValue}, so the cache does not prevent classes (or their class loaders) from being
+ * unloaded. Each property is resolved at most once per class, including properties that turn out
+ * not to exist.
+ *
+ * <p>Classes with an accessor table generated at compile time are resolved from the table without
+ * reflection. Properties missing from the table fall back to reflection.</p>
+ */
+public final class ClassMetadata {
+    private static final ClassValue<ClassMetadata> CACHE = new ClassValue<>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            return new ClassMetadata(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final ConcurrentMap<String, PropertyMetadata> properties = new ConcurrentHashMap<>();
+
+    /**
+     * All readable properties, listed on first use, see {@link #getProperties()}
+     */
+    private volatile PropertyMetadata[] readableProperties;
+
+    private ClassMetadata(Class<?> type) {
+        this.type = type;
+    }
+
+    /**
+     * Returns the cached metadata for a class.
+     *
+     * @param type The class to look up
+     * @return The metadata for the class
+     */
+    public static ClassMetadata of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    /**
+     * Checks whether values of a declared type are always accessed as beans. Primitives, arrays,
+     * collections, maps and types that may hold a map at runtime are resolved against the runtime
+     * values instead.
+     *
+     * @param type The declared type
+     * @return true if the properties of the type can be resolved statically
+     */
+    public static boolean isBeanType(Class<?> type) {
+        return !type.isPrimitive()
+                && !type.isArray()
+                && !Map.class.isAssignableFrom(type)
+                && !Collection.class.isAssignableFrom(type)
+                && !type.isAssignableFrom(HashMap.class);
+    }
+
+    /**
+     * Returns the class this metadata describes.
+     *
+     * @return The described class
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Returns the metadata for a property, resolving it on first use. The returned metadata may
+     * describe a property that does not exist, see {@link PropertyMetadata#exists()}.
+     *
+     * @param name The property name
+     * @return The property metadata, never null
+     */
+    public PropertyMetadata getProperty(String name) {
+        PropertyMetadata property = properties.get(name);
+        if (property == null) {
+            property = properties.computeIfAbsent(name, this::resolve);
+        }
+        return property;
+    }
+
+    /**
+     * Returns the metadata for a property that must exist.
+     *
+     * @param name The property name
+     * @return The property metadata
+     * @throws DotPathException if the class has neither a getter nor a field for the property
+     */
+    public PropertyMetadata getExistingProperty(String name) throws DotPathException {
+        PropertyMetadata property = getProperty(name);
+        if (!property.exists()) {
+            throw new DotPathException("Property '%s' not found in class %s".formatted(name, type.getName()));
+        }
+        return property;
+    }
+
+    /**
+     * Returns all readable properties of the class: its instance fields, from the topmost superclass
+     * down, followed by the properties of public getters without a field. Concurrent first uses may
+     * list the properties more than once, which is harmless.
+     *
+     * @return The readable properties, shared and not to be modified
+     */
+    public PropertyMetadata[] getProperties() {
+        PropertyMetadata[] result = readableProperties;
+        if (result == null) {
+            result = listProperties();
+            readableProperties = result;
+        }
+        return result;
+    }
+
+    private PropertyMetadata[] listProperties() {
+        Set<String> names = new LinkedHashSet<>();
+        List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            hierarchy.add(0, current);
+        }
+        for (Class<?> current : hierarchy) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                    names.add(field.getName());
+                }
+            }
+        }
+        for (Method method : type.getMethods()) {
+            String name = method.getName();
+            int prefix = name.startsWith("get") ? 3 : name.startsWith("is") ? 2 : 0;
+            if (prefix > 0
+                    && name.length() > prefix
+                    && method.getParameterCount() == 0
+                    && method.getDeclaringClass() != Object.class
+                    && !Modifier.isStatic(method.getModifiers())) {
+                names.add(Character.toLowerCase(name.charAt(prefix)) + name.substring(prefix + 1));
+            }
+        }
+
+        List<PropertyMetadata> result = new ArrayList<>(names.size());
+        for (String name : names) {
+            PropertyMetadata property = getProperty(name);
+            if (property.exists()) {
+                result.add(property);
+            }
+        }
+        return result.toArray(PropertyMetadata[]::new);
+    }
+
+    private PropertyMetadata resolve(String name) {
+        AccessorTable table = AccessorTables.forClass(type);
+        int index = table != null ? table.indexOf(name) : -1;
+        if (index >= 0) {
+            return new PropertyMetadata(
+                    type,
+                    name,
+                    null,
+                    null,
+                    null,
+                    table.propertyType(index),
+                    null,
+                    new TableAccessor(table, index, name));
+        }
+
+        String suffix = capitalize(name);
+        Field field = findField(name);
+        Method getter = findGetter("get" + suffix);
+        if (getter == null) {
+            Method isGetter = findGetter("is" + suffix);
+            if (isGetter != null
+                    && (isGetter.getReturnType() == boolean.class || isGetter.getReturnType() == Boolean.class)) {
+                getter = isGetter;
+            }
+        }
+
+        Class<?> propertyType = getter != null ? getter.getReturnType() : field != null ? field.getType() : null;
+        Method setter = propertyType != null ? findSetter("set" + suffix, propertyType) : null;
+        Constructor<?> constructor = propertyType != null ? findConstructor(propertyType) : null;
+
+        return new PropertyMetadata(type, name, getter, setter, field, propertyType, constructor, null);
+    }
+
+    private Method findGetter(String name) {
+        try {
+            Method method = type.getMethod(name);
+            if (Modifier.isStatic(method.getModifiers()) || method.getReturnType() == void.class) {
+                return null;
+            }
+            method.trySetAccessible();
+            return method;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Finds a public setter for a property, preferring one that accepts exactly the declared type,
+     * then one that accepts its boxed or primitive counterpart, then one that accepts a supertype.
+     */
+    private Method findSetter(String name, Class<?> propertyType) {
+        Class<?> boxedType = MethodType.methodType(propertyType).wrap().returnType();
+        Method best = null;
+        int bestRank = Integer.MAX_VALUE;
+        for (Method method : type.getMethods()) {
+            if (!method.getName().equals(name)
+                    || method.getParameterCount() != 1
+                    || Modifier.isStatic(method.getModifiers())) {
+                continue;
+            }
+            Class<?> parameterType = method.getParameterTypes()[0];
+            Class<?> boxedParameterType =
+                    MethodType.methodType(parameterType).wrap().returnType();
+            int rank = parameterType == propertyType
+                    ? 0
+                    : boxedParameterType == boxedType ? 1 : parameterType.isAssignableFrom(boxedType) ? 2 : -1;
+            if (rank >= 0 && rank < bestRank) {
+                best = method;
+                bestRank = rank;
+            }
+        }
+        if (best != null) {
+            best.trySetAccessible();
+        }
+        return best;
+    }
+
+    /**
+     * Finds the instance field of a property, searching up the superclass chain past static or
+     * inaccessible fields of the same name.
+     */
+    private Field findField(String name) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            try {
+                Field field = current.getDeclaredField(name);
+                if (!Modifier.isStatic(field.getModifiers()) && field.trySetAccessible()) {
+                    return field;
+                }
+            } catch (NoSuchFieldException e) {
+                // Continue with the superclass
+            }
+        }
+        return null;
+    }
+
+    private static Constructor<?> findConstructor(Class<?> propertyType) {
+        if (propertyType.isInterface() || Modifier.isAbstract(propertyType.getModifiers())) {
+            if (Map.class.isAssignableFrom(propertyType) && propertyType.isAssignableFrom(HashMap.class)) {
+                return findConstructor(HashMap.class);
+            }
+            if (Collection.class.isAssignableFrom(propertyType) && propertyType.isAssignableFrom(ArrayList.class)) {
+                return findConstructor(ArrayList.class);
+            }
+            return null;
+        }
+        try {
+            Constructor<?> constructor = propertyType.getDeclaredConstructor();
+            return constructor.trySetAccessible() ? constructor : null;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static String capitalize(String s) {
+        return s.isEmpty() ? s : Character.toUpperCase(s.charAt(0)) + s.substring(1);
+    }
+}
@@ -0,0 +1,228 @@
+package io.github.rmkane.dotpath.internal.metadata;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+
+import io.github.rmkane.dotpath.api.AccessorEngine;
+import io.github.rmkane.dotpath.api.DotPathException;
+import io.github.rmkane.dotpath.api.DotPathSettings;
+import io.github.rmkane.dotpath.internal.access.Accessors;
+import io.github.rmkane.dotpath.internal.access.PropertyAccessor;
+import io.github.rmkane.dotpath.internal.access.TableAccessor;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Reflective metadata for a single property of a class. The getter, setter, backing field, declared
+ * type and the constructor used to create intermediate values are resolved once by
+ * {@link ClassMetadata} and reused for every access.
+ *
+ * <p>Any of the members may be {@code null} when the class does not declare them. A property that
+ * has neither a getter nor a field does not exist, see {@link #exists()}.</p>
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public final class PropertyMetadata {
+    /**
+     * The class the property was resolved against
+     */
+    private final Class<?> ownerType;
+
+    /**
+     * The name of the property
+     */
+    private final String name;
+
+    /**
+     * The public no-argument getter, if any
+     */
+    private final Method getter;
+
+    /**
+     * The public single-argument setter accepting the declared type, if any
+     */
+    private final Method setter;
+
+    /**
+     * The backing field, if any, already made accessible
+     */
+    private final Field field;
+
+    /**
+     * The declared type of the property, taken from the getter or else the field
+     */
+    private final Class<?> type;
+
+    /**
+     * The no-argument constructor used to create intermediate values of the declared type, if any
+     */
+    private final Constructor<?> constructor;
+
+    /**
+     * The accessor backed by a table generated at compile time, if any. When present, it is used
+     * instead of the selected engine and the reflective members above are not resolved.
+     */
+    private final TableAccessor tableAccessor;
+
+    /**
+     * Accessors created so far, indexed by {@link AccessorEngine#ordinal()}
+     */
+    @Getter(AccessLevel.NONE)
+    private final PropertyAccessor[] accessors = new PropertyAccessor[AccessorEngine.values().length];
+
+    /**
+     * The variable handle of the backing field, created on first use
+     */
+    @Getter(AccessLevel.NONE)
+    private final VarHandle[] fieldHandle = new VarHandle[1];
+
+    /**
+     * Checks whether the property can be read.
+     *
+     * @return true if the class declares a getter or a field for the property, or its generated
+     *         accessor table contains the property
+     */
+    public boolean exists() {
+        return tableAccessor != null || getter != null || field != null;
+    }
+
+    /**
+     * Returns the generated table accessor if there is one, or else the accessor for the engine
+     * selected in {@link DotPathSettings}, creating it on first use. Concurrent first uses may create the accessor more than once, which is harmless.
+     *
+     * @return The property accessor
+     */
+    public PropertyAccessor getAccessor() {
+        if (tableAccessor != null) {
+            return tableAccessor;
+        }
+
+        AccessorEngine engine = DotPathSettings.getAccessorEngine();
+        PropertyAccessor accessor = accessors[engine.ordinal()];
+        if (accessor == null) {
+            accessor = Accessors.create(this, engine);
+            accessors[engine.ordinal()] = accessor;
+        }
+        return accessor;
+    }
+
+    /**
+     * Reads the property from an object, preferring the getter over the field.
+     *
+     * @param target The object to read from
+     * @return The property value
+     * @throws Exception if the getter or field cannot be accessed
+     */
+    public Object getValue(Object target) throws Exception {
+        return getAccessor().get(target);
+    }
+
+    /**
+     * Writes the property on an object, preferring the setter over the field.
+     *
+     * @param target The object to write to
+     * @param value  The value to write
+     * @throws Exception if the setter or field cannot be accessed, or the property is read-only
+     */
+    public void setValue(Object target, Object value) throws Exception {
+        getAccessor().set(target, value);
+    }
+
+    /**
+     * Writes the property on an object if it is currently null, atomically with respect to other
+     * calls of this method on the same object and property.
+     *
+     * <p>Properties with a backing field are updated with a compare-and-exchange on the field, which
+     * bypasses the setter. Other properties are read and written under the monitor of the object.</p>
+     *
+     * @param target The object to write to
+     * @param value  The value to write if the property is null
+     * @return The value of the property afterwards: {@code value} if it was written, or else the
+     *         value written first by another thread
+     * @throws Exception if the property cannot be accessed, or is read-only
+     */
+    public Object setIfNull(Object target, Object value) throws Exception {
+        VarHandle handle = getVarHandle();
+        if (handle != null && !type.isPrimitive()) {
+            Object witness = handle.compareAndExchange(target, (Object) null, value);
+            return witness != null ? witness : value;
+        }
+
+        synchronized (target) {
+            Object current = getValue(target);
+            if (current != null) {
+                return current;
+            }
+            setValue(target, value);
+            return value;
+        }
+    }
+
+    /**
+     * Returns a variable handle for the backing field, for atomic updates. Atomic updates through the
+     * handle bypass the getter and setter.
+     *
+     * @return The handle, or null if the property has no backing field, its field is final or is
+     *         not of the declared type, or it is served by a generated accessor table
+     */
+    public VarHandle getVarHandle() {
+        if (field == null
+                || field.getType() != type
+                || Modifier.isFinal(field.getModifiers())
+                || tableAccessor != null) {
+            return null;
+        }
+
+        VarHandle handle = fieldHandle[0];
+        if (handle == null) {
+            try {
+                MethodHandles.Lookup lookup =
+                        MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+                handle = lookup.unreflectVarHandle(field);
+            } catch (IllegalAccessException e) {
+                return null;
+            }
+            fieldHandle[0] = handle;
+        }
+        return handle;
+    }
+
+    /**
+     * Returns the declared type of the property with its type arguments, taken from the getter or
+     * else the field.
+     *
+     * @return The generic type, or the declared type if the property is served by a generated
+     *         accessor table
+     */
+    public Type getGenericType() {
+        if (getter != null) {
+            return getter.getGenericReturnType();
+        }
+        return field != null ? field.getGenericType() : type;
+    }
+
+    /**
+     * Creates a new instance of the declared type to use as an intermediate value.
+     *
+     * @return The new instance
+     * @throws ReflectiveOperationException if the constructor cannot be invoked
+     * @throws DotPathException             if the declared type has no usable no-argument constructor
+     */
+    public Object newInstance() throws ReflectiveOperationException, DotPathException {
+        if (constructor == null) {
+            Object instance = tableAccessor != null ? tableAccessor.newInstance() : null;
+            if (instance != null) {
+                return instance;
+            }
+            throw new DotPathException("Cannot instantiate %s for property '%s' in class %s"
+                    .formatted(type.getName(), name, ownerType.getName()));
+        }
+        return constructor.newInstance();
+    }
+}
@@ -0,0 +1,13 @@
+/**
+ * Caches reflective metadata about the classes reached while traversing property paths.
+ *
+ * <p>This package provides:</p>
+ * <ul>
+ *   <li>{@code ClassMetadata} - Per-class cache keyed through a {@link java.lang.ClassValue}</li>
+ *   <li>{@code PropertyMetadata} - The getter, setter, field, declared type and constructor of a property</li>
+ * </ul>
+ *
+ * <p>Property operations, type resolution and path traversal all share this cache, so each
+ * property of a class is looked up through reflection only once.</p>
+ */
+package io.github.rmkane.dotpath.internal.metadata;
@@ -0,0 +1,235 @@
+package io.github.rmkane.dotpath.internal.operations;
+
+import java.lang.invoke.VarHandle;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+import io.github.rmkane.dotpath.api.DotPathException;
+import io.github.rmkane.dotpath.internal.TypeResolver;
+import io.github.rmkane.dotpath.internal.metadata.ClassMetadata;
+import io.github.rmkane.dotpath.internal.metadata.PropertyMetadata;
+
+/**
+ * Handles atomic updates of a property of an object that has already been traversed to.
+ *
+ * <p>Bean properties with a backing field are updated through the {@link VarHandle} of the field,
+ * with a compare-and-set loop where the handle has no native operation. Other bean properties are
+ * updated under the monitor of their parent. Map entries are updated with the atomic methods of
+ * {@link Map}, which are only atomic for concurrent maps. Elements of Lists and arrays are updated
+ * under the monitor of the List or array.</p>
+ */
+public class AtomicOperations {
+    private final MapOperations mapOperations = new MapOperations();
+    private final IndexOperations indexOperations = new IndexOperations();
+    private final TypeResolver typeResolver = new TypeResolver();
+
+    /**
+     * Sets a property to a new value if its current value equals the expected one, comparing with
+     * {@link Objects#equals(Object, Object)}. Numbers are converted to the type of numeric
+     * properties first.
+     *
+     * @param parent   The object holding the property
+     * @param name     The property name or map key
+     * @param expected The expected current value
+     * @param update   The new value
+     * @return true if the property was updated
+     * @throws Exception if the property is missing or the values are not of its type
+     */
+    public boolean compareAndSet(Object parent, String name, Object expected, Object update) throws Exception {
+        if (mapOperations.isMap(parent)) {
+            Map<String, Object> map = mapOperations.asMap(parent);
+            return expected == null ? map.putIfAbsent(name, update) == null : map.replace(name, expected, update);
+        }
+
+        int index = IndexOperations.parseIndex(name);
+        if (index >= 0) {
+            synchronized (parent) {
+                if (!Objects.equals(currentElement(parent, index), expected)) {
+                    return false;
+                }
+                indexOperations.setElement(parent, index, update);
+                return true;
+            }
+        }
+
+        PropertyMetadata property = ClassMetadata.of(parent.getClass()).getExistingProperty(name);
+        Function<Number, Object> converter = typeResolver.getNumberConverter(property.getType());
+        if (converter != null) {
+            expected = expected instanceof Number number ? converter.apply(number) : expected;
+            update = update instanceof Number number ? converter.apply(number) : update;
+        }
+
+        VarHandle handle = property.getVarHandle();
+        if (handle == null) {
+            synchronized (parent) {
+                if (!Objects.equals(property.getValue(parent), expected)) {
+                    return false;
+                }
+                property.setValue(parent, update);
+                return true;
+            }
+        }
+        if (property.getType().isPrimitive()) {
+            // Primitive handles compare values
+            return expected != null && handle.compareAndSet(parent, expected, update);
+        }
+        while (true) {
+            Object current = handle.getVolatile(parent);
+            if (!Objects.equals(current, expected)) {
+                return false;
+            }
+            // Reference handles compare identities, so retry with the instance that was read
+            if (handle.compareAndSet(parent, current, update)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Adds to an integral property and returns its previous value. Null and missing values count
+     * as zero.
+     *
+     * @param parent The object holding the property
+     * @param name   The property name or map key
+     * @param delta  The value to add
+     * @return The previous value
+     * @throws Exception if the property is missing or not an integral number
+     */
+    public long getAndAdd(Object parent, String name, long delta) throws Exception {
+        if (mapOperations.isMap(parent)) {
+            long[] previous = new long[1];
+            mapOperations.asMap(parent).compute(name, (key, value) -> {
+                previous[0] = toLong(value, name);
+                return add(value, delta);
+            });
+            return previous[0];
+        }
+
+        int index = IndexOperations.parseIndex(name);
+        if (index >= 0) {
+            synchronized (parent) {
+                Object current = currentElement(parent, index);
+                indexOperations.setElement(parent, index, add(current, delta));
+                return toLong(current, name);
+            }
+        }
+
+        PropertyMetadata property = ClassMetadata.of(parent.getClass()).getExistingProperty(name);
+        Class<?> type = typeResolver.getWrapperType(property.getType());
+        if (type != Integer.class && type != Long.class && type != Short.class && type != Byte.class) {
+            throw new DotPathException("Property '%s' of type %s is not an integral number"
+                    .formatted(name, property.getType().getName()));
+        }
+
+        VarHandle handle = property.getVarHandle();
+        if (handle == null) {
+            synchronized (parent) {
+                Object current = property.getValue(parent);
+                property.setValue(parent, add(current, delta, type));
+                return toLong(current, name);
+            }
+        }
+        if (property.getType() == int.class) {
+            return (int) handle.getAndAdd(parent, Math.toIntExact(delta));
+        }
+        if (property.getType() == long.class) {
+            return (long) handle.getAndAdd(parent, delta);
+        }
+        while (true) {
+            Object current = handle.getVolatile(parent);
+            if (handle.compareAndSet(parent, current, add(current, delta, type))) {
+                return toLong(current, name);
+            }
+        }
+    }
+
+    /**
+     * Combines the current value of a property with a value and stores the result, as
+     * {@link Map#merge(Object, Object, java.util.function.BiFunction)} does: null and missing values
+     * are replaced by the value itself. The accumulator may be called more than once under
+     * contention and should be free of side effects.
+     *
+     * @param parent      The object holding the property
+     * @param name        The property name or map key
+     * @param value       The value to combine, never null
+     * @param accumulator The function combining the current value and the given value
+     * @param <T>         The type of the values
+     * @return The new value
+     * @throws Exception if the property is missing or the result is not of its type
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T accumulate(Object parent, String name, T value, BinaryOperator<T> accumulator) throws Exception {
+        if (mapOperations.isMap(parent)) {
+            return (T) mapOperations
+                    .asMap(parent)
+                    .merge(name, value, (current, given) -> accumulator.apply((T) current, (T) given));
+        }
+
+        int index = IndexOperations.parseIndex(name);
+        if (index >= 0) {
+            synchronized (parent) {
+                T current = (T) currentElement(parent, index);
+                T next = current == null ? value : accumulator.apply(current, value);
+                indexOperations.setElement(parent, index, next);
+                return next;
+            }
+        }
+
+        PropertyMetadata property = ClassMetadata.of(parent.getClass()).getExistingProperty(name);
+        VarHandle handle = property.getVarHandle();
+        if (handle == null) {
+            synchronized (parent) {
+                T current = (T) property.getValue(parent);
+                T next = current == null ? value : accumulator.apply(current, value);
+                property.setValue(parent, next);
+                return next;
+            }
+        }
+        while (true) {
+            T current = (T) handle.getVolatile(parent);
+            T next = current == null ? value : accumulator.apply(current, value);
+            if (handle.compareAndSet(parent, current, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Returns an element of a List or array, or null if the index is past the end of a List.
+     */
+    private Object currentElement(Object container, int index) throws DotPathException {
+        return container instanceof List<?>
+                ? indexOperations.findElement(container, index, null)
+                : indexOperations.getElement(container, index);
+    }
+
+    /**
+     * Adds to a map value or element, keeping the type of existing values. Missing values are stored
+     * as an Integer when the result fits, or else as a Long.
+     */
+    private Object add(Object value, long delta) {
+        if (value == null) {
+            return delta == (int) delta ? (Object) (int) delta : (Object) delta;
+        }
+        return add(value, delta, value.getClass());
+    }
+
+    private Object add(Object value, long delta, Class<?> type) {
+        long sum = (value != null ? ((Number) value).longValue() : 0) + delta;
+        return typeResolver.getNumberConverter(type).apply(sum);
+    }
+
+    private static long toLong(Object value, String name) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        throw new IllegalArgumentException("Value of '%s' is not an integral number: %s"
+                .formatted(name, value.getClass().getName()));
+    }
+}
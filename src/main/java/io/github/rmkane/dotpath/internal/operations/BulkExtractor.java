@@ -0,0 +1,144 @@
+package io.github.rmkane.dotpath.internal.operations;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import io.github.rmkane.dotpath.api.DotPathException;
+import io.github.rmkane.dotpath.api.UncheckedDotPathException;
+import io.github.rmkane.dotpath.internal.traversal.PropertyChain;
+
+/**
+ * Reads paths from many roots in parallel on the common {@link ForkJoinPool}.
+ *
+ * <p>The roots are split into index ranges until each range is small enough to be worth a task,
+ * and every task writes its values straight into the preallocated result array. Each task resolves
+ * the {@link PropertyChain} of a path once per run of roots of the same class; the property
+ * metadata and accessors underneath are cached per class and shared by all threads.</p>
+ *
+ * <p>Values are read without creating intermediate objects, so the roots are not modified. Null
+ * roots and null intermediate objects give null values.</p>
+ */
+public class BulkExtractor {
+    /**
+     * The smallest number of roots worth a task of its own
+     */
+    private static final int MIN_TASK_SIZE = 1024;
+
+    /**
+     * Number of tasks per worker thread, so that uneven ranges can be balanced by work stealing
+     */
+    private static final int TASKS_PER_THREAD = 4;
+
+    /**
+     * Reads one path from each root.
+     *
+     * @param roots    The root objects, may contain nulls
+     * @param segments The validated path segments
+     * @return The values, at the same indexes as the roots
+     * @throws DotPathException if a key or property is missing or cannot be read on any root
+     */
+    public Object[] extract(Collection<?> roots, String[] segments) throws DotPathException {
+        List<?> list = asRandomAccess(roots);
+        Object[] values = new Object[list.size()];
+        run(new ExtractTask(list, new String[][] {segments}, values, null, 0, list.size()));
+        return values;
+    }
+
+    /**
+     * Reads several paths from each root.
+     *
+     * @param roots The root objects, may contain nulls
+     * @param paths The validated segments of each path
+     * @return One row per root, with the values at the same indexes as the paths
+     * @throws DotPathException if a key or property is missing or cannot be read on any root
+     */
+    public Object[][] extractRows(Collection<?> roots, String[][] paths) throws DotPathException {
+        List<?> list = asRandomAccess(roots);
+        Object[][] rows = new Object[list.size()][];
+        run(new ExtractTask(list, paths, null, rows, 0, list.size()));
+        return rows;
+    }
+
+    private static List<?> asRandomAccess(Collection<?> roots) {
+        return roots instanceof List<?> list && roots instanceof RandomAccess ? list : Arrays.asList(roots.toArray());
+    }
+
+    private static void run(ExtractTask task) throws DotPathException {
+        try {
+            if (task.to - task.from <= MIN_TASK_SIZE) {
+                task.compute();
+            } else {
+                ForkJoinPool.commonPool().invoke(task);
+            }
+        } catch (UncheckedDotPathException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static final class ExtractTask extends RecursiveAction {
+        private final List<?> roots;
+        private final String[][] paths;
+        private final Object[] values;
+        private final Object[][] rows;
+        private final int from;
+        private final int to;
+
+        ExtractTask(List<?> roots, String[][] paths, Object[] values, Object[][] rows, int from, int to) {
+            this.roots = roots;
+            this.paths = paths;
+            this.values = values;
+            this.rows = rows;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            int threshold = Math.max(
+                    MIN_TASK_SIZE, roots.size() / (ForkJoinPool.getCommonPoolParallelism() * TASKS_PER_THREAD));
+            if (to - from > threshold) {
+                int mid = (from + to) >>> 1;
+                invokeAll(
+                        new ExtractTask(roots, paths, values, rows, from, mid),
+                        new ExtractTask(roots, paths, values, rows, mid, to));
+                return;
+            }
+
+            Class<?> chainClass = null;
+            PropertyChain[] chains = new PropertyChain[paths.length];
+            int index = from;
+            try {
+                for (; index < to; index++) {
+                    Object root = roots.get(index);
+                    if (root != null && root.getClass() != chainClass) {
+                        chainClass = root.getClass();
+                        for (int p = 0; p < paths.length; p++) {
+                            chains[p] = PropertyChain.resolve(chainClass, paths[p]);
+                        }
+                    }
+                    if (values != null) {
+                        values[index] = root != null ? read(chains[0], root) : null;
+                    } else {
+                        Object[] row = new Object[paths.length];
+                        for (int p = 0; root != null && p < paths.length; p++) {
+                            row[p] = read(chains[p], root);
+                        }
+                        rows[index] = row;
+                    }
+                }
+            } catch (Exception e) {
+                throw new UncheckedDotPathException(
+                        new DotPathException("Error extracting values from element " + index, e));
+            }
+        }
+
+        private static Object read(PropertyChain chain, Object root) throws Exception {
+            Object value = chain.get(root);
+            return value != PropertyChain.NULL_INTERMEDIATE ? value : null;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package io.github.rmkane.dotpath.internal.operations;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import io.github.rmkane.dotpath.api.DotPathException;
+import io.github.rmkane.dotpath.api.UncheckedDotPathException;
+import io.github.rmkane.dotpath.internal.access.Accessors;
+import io.github.rmkane.dotpath.internal.access.PropertyAccessor;
+import io.github.rmkane.dotpath.internal.traversal.PropertyChain;
+
+/**
+ * Reads paths from many roots into one array per path, in parallel on the common
+ * {@link ForkJoinPool}.
+ *
+ * <p>The array of each path is chosen from the declared type of its leaf on the class of the first
+ * non-null root: {@code int[]} for {@code int}, {@code short}, {@code byte} and their wrappers,
+ * {@code long[]} and {@code double[]} for {@code long}, {@code float} and {@code double} and their
+ * wrappers, {@code boolean[]} for booleans, and {@code Object[]} for every other type or for leaves
+ * only known at runtime. Primitive leaves are read without boxing. Values of later roots, which may
+ * be of another class, are converted to the type of the column only if no information is lost. Null
+ * values, null roots and null intermediate objects are marked in a bitmap of the column, with one
+ * bit per row.</p>
+ *
+ * <p>As with {@link BulkExtractor}, roots are split into index ranges and never modified. Ranges
+ * start at multiples of 64, so that no two tasks write to the same word of a bitmap.</p>
+ */
+public class ColumnProjector {
+    /**
+     * The smallest number of roots worth a task of its own, a multiple of 64
+     */
+    private static final int MIN_TASK_SIZE = 1024;
+
+    /**
+     * Number of tasks per worker thread, so that uneven ranges can be balanced by work stealing
+     */
+    private static final int TASKS_PER_THREAD = 4;
+
+    /**
+     * The columns read from a collection of roots.
+     *
+     * @param size    The number of rows
+     * @param types   The element type of each column: {@code int.class}, {@code long.class},
+     *                {@code double.class}, {@code boolean.class} or {@code Object.class}
+     * @param columns The array holding the values of each column
+     * @param nulls   The bitmap of null rows of each column, with row {@code i} at bit
+     *                {@code i % 64} of word {@code i / 64}
+     */
+    public record Projection(int size, Class<?>[] types, Object[] columns, long[][] nulls) {}
+
+    /**
+     * Reads several paths from each root into columns.
+     *
+     * @param roots The root objects, may contain nulls
+     * @param paths The validated segments of each path
+     * @return The columns, at the same indexes as the paths
+     * @throws DotPathException if a key or property is missing or cannot be read on any root, or a
+     *                          value does not fit the type of its column
+     */
+    public Projection project(Collection<?> roots, String[][] paths) throws DotPathException {
+        List<?> list = roots instanceof List<?> l && roots instanceof RandomAccess ? l : Arrays.asList(roots.toArray());
+        int size = list.size();
+
+        Object first = null;
+        for (int i = 0; i < size && first == null; i++) {
+            first = list.get(i);
+        }
+
+        Class<?>[] types = new Class<?>[paths.length];
+        Object[] columns = new Object[paths.length];
+        long[][] nulls = new long[paths.length][(size + 63) >>> 6];
+        for (int p = 0; p < paths.length; p++) {
+            types[p] = first != null
+                    ? columnType(
+                            PropertyChain.resolve(first.getClass(), paths[p]).getType())
+                    : Object.class;
+            columns[p] = Array.newInstance(types[p], size);
+        }
+
+        ProjectTask task = new ProjectTask(list, paths, types, columns, nulls, 0, size);
+        try {
+            if (size <= MIN_TASK_SIZE) {
+                task.compute();
+            } else {
+                ForkJoinPool.commonPool().invoke(task);
+            }
+        } catch (UncheckedDotPathException e) {
+            throw e.getCause();
+        }
+        return new Projection(size, types, columns, nulls);
+    }
+
+    /**
+     * Returns the element type of the column for a declared leaf type.
+     */
+    private static Class<?> columnType(Class<?> declared) {
+        if (declared == int.class
+                || declared == Integer.class
+                || declared == short.class
+                || declared == Short.class
+                || declared == byte.class
+                || declared == Byte.class) {
+            return int.class;
+        }
+        if (declared == long.class || declared == Long.class) {
+            return long.class;
+        }
+        if (declared == double.class
+                || declared == Double.class
+                || declared == float.class
+                || declared == Float.class) {
+            return double.class;
+        }
+        if (declared == boolean.class || declared == Boolean.class) {
+            return boolean.class;
+        }
+        return Object.class;
+    }
+
+    private static final class ProjectTask extends RecursiveAction {
+        private final List<?> roots;
+        private final String[][] paths;
+        private final Class<?>[] types;
+        private final Object[] columns;
+        private final long[][] nulls;
+        private final int from;
+        private final int to;
+
+        ProjectTask(
+                List<?> roots, String[][] paths, Class<?>[] types, Object[] columns, long[][] nulls, int from, int to) {
+            this.roots = roots;
+            this.paths = paths;
+            this.types = types;
+            this.columns = columns;
+            this.nulls = nulls;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            int threshold = Math.max(
+                    MIN_TASK_SIZE, roots.size() / (ForkJoinPool.getCommonPoolParallelism() * TASKS_PER_THREAD));
+            int mid = ((from + to) >>> 1) & ~63;
+            if (to - from > threshold && mid > from) {
+                invokeAll(
+                        new ProjectTask(roots, paths, types, columns, nulls, from, mid),
+                        new ProjectTask(roots, paths, types, columns, nulls, mid, to));
+                return;
+            }
+
+            Class<?> chainClass = null;
+            PropertyChain[] chains = new PropertyChain[paths.length];
+            PropertyAccessor[] primitiveLeaves = new PropertyAccessor[paths.length];
+            int index = from;
+            try {
+                for (; index < to; index++) {
+                    Object root = roots.get(index);
+                    if (root == null) {
+                        for (long[] bitmap : nulls) {
+                            bitmap[index >>> 6] |= 1L << index;
+                        }
+                        continue;
+                    }
+                    if (root.getClass() != chainClass) {
+                        chainClass = root.getClass();
+                        for (int p = 0; p < paths.length; p++) {
+                            chains[p] = PropertyChain.resolve(chainClass, paths[p]);
+                            Class<?> leafType = chains[p].getType();
+                            primitiveLeaves[p] = leafType != null && leafType.isPrimitive() && types[p] != Object.class
+                                    ? chains[p].getLeafAccessor()
+                                    : null;
+                        }
+                    }
+                    for (int p = 0; p < paths.length; p++) {
+                        if (primitiveLeaves[p] != null) {
+                            readPrimitive(p, index, chains[p].getParent(root), primitiveLeaves[p]);
+                        } else {
+                            write(p, index, chains[p].get(root));
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                throw new UncheckedDotPathException(
+                        new DotPathException("Error projecting values from element " + index, e));
+            }
+        }
+
+        /**
+         * Reads a primitive leaf from its parent without boxing.
+         */
+        private void readPrimitive(int p, int index, Object parent, PropertyAccessor accessor) throws Exception {
+            if (parent == PropertyChain.NULL_INTERMEDIATE) {
+                nulls[p][index >>> 6] |= 1L << index;
+            } else if (types[p] == int.class) {
+                ((int[]) columns[p])[index] = accessor.getInt(parent);
+            } else if (types[p] == long.class) {
+                ((long[]) columns[p])[index] = accessor.getLong(parent);
+            } else if (types[p] == double.class) {
+                ((double[]) columns[p])[index] = accessor.getDouble(parent);
+            } else {
+                ((boolean[]) columns[p])[index] = accessor.getBoolean(parent);
+            }
+        }
+
+        private void write(int p, int index, Object value) throws DotPathException {
+            if (value == null || value == PropertyChain.NULL_INTERMEDIATE) {
+                nulls[p][index >>> 6] |= 1L << index;
+            } else if (types[p] == int.class) {
+                ((int[]) columns[p])[index] = Accessors.toInt(value);
+            } else if (types[p] == long.class) {
+                ((long[]) columns[p])[index] = Accessors.toLong(value);
+            } else if (types[p] == double.class) {
+                ((double[]) columns[p])[index] = Accessors.toDouble(value);
+            } else if (types[p] == boolean.class) {
+                ((boolean[]) columns[p])[index] = Accessors.toBoolean(value);
+            } else {
+                ((Object[]) columns[p])[index] = value;
+            }
+        }
+    }
+}
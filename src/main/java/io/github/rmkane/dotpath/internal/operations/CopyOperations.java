@@ -0,0 +1,113 @@
+package io.github.rmkane.dotpath.internal.operations;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.github.rmkane.dotpath.api.DotPathException;
+import io.github.rmkane.dotpath.internal.TypeResolver;
+import io.github.rmkane.dotpath.internal.metadata.ClassMetadata;
+import io.github.rmkane.dotpath.internal.metadata.PropertyMetadata;
+
+/**
+ * Handles copying a property between a source and a target that have already been traversed to the
+ * objects holding the property.
+ */
+public class CopyOperations {
+    /**
+     * Results of the compatibility check, keyed by source class, target class and segment. There is
+     * one cache per combination of map and bean parents: the class of a bean parent resolves the
+     * declared type of the segment, while the class of a map value is its type.
+     */
+    private static final Compatibility[] COMPATIBILITY = {
+        new Compatibility(), new Compatibility(), new Compatibility(), new Compatibility()
+    };
+
+    private final MapOperations mapOperations = new MapOperations();
+    private final PropertyOperations propertyOperations = new PropertyOperations();
+    private final TypeResolver typeResolver = new TypeResolver();
+
+    /**
+     * Copies a property value from a source parent to a target parent.
+     *
+     * <p>When both parents are beans of the same class, the property has the same declared type on
+     * both sides and the value is transferred through the cached property metadata without a
+     * compatibility check. Otherwise the types are resolved and checked as in
+     * {@link TypeResolver#isCompatibleType(Class, Class)}, once per source class, target class and
+     * segment, where the class of a map parent is the class of its value.</p>
+     *
+     * @param sourceParent The object holding the property to copy from
+     * @param targetParent The object holding the property to copy to
+     * @param propertyName The property name or map key
+     * @throws Exception if the property is missing, the types are incompatible or the write fails
+     */
+    public void copyValue(Object sourceParent, Object targetParent, String propertyName) throws Exception {
+        boolean sourceIsMap = mapOperations.isMap(sourceParent);
+        boolean targetIsMap = mapOperations.isMap(targetParent);
+
+        if (!sourceIsMap
+                && !targetIsMap
+                && sourceParent.getClass() == targetParent.getClass()
+                && IndexOperations.parseIndex(propertyName) < 0) {
+            PropertyMetadata property =
+                    ClassMetadata.of(sourceParent.getClass()).getExistingProperty(propertyName);
+            property.setValue(targetParent, property.getValue(sourceParent));
+            return;
+        }
+
+        Class<?> sourceClass = keyClass(sourceParent, sourceIsMap, propertyName);
+        Class<?> targetClass = keyClass(targetParent, targetIsMap, propertyName);
+        ConcurrentMap<String, Boolean> results = COMPATIBILITY[(sourceIsMap ? 2 : 0) + (targetIsMap ? 1 : 0)]
+                .get(sourceClass)
+                .get(targetClass);
+        Boolean compatible = results.get(propertyName);
+        if (compatible == null) {
+            compatible = typeResolver.isCompatibleType(
+                    resolveType(sourceClass, sourceIsMap, propertyName),
+                    resolveType(targetClass, targetIsMap, propertyName));
+            results.put(propertyName, compatible);
+        }
+        if (!compatible) {
+            throw new DotPathException("Type mismatch: cannot copy from %s to %s"
+                    .formatted(
+                            resolveType(sourceClass, sourceIsMap, propertyName).getName(),
+                            resolveType(targetClass, targetIsMap, propertyName).getName()));
+        }
+
+        Object value = sourceIsMap
+                ? mapOperations.getValue(mapOperations.asMap(sourceParent), propertyName)
+                : propertyOperations.getPropertyValue(sourceParent, propertyName);
+
+        if (targetIsMap) {
+            mapOperations.setValue(mapOperations.asMap(targetParent), propertyName, value);
+        } else {
+            propertyOperations.setValueOnObject(targetParent, propertyName, value);
+        }
+    }
+
+    /**
+     * Returns the class the compatibility of a side is cached by: the class of the value of a map
+     * parent, or else the class of the parent.
+     */
+    private Class<?> keyClass(Object parent, boolean isMap, String propertyName) throws DotPathException {
+        return isMap ? mapOperations.getValueType(parent, propertyName) : parent.getClass();
+    }
+
+    private Class<?> resolveType(Class<?> keyClass, boolean isMap, String propertyName) throws DotPathException {
+        return isMap ? keyClass : typeResolver.resolveTypeForPathSegment(keyClass, propertyName);
+    }
+
+    /**
+     * Compatibility results per source class, then per target class and segment.
+     */
+    private static final class Compatibility extends ClassValue<ClassValue<ConcurrentMap<String, Boolean>>> {
+        @Override
+        protected ClassValue<ConcurrentMap<String, Boolean>> computeValue(Class<?> sourceClass) {
+            return new ClassValue<>() {
+                @Override
+                protected ConcurrentMap<String, Boolean> computeValue(Class<?> targetClass) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,521 @@
+package io.github.rmkane.dotpath.internal.operations;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import io.github.rmkane.dotpath.api.DotPathException;
+import io.github.rmkane.dotpath.internal.TypeResolver;
+import io.github.rmkane.dotpath.internal.parsers.ByteSequence;
+import io.github.rmkane.dotpath.internal.traversal.PathTraverser;
+
+/**
+ * Loads files of {@code path=value} lines into an object by memory-mapping them, so that lines,
+ * segments and values are read in place instead of being decoded into strings first.
+ *
+ * <p>Path segments are interned while reading: each distinct segment is decoded once per chunk
+ * and the same {@code String} is reused as the map key or property name of every line that
+ * contains it. Indexes such as {@code items[3]} become index segments of their own, as in
+ * {@link io.github.rmkane.dotpath.internal.traversal.PathParser}. Values are converted straight
+ * from the mapped bytes.</p>
+ *
+ * <p>Files are mapped in chunks that end on line boundaries. With a parallelism above one and a
+ * map root, the chunks are loaded concurrently into separate maps, which are then merged into the
+ * root in file order. Entries that reach a value already in the root other than a nested map,
+ * such as a bean, a list or a typed value, are set aside while loading and applied to the root
+ * after their chunk is merged, through the same traversal as a serial load. Other values are
+ * converted according to their own content, since the chunk maps start empty.</p>
+ */
+public class DumpLoader {
+    /**
+     * Upper bound on the size of a mapped chunk, well below the 2 GiB limit of a mapping.
+     */
+    private static final long MAX_CHUNK_SIZE = 1L << 30;
+
+    /**
+     * Upper bound on the number of failures reported as suppressed exceptions, so that a corrupt
+     * file cannot exhaust memory with exceptions.
+     */
+    private static final int MAX_REPORTED_FAILURES = 100;
+
+    private final PathTraverser pathTraverser = new PathTraverser();
+    private final MapOperations mapOperations = new MapOperations();
+    private final PropertyOperations propertyOperations = new PropertyOperations();
+    private final TypeResolver typeResolver = new TypeResolver();
+
+    /**
+     * Loads every entry of a file into an object.
+     *
+     * @param root        The root object to load into
+     * @param file        The file of {@code path=value} lines, encoded in UTF-8
+     * @param parallelism The number of chunks loaded concurrently into map roots
+     * @throws DotPathException if the file cannot be read or any entry could not be applied, with
+     *                          one suppressed exception per failure
+     */
+    public void load(Object root, Path file, int parallelism) throws DotPathException {
+        if (root == null) {
+            throw new DotPathException("root cannot be null");
+        }
+        if (file == null) {
+            throw new DotPathException("file cannot be null");
+        }
+        if (parallelism < 1) {
+            throw new DotPathException("parallelism must be at least 1 but was " + parallelism);
+        }
+
+        boolean parallel = parallelism > 1 && mapOperations.isMap(root);
+        List<Chunk> chunks;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            chunks = split(channel, parallel ? parallelism : 1);
+            if (parallel) {
+                loadParallel(root, chunks, parallelism);
+            } else {
+                for (Chunk chunk : chunks) {
+                    chunk.load(root);
+                }
+            }
+        } catch (IOException e) {
+            throw new DotPathException("Failed to read file: " + file, e);
+        }
+
+        List<DotPathException> failures = new ArrayList<>();
+        long count = 0;
+        long failed = 0;
+        for (Chunk chunk : chunks) {
+            count += chunk.count;
+            failed += chunk.failed;
+            for (DotPathException failure : chunk.failures) {
+                if (failures.size() < MAX_REPORTED_FAILURES) {
+                    failures.add(failure);
+                }
+            }
+        }
+        if (failed > 0) {
+            DotPathException exception =
+                    new DotPathException("Failed to load %d of %d entries from %s".formatted(failed, count, file));
+            failures.forEach(exception::addSuppressed);
+            throw exception;
+        }
+    }
+
+    private void loadParallel(Object root, List<Chunk> chunks, int parallelism) throws DotPathException {
+        Map<String, Object> target = mapOperations.asMap(root);
+        List<Future<Map<String, Object>>> results = new ArrayList<>();
+        List<Map<String, Object>> subtrees = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, chunks.size()))) {
+            for (Chunk chunk : chunks) {
+                results.add(executor.submit(() -> {
+                    Map<String, Object> subtree = new HashMap<>();
+                    chunk.shared = target;
+                    chunk.load(subtree);
+                    return subtree;
+                }));
+            }
+            // The chunks read the root to find entries to set aside, so it is only changed once all are loaded
+            for (Future<Map<String, Object>> result : results) {
+                subtrees.add(result.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DotPathException("Interrupted while loading", e);
+        } catch (ExecutionException e) {
+            throw new DotPathException("Failed to load chunk", e.getCause());
+        }
+
+        for (int i = 0; i < chunks.size(); i++) {
+            merge(target, subtrees.get(i));
+            chunks.get(i).loadDeferred(root);
+        }
+    }
+
+    /**
+     * Checks whether an entry reaches a value of the root other than a nested map, which a chunk
+     * map cannot stand in for. Index segments on maps are keys like any other segment.
+     */
+    private static boolean reachesExisting(Map<String, Object> root, String[] segments, int segmentCount) {
+        Map<?, ?> current = root;
+        for (int i = 0; i < segmentCount; i++) {
+            Object value = current.get(segments[i]);
+            if (value == null) {
+                return false;
+            }
+            if (i == segmentCount - 1 || !(value instanceof Map<?, ?> map)) {
+                return true;
+            }
+            current = map;
+        }
+        return false;
+    }
+
+    /**
+     * Merges a chunk subtree into the target, merging nested maps and Lists and replacing other
+     * values.
+     */
+    @SuppressWarnings("unchecked")
+    private void merge(Map<String, Object> target, Map<String, Object> source) {
+        for (Map.Entry<String, Object> entry : source.entrySet()) {
+            Object existing = target.get(entry.getKey());
+            if (existing instanceof Map<?, ?> existingMap && entry.getValue() instanceof Map<?, ?> sourceMap) {
+                merge((Map<String, Object>) existingMap, (Map<String, Object>) sourceMap);
+            } else if (existing instanceof List<?> existingList && entry.getValue() instanceof List<?> sourceList) {
+                merge((List<Object>) existingList, sourceList);
+            } else {
+                target.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Merges the elements of a chunk List into a List created by an earlier chunk. Null elements
+     * of the chunk List only pad it up to the elements it sets, and are skipped.
+     */
+    @SuppressWarnings("unchecked")
+    private void merge(List<Object> target, List<?> source) {
+        for (int i = 0; i < source.size(); i++) {
+            Object element = source.get(i);
+            Object existing = i < target.size() ? target.get(i) : null;
+            if (element == null) {
+                continue;
+            }
+            if (existing instanceof Map<?, ?> existingMap && element instanceof Map<?, ?> sourceMap) {
+                merge((Map<String, Object>) existingMap, (Map<String, Object>) sourceMap);
+            } else if (existing instanceof List<?> existingList && element instanceof List<?> sourceList) {
+                merge((List<Object>) existingList, sourceList);
+            } else {
+                while (target.size() <= i) {
+                    target.add(null);
+                }
+                target.set(i, element);
+            }
+        }
+    }
+
+    /**
+     * Splits a file into chunks of roughly equal size that start at the beginning of a line.
+     */
+    private List<Chunk> split(FileChannel channel, int parallelism) throws IOException, DotPathException {
+        long size = channel.size();
+        int count = (int) Math.max(parallelism, (size + MAX_CHUNK_SIZE - 1) / MAX_CHUNK_SIZE);
+
+        List<Chunk> chunks = new ArrayList<>(count);
+        long start = 0;
+        for (int i = 1; i <= count && start < size; i++) {
+            long end = i == count ? size : Math.max(start, nextLineStart(channel, size * i / count, size));
+            if (end == start) {
+                continue;
+            }
+            if (end - start > Integer.MAX_VALUE) {
+                throw new DotPathException("Line too long at offset " + start);
+            }
+            chunks.add(new Chunk(start, channel.map(FileChannel.MapMode.READ_ONLY, start, end - start)));
+            start = end;
+        }
+        return chunks;
+    }
+
+    /**
+     * Returns the offset of the first line starting at or after a position.
+     */
+    private static long nextLineStart(FileChannel channel, long position, long size) throws IOException {
+        if (position == 0) {
+            return 0;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        // A line starts at the position if the previous byte ends a line
+        long offset = position - 1;
+        while (offset < size) {
+            buffer.clear();
+            int read = channel.read(buffer, offset);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return offset + i + 1;
+                }
+            }
+            offset += read;
+        }
+        return size;
+    }
+
+    /**
+     * A mapped region of the file and the outcome of loading it.
+     */
+    private final class Chunk {
+        private final long offset;
+        private final MappedByteBuffer buffer;
+        private final SegmentInterner interner = new SegmentInterner();
+        private final List<DotPathException> failures = new ArrayList<>();
+        private final List<Entry> deferred = new ArrayList<>();
+        private String[] segments = new String[8];
+        private long count;
+        private long failed;
+
+        /**
+         * The root of a parallel load, read to find the entries to set aside, or null
+         */
+        private Map<String, Object> shared;
+
+        private Chunk(long offset, MappedByteBuffer buffer) {
+            this.offset = offset;
+            this.buffer = buffer;
+        }
+
+        private void load(Object root) {
+            int limit = buffer.limit();
+            int position = 0;
+            while (position < limit) {
+                int lineEnd = position;
+                while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+                    lineEnd++;
+                }
+                try {
+                    loadLine(root, position, lineEnd);
+                } catch (DotPathException e) {
+                    fail(e);
+                }
+                position = lineEnd + 1;
+            }
+        }
+
+        /**
+         * Applies the entries set aside while loading, in file order.
+         */
+        private void loadDeferred(Object root) {
+            for (Entry entry : deferred) {
+                try {
+                    String[] path = entry.segments();
+                    apply(root, path, path.length, entry.start(), entry.valueStart(), entry.end());
+                } catch (DotPathException e) {
+                    fail(e);
+                }
+            }
+            deferred.clear();
+        }
+
+        private void fail(DotPathException failure) {
+            failed++;
+            if (failures.size() < MAX_REPORTED_FAILURES) {
+                failures.add(failure);
+            }
+        }
+
+        private void loadLine(Object root, int start, int end) throws DotPathException {
+            while (start < end && isWhitespace(buffer.get(start))) {
+                start++;
+            }
+            while (end > start && isWhitespace(buffer.get(end - 1))) {
+                end--;
+            }
+            if (start == end || buffer.get(start) == '#' || buffer.get(start) == '!') {
+                return;
+            }
+
+            count++;
+            int separator = start;
+            while (separator < end && buffer.get(separator) != '=' && buffer.get(separator) != ':') {
+                separator++;
+            }
+            if (separator == end) {
+                throw new DotPathException("Invalid entry at offset %d: expected path=value".formatted(offset + start));
+            }
+
+            int keyEnd = separator;
+            while (keyEnd > start && isWhitespace(buffer.get(keyEnd - 1))) {
+                keyEnd--;
+            }
+            int valueStart = separator + 1;
+            while (valueStart < end && isWhitespace(buffer.get(valueStart))) {
+                valueStart++;
+            }
+
+            int segmentCount = splitSegments(start, keyEnd);
+            if (shared != null && reachesExisting(shared, segments, segmentCount)) {
+                deferred.add(new Entry(Arrays.copyOf(segments, segmentCount), start, valueStart, end));
+                return;
+            }
+            apply(root, segments, segmentCount, start, valueStart, end);
+        }
+
+        private void apply(Object root, String[] segments, int segmentCount, int start, int valueStart, int end)
+                throws DotPathException {
+            try {
+                Object current = pathTraverser.traversePathAndCreateIfNeeded(root, segments, segmentCount - 1);
+                write(current, segments[segmentCount - 1], ByteSequence.of(buffer, valueStart, end - valueStart));
+            } catch (Exception e) {
+                throw new DotPathException(
+                        "Error loading entry at offset %d: %s".formatted(offset + start, e.getMessage()), e);
+            }
+        }
+
+        /**
+         * Splits the key into interned segments, with indexes as segments of their own.
+         *
+         * @return The number of segments
+         */
+        private int splitSegments(int start, int end) throws DotPathException {
+            int segmentCount = 0;
+            int segmentStart = start;
+            for (int i = start; i <= end; i++) {
+                if (i == end || buffer.get(i) == '.') {
+                    segmentCount = addSegments(segmentCount, segmentStart, i);
+                    segmentStart = i + 1;
+                }
+            }
+            return segmentCount;
+        }
+
+        /**
+         * Adds the segments of one part of the key: a name, optionally followed by indexes. The first
+         * part may be an index alone, for roots that are Lists.
+         *
+         * @return The number of segments
+         */
+        private int addSegments(int segmentCount, int start, int end) throws DotPathException {
+            int bracket = start;
+            while (bracket < end && buffer.get(bracket) != '[') {
+                bracket++;
+            }
+            if (bracket > start || bracket == end || segmentCount > 0) {
+                if (isBlank(start, bracket)) {
+                    throw new DotPathException("Path segment cannot be empty at offset %d".formatted(offset + start));
+                }
+                segmentCount = add(segmentCount, interner.intern(buffer, start, bracket));
+            }
+            while (bracket < end) {
+                int close = bracket;
+                while (close < end && buffer.get(close) != ']') {
+                    close++;
+                }
+                String segment = close < end ? interner.intern(buffer, bracket, close + 1) : null;
+                int index = segment != null ? IndexOperations.parseIndex(segment) : -1;
+                if (index < 0 || (close + 1 < end && buffer.get(close + 1) != '[')) {
+                    throw new DotPathException("Invalid index in path segment at offset %d".formatted(offset + start));
+                }
+                String canonical = IndexOperations.toSegment(index);
+                segmentCount = add(segmentCount, segment.equals(canonical) ? segment : canonical);
+                bracket = close + 1;
+            }
+            return segmentCount;
+        }
+
+        private int add(int segmentCount, String segment) {
+            if (segmentCount == segments.length) {
+                segments = Arrays.copyOf(segments, segmentCount * 2);
+            }
+            segments[segmentCount] = segment;
+            return segmentCount + 1;
+        }
+
+        private boolean isBlank(int start, int end) {
+            for (int i = start; i < end; i++) {
+                if (!isWhitespace(buffer.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * An entry set aside to be applied to the root after its chunk is merged.
+     */
+    private record Entry(String[] segments, int start, int valueStart, int end) {}
+
+    /**
+     * Converts and writes a value to the object holding the last segment.
+     */
+    private void write(Object parent, String name, CharSequence value) throws Exception {
+        if (mapOperations.isMap(parent)) {
+            Class<?> targetType = mapOperations.getValueType(parent, name);
+            mapOperations.setValue(mapOperations.asMap(parent), name, typeResolver.parseValueByType(targetType, value));
+        } else {
+            Class<?> targetType = typeResolver.resolveTypeForPathSegment(parent.getClass(), name);
+            propertyOperations.setValueOnObject(parent, name, typeResolver.parseValueByType(targetType, value));
+        }
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\f';
+    }
+
+    /**
+     * Decodes each distinct byte sequence once, using an open-addressing table keyed by the bytes.
+     */
+    private static final class SegmentInterner {
+        private byte[][] keys = new byte[256][];
+        private String[] values = new String[256];
+        private int size;
+
+        private String intern(ByteBuffer buffer, int start, int end) {
+            int length = end - start;
+            int hash = 1;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + buffer.get(i);
+            }
+
+            int mask = keys.length - 1;
+            int slot = hash & mask;
+            for (byte[] key = keys[slot]; key != null; key = keys[slot]) {
+                if (matches(key, buffer, start, length)) {
+                    return values[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+
+            byte[] key = new byte[length];
+            buffer.get(start, key);
+            String value = new String(key, StandardCharsets.UTF_8);
+            keys[slot] = key;
+            values[slot] = value;
+            if (++size * 2 > keys.length) {
+                grow();
+            }
+            return value;
+        }
+
+        private static boolean matches(byte[] key, ByteBuffer buffer, int start, int length) {
+            if (key.length != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (key[i] != buffer.get(start + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void grow() {
+            byte[][] oldKeys = keys;
+            String[] oldValues = values;
+            keys = new byte[oldKeys.length * 2][];
+            values = new String[oldValues.length * 2];
+            int mask = keys.length - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != null) {
+                    int slot = Arrays.hashCode(oldKeys[i]) & mask;
+                    while (keys[slot] != null) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = oldKeys[i];
+                    values[slot] = oldValues[i];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package io.github.rmkane.dotpath.internal.operations;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.github.rmkane.dotpath.api.DotPathException;
+import io.github.rmkane.dotpath.api.DotPathSettings;
+
+/**
+ * Handles index segments such as {@code [3]}, which select an element of a {@link List} or an
+ * array.
+ *
+ * <p>Index segments are kept in their canonical form, {@code [} followed by the decimal index
+ * without leading zeros and {@code ]}, so that they can be told apart from property names by their
+ * first character.</p>
+ */
+public class IndexOperations {
+    /**
+     * The no-argument constructors used to create elements, or null for classes without one.
+     */
+    private static final ClassValue<Constructor<?>> CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected Constructor<?> computeValue(Class<?> type) {
+            if (type.isInterface() || type.isArray() || Modifier.isAbstract(type.getModifiers())) {
+                return null;
+            }
+            try {
+                Constructor<?> constructor = type.getDeclaredConstructor();
+                return constructor.trySetAccessible() ? constructor : null;
+            } catch (NoSuchMethodException e) {
+                return null;
+            }
+        }
+    };
+
+    /**
+     * Returns the index selected by a segment.
+     *
+     * @param segment The path segment
+     * @return The index, or -1 if the segment is not an index segment
+     */
+    public static int parseIndex(String segment) {
+        int last = segment.length() - 1;
+        if (last < 2 || last > 11 || segment.charAt(0) != '[' || segment.charAt(last) != ']') {
+            return -1;
+        }
+        long index = 0;
+        for (int i = 1; i < last; i++) {
+            int digit = segment.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            index = index * 10 + digit;
+        }
+        return index <= Integer.MAX_VALUE ? (int) index : -1;
+    }
+
+    /**
+     * Returns the canonical segment selecting an index.
+     *
+     * @param index The index, not negative
+     * @return The index segment
+     */
+    public static String toSegment(int index) {
+        return "[" + index + "]";
+    }
+
+    /**
+     * Checks if an object is a List or an array.
+     *
+     * @param obj The object to check
+     * @return true if elements of the object can be selected by index
+     */
+    public boolean isIndexed(Object obj) {
+        return obj instanceof List<?> || (obj != null && obj.getClass().isArray());
+    }
+
+    /**
+     * Gets an element of a List or an array.
+     *
+     * @param container The List or array
+     * @param index     The index of the element
+     * @return The element
+     * @throws DotPathException if the object is not a List or array, or the index is out of bounds
+     */
+    public Object getElement(Object container, int index) throws DotPathException {
+        if (container instanceof List<?> list) {
+            if (index < list.size()) {
+                return list.get(index);
+            }
+            throw outOfBounds(index, list.size());
+        }
+        if (container instanceof Object[] array) {
+            if (index < array.length) {
+                return array[index];
+            }
+            throw outOfBounds(index, array.length);
+        }
+        int length = length(container);
+        if (index < length) {
+            return Array.get(container, index);
+        }
+        throw outOfBounds(index, length);
+    }
+
+    /**
+     * Gets an element of a List or an array, returning a default value if the object is not a List
+     * or array or the index is out of bounds.
+     *
+     * @param container    The object, may be null
+     * @param index        The index of the element
+     * @param defaultValue The value to return if there is no such element
+     * @return The element, which may be null, or the default value
+     */
+    public Object findElement(Object container, int index, Object defaultValue) {
+        if (container instanceof List<?> list) {
+            return index < list.size() ? list.get(index) : defaultValue;
+        }
+        if (container instanceof Object[] array) {
+            return index < array.length ? array[index] : defaultValue;
+        }
+        if (container != null && container.getClass().isArray()) {
+            return index < Array.getLength(container) ? Array.get(container, index) : defaultValue;
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Sets an element of a List or an array. Lists grow as needed, with null elements up to the
+     * index; arrays have a fixed length. Elements of primitive arrays are unboxed and widened as by
+     * {@link Array#set(Object, int, Object)}. In concurrent mode, Lists are grown and written under
+     * their monitor, so that writers past the end do not pad the List from a stale size.
+     *
+     * @param container The List or array
+     * @param index     The index of the element
+     * @param value     The value to set
+     * @throws DotPathException if the object is not a List or array, the index is out of the bounds
+     *                          of an array, or the value is not of the element type of an array
+     */
+    public void setElement(Object container, int index, Object value) throws DotPathException {
+        if (container instanceof List<?>) {
+            @SuppressWarnings("unchecked")
+            List<Object> list = (List<Object>) container;
+            if (DotPathSettings.isConcurrent()) {
+                synchronized (list) {
+                    setListElement(list, index, value);
+                }
+            } else {
+                setListElement(list, index, value);
+            }
+            return;
+        }
+
+        int length = length(container);
+        if (index >= length) {
+            throw outOfBounds(index, length);
+        }
+        try {
+            if (container instanceof Object[] array) {
+                array[index] = value;
+            } else {
+                Array.set(container, index, value);
+            }
+        } catch (ArrayStoreException | IllegalArgumentException e) {
+            throw new DotPathException("Type mismatch: value type %s is not compatible with element type %s"
+                    .formatted(
+                            value != null ? value.getClass().getName() : "null",
+                            container.getClass().getComponentType().getName()));
+        }
+    }
+
+    private static void setListElement(List<Object> list, int index, Object value) {
+        if (index < list.size()) {
+            list.set(index, value);
+            return;
+        }
+        if (list.size() < index) {
+            list.addAll(Collections.nCopies(index - list.size(), null));
+        }
+        list.add(value);
+    }
+
+    /**
+     * Gets an element of a List or an array, creating it if it is missing or null. Elements are
+     * created with the component type of arrays, or else with the element type declared for the
+     * List. Lists of an unknown element type get a new List if the element is itself indexed, or
+     * else a new Map. In concurrent mode, List elements are looked up and created under the monitor
+     * of the List, which is also the lock of the synchronized Lists created in this mode.
+     *
+     * @param container     The List or array
+     * @param index         The index of the element
+     * @param containerType The declared type of the container, or null if unknown
+     * @param indexNext     Whether the next path segment is an index segment
+     * @return The existing or new element
+     * @throws DotPathException if the object is not a List or array, or the element cannot be
+     *                          created or set
+     */
+    public Object getOrCreateElement(Object container, int index, Type containerType, boolean indexNext)
+            throws DotPathException {
+        if (!isIndexed(container)) {
+            throw notIndexed(container);
+        }
+        if (container instanceof List<?> && DotPathSettings.isConcurrent()) {
+            synchronized (container) {
+                return findOrCreateElement(container, index, containerType, indexNext);
+            }
+        }
+        return findOrCreateElement(container, index, containerType, indexNext);
+    }
+
+    private Object findOrCreateElement(Object container, int index, Type containerType, boolean indexNext)
+            throws DotPathException {
+        Object element = findElement(container, index, null);
+        if (element != null) {
+            return element;
+        }
+
+        Class<?> type = container.getClass().isArray()
+                ? container.getClass().getComponentType()
+                : rawType(elementTypeOf(containerType));
+        element = newElement(type, indexNext, index);
+        setElement(container, index, element);
+        return element;
+    }
+
+    /**
+     * Returns the declared type of the elements of a List or array type.
+     *
+     * @param containerType The declared type of the container, may be null
+     * @return The element type, or null if the type is not a List or array type or its element type
+     *         is unknown
+     */
+    public static Type elementTypeOf(Type containerType) {
+        if (containerType instanceof Class<?> type) {
+            return type.getComponentType();
+        }
+        if (containerType instanceof GenericArrayType arrayType) {
+            return arrayType.getGenericComponentType();
+        }
+        if (containerType instanceof ParameterizedType parameterized
+                && parameterized.getRawType() instanceof Class<?> raw
+                && Collection.class.isAssignableFrom(raw)
+                && parameterized.getActualTypeArguments().length == 1) {
+            Type argument = parameterized.getActualTypeArguments()[0];
+            return argument instanceof WildcardType wildcard ? wildcard.getUpperBounds()[0] : argument;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the class of a declared type.
+     *
+     * @param type The declared type, may be null
+     * @return The class, or null if the type is null or a type variable
+     */
+    public static Class<?> rawType(Type type) {
+        if (type instanceof Class<?> raw) {
+            return raw;
+        }
+        if (type instanceof ParameterizedType parameterized) {
+            return rawType(parameterized.getRawType());
+        }
+        if (type instanceof GenericArrayType arrayType) {
+            Class<?> component = rawType(arrayType.getGenericComponentType());
+            return component != null ? component.arrayType() : null;
+        }
+        return null;
+    }
+
+    private Object newElement(Class<?> type, boolean indexNext, int index) throws DotPathException {
+        if (type == null || type == Object.class) {
+            return indexNext ? newList() : newMap();
+        }
+        if (type.isAssignableFrom(ArrayList.class)) {
+            List<Object> list = newList();
+            return type.isInstance(list) ? list : new ArrayList<>();
+        }
+        if (type.isAssignableFrom(HashMap.class)) {
+            return newMap();
+        }
+
+        Constructor<?> constructor = CONSTRUCTORS.get(type);
+        if (constructor == null) {
+            throw new DotPathException("Cannot instantiate %s for element %d".formatted(type.getName(), index));
+        }
+        try {
+            return constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new DotPathException("Cannot instantiate %s for element %d".formatted(type.getName(), index), e);
+        }
+    }
+
+    /**
+     * Creates a List for an intermediate object, synchronized in concurrent mode so that it is safe
+     * to share between the threads writing through it.
+     *
+     * @return The new List
+     */
+    public static List<Object> newList() {
+        return DotPathSettings.isConcurrent() ? Collections.synchronizedList(new ArrayList<>()) : new ArrayList<>();
+    }
+
+    private static Object newMap() {
+        return DotPathSettings.isConcurrent() ? new ConcurrentHashMap<>() : new HashMap<>();
+    }
+
+    private static int length(Object container) throws DotPathException {
+        if (container == null || !container.getClass().isArray()) {
+            throw notIndexed(container);
+        }
+        return Array.getLength(container);
+    }
+
+    private static DotPathException notIndexed(Object container) {
+        return new DotPathException("Object is not a List or array: "
+                + (container != null ? container.getClass().getName() : "null"));
+    }
+
+    private static DotPathException outOfBounds(int index, int length) {
+        return new DotPathException("Index %d out of bounds for length %d".formatted(index, length));
+    }
+}
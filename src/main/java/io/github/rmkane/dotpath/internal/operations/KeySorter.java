@@ -0,0 +1,209 @@
+package io.github.rmkane.dotpath.internal.operations;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+
+import io.github.rmkane.dotpath.api.DotPathException;
+import io.github.rmkane.dotpath.internal.access.Accessors;
+
+/**
+ * Sorts rows by sort keys that have been read once into columns by a {@link ColumnProjector},
+ * instead of reading the keys from the roots on every comparison.
+ *
+ * <p>Rows are sorted as a permutation of their indexes with a stable merge sort that compares the
+ * primitive key arrays directly. A single {@code int} key without nulls is packed together with the
+ * row index into a {@code long[]}, which is sorted in parallel by {@link Arrays#parallelSort(long[])}
+ * and stays stable because equal keys are ordered by index.</p>
+ */
+public class KeySorter {
+    /**
+     * Length of the runs sorted by insertion before merging
+     */
+    private static final int RUN_LENGTH = 32;
+
+    /**
+     * Returns the order of the rows of a projection sorted by its columns.
+     *
+     * @param projection The sort keys, one column per key
+     * @param keyTypes   The type each key is compared as: {@code int.class}, {@code long.class},
+     *                   {@code double.class}, or {@code Object.class} for the natural ordering of
+     *                   the column
+     * @param descending Whether each key is sorted in descending order
+     * @param nullsFirst Whether null rows of each key come first, regardless of the direction
+     * @return The indexes of the rows in sorted order
+     * @throws DotPathException if a key compared as a number holds a value that is not a number or
+     *                          does not fit the type it is compared as
+     */
+    public int[] sort(
+            ColumnProjector.Projection projection, Class<?>[] keyTypes, boolean[] descending, boolean[] nullsFirst)
+            throws DotPathException {
+        int size = projection.size();
+        Object[] columns = projection.columns().clone();
+        for (int k = 0; k < columns.length; k++) {
+            columns[k] = convert(
+                    columns[k], projection.types()[k], keyTypes[k], projection.nulls()[k], size);
+        }
+
+        if (columns.length == 1
+                && columns[0] instanceof int[] keys
+                && !hasNulls(projection.nulls()[0])) {
+            return sortPacked(keys, descending[0]);
+        }
+
+        int[] order = new int[size];
+        Arrays.setAll(order, i -> i);
+        new Rows(columns, projection.nulls(), descending, nullsFirst).sort(order);
+        return order;
+    }
+
+    private static boolean hasNulls(long[] bitmap) {
+        for (long word : bitmap) {
+            if (word != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Converts a column to the type its key is compared as, as by {@link Accessors#toInt(Object)},
+     * {@link Accessors#toLong(Object)} or {@link Accessors#toDouble(Object)}.
+     */
+    private static Object convert(Object column, Class<?> type, Class<?> keyType, long[] nulls, int size)
+            throws DotPathException {
+        if (keyType == Object.class || keyType == type) {
+            return column;
+        }
+        Object converted = Array.newInstance(keyType, size);
+        for (int i = 0; i < size; i++) {
+            if ((nulls[i >>> 6] & (1L << i)) != 0) {
+                continue;
+            }
+            Object value = Array.get(column, i);
+            if (keyType == int.class) {
+                ((int[]) converted)[i] = Accessors.toInt(value);
+            } else if (keyType == long.class) {
+                ((long[]) converted)[i] = Accessors.toLong(value);
+            } else {
+                ((double[]) converted)[i] = Accessors.toDouble(value);
+            }
+        }
+        return converted;
+    }
+
+    /**
+     * Sorts a single {@code int} key by packing each key into the high half and its row index into
+     * the low half of a {@code long}. Descending keys are inverted bitwise, which reverses their
+     * order without overflowing.
+     */
+    private static int[] sortPacked(int[] keys, boolean descending) {
+        long[] packed = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            int key = descending ? ~keys[i] : keys[i];
+            packed[i] = ((long) key << 32) | i;
+        }
+        Arrays.parallelSort(packed);
+
+        int[] order = new int[keys.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = (int) packed[i];
+        }
+        return order;
+    }
+
+    /**
+     * The columns of the keys, compared row by row.
+     */
+    private static final class Rows {
+        private final Object[] columns;
+        private final long[][] nulls;
+        private final boolean[] descending;
+        private final boolean[] nullsFirst;
+
+        Rows(Object[] columns, long[][] nulls, boolean[] descending, boolean[] nullsFirst) {
+            this.columns = columns;
+            this.nulls = nulls;
+            this.descending = descending;
+            this.nullsFirst = nullsFirst;
+        }
+
+        /**
+         * Sorts row indexes with a bottom-up merge sort, which is stable.
+         */
+        void sort(int[] order) {
+            int size = order.length;
+            for (int from = 0; from < size; from += RUN_LENGTH) {
+                insertionSort(order, from, Math.min(from + RUN_LENGTH, size));
+            }
+
+            int[] source = order;
+            int[] target = new int[size];
+            for (int width = RUN_LENGTH; width < size; width <<= 1) {
+                for (int from = 0; from < size; from += width << 1) {
+                    merge(source, target, from, Math.min(from + width, size), Math.min(from + (width << 1), size));
+                }
+                int[] swap = source;
+                source = target;
+                target = swap;
+            }
+            if (source != order) {
+                System.arraycopy(source, 0, order, 0, size);
+            }
+        }
+
+        private void insertionSort(int[] order, int from, int to) {
+            for (int i = from + 1; i < to; i++) {
+                int row = order[i];
+                int j = i - 1;
+                for (; j >= from && compare(order[j], row) > 0; j--) {
+                    order[j + 1] = order[j];
+                }
+                order[j + 1] = row;
+            }
+        }
+
+        private void merge(int[] source, int[] target, int from, int mid, int to) {
+            int left = from;
+            int right = mid;
+            for (int i = from; i < to; i++) {
+                if (left < mid && (right >= to || compare(source[left], source[right]) <= 0)) {
+                    target[i] = source[left++];
+                } else {
+                    target[i] = source[right++];
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private int compare(int a, int b) {
+            for (int k = 0; k < columns.length; k++) {
+                boolean nullA = (nulls[k][a >>> 6] & (1L << a)) != 0;
+                boolean nullB = (nulls[k][b >>> 6] & (1L << b)) != 0;
+                if (nullA || nullB) {
+                    if (nullA && nullB) {
+                        continue;
+                    }
+                    return nullA == nullsFirst[k] ? -1 : 1;
+                }
+
+                int result;
+                if (columns[k] instanceof int[] ints) {
+                    result = Integer.compare(ints[a], ints[b]);
+                } else if (columns[k] instanceof long[] longs) {
+                    result = Long.compare(longs[a], longs[b]);
+                } else if (columns[k] instanceof double[] doubles) {
+                    result = Double.compare(doubles[a], doubles[b]);
+                } else if (columns[k] instanceof boolean[] booleans) {
+                    result = Boolean.compare(booleans[a], booleans[b]);
+                } else {
+                    Object[] objects = (Object[]) columns[k];
+                    result = ((Comparable<Object>) objects[a]).compareTo(objects[b]);
+                }
+                if (result != 0) {
+                    return descending[k] ? -Integer.signum(result) : result;
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -1,16 +1,20 @@
 package io.github.rmkane.dotpath.internal.operations;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.github.rmkane.dotpath.api.DotPathException;
+import io.github.rmkane.dotpath.api.DotPathSettings;
+import io.github.rmkane.dotpath.internal.metadata.ClassMetadata;
+import io.github.rmkane.dotpath.internal.metadata.PropertyMetadata;
 
 /**
- * Handles operations specific to object properties.
+ * Handles operations specific to object properties. Index segments are delegated to
+ * {@link IndexOperations}.
  */
 public class PropertyOperations {
+    private final IndexOperations indexOperations = new IndexOperations();
+
     /**
      * Gets a value from an object using a property name.
      */
@@ -19,19 +23,16 @@ public class PropertyOperations {
     }
 
     /**
-     * Retrieves a property value from an object using reflection.
+     * Retrieves a property value from an object using its cached property metadata.
      */
-    public Object getPropertyValue(Object obj, String propertyName)
-            throws IllegalAccessException, InvocationTargetException, NoSuchFieldException {
-        String getter = "get" + capitalize(propertyName);
-        try {
-            Method method = obj.getClass().getMethod(getter);
-            return method.invoke(obj);
-        } catch (NoSuchMethodException e) {
-            Field field = obj.getClass().getDeclaredField(propertyName);
-            field.setAccessible(true);
-            return field.get(obj);
-        }
+    public Object getPropertyValue(Object obj, String propertyName) throws Exception {
+        int index = IndexOperations.parseIndex(propertyName);
+        if (index >= 0) {
+            return indexOperations.getElement(obj, index);
+        }
+        return ClassMetadata.of(obj.getClass())
+                .getExistingProperty(propertyName)
+                .getValue(obj);
     }
 
     /**
@@ -45,28 +46,36 @@ public class PropertyOperations {
             return;
         }
 
-        // Get the field type
-        Field field = obj.getClass().getDeclaredField(propertyName);
-        field.setAccessible(true);
-        Class<?> fieldType = field.getType();
-
-        // Check if the value's type is compatible with the field type
-        if (!isCompatibleType(value.getClass(), fieldType)) {
-            throw new DotPathException("Type mismatch: value type %s is not compatible with field type %s"
-                    .formatted(value.getClass().getName(), fieldType.getName()));
+        int index = IndexOperations.parseIndex(propertyName);
+        if (index >= 0) {
+            indexOperations.setElement(obj, index, value);
+            return;
         }
 
-        String setter = "set" + capitalize(propertyName);
-        for (Method m : obj.getClass().getMethods()) {
-            if (m.getName().equals(setter)
-                    && m.getParameterCount() == 1
-                    && m.getParameterTypes()[0].isAssignableFrom(value.getClass())) {
-                m.invoke(obj, value);
-                return;
+        PropertyMetadata property = ClassMetadata.of(obj.getClass()).getExistingProperty(propertyName);
+        property.setValue(obj, checkValueType(property.getType(), value));
+    }
+
+    /**
+     * Checks that a value can be written to a property of a declared type.
+     *
+     * @param fieldType The declared type of the property
+     * @param value     The value to write
+     * @return The value
+     * @throws DotPathException if the value is null for a primitive property, or its type is not
+     *                          compatible with the declared type
+     */
+    public Object checkValueType(Class<?> fieldType, Object value) throws DotPathException {
+        if (value == null) {
+            if (fieldType.isPrimitive()) {
+                throw new DotPathException(
+                        "Type mismatch: null is not compatible with field type %s".formatted(fieldType.getName()));
             }
+        } else if (!isCompatibleType(value.getClass(), fieldType)) {
+            throw new DotPathException("Type mismatch: value type %s is not compatible with field type %s"
+                    .formatted(value.getClass().getName(), fieldType.getName()));
         }
-
-        field.set(obj, value);
+        return value;
     }
 
     /**
@@ -136,18 +145,24 @@ public class PropertyOperations {
      * Creates and sets an intermediate object for a path segment.
      */
     public Object createAndSetIntermediateObject(Object current, String part) throws Exception {
-        Field field = current.getClass().getDeclaredField(part);
-        field.setAccessible(true);
-        Class<?> fieldType = field.getType();
-        Object instance = fieldType.getDeclaredConstructor().newInstance();
-        field.set(current, instance);
-        return instance;
+        return createAndSetIntermediateObject(
+                current, ClassMetadata.of(current.getClass()).getExistingProperty(part));
     }
 
     /**
-     * Capitalizes the first character of a string.
+     * Creates and sets an intermediate object for an already resolved property.
      */
-    public String capitalize(String s) {
-        return s.isEmpty() ? s : Character.toUpperCase(s.charAt(0)) + s.substring(1);
+    public Object createAndSetIntermediateObject(Object current, PropertyMetadata property) throws Exception {
+        if (DotPathSettings.isConcurrent()) {
+            // Another thread may have set the property since it was read, keep its instance
+            Object instance = property.getType().isAssignableFrom(ConcurrentHashMap.class)
+                    ? new ConcurrentHashMap<>()
+                    : property.newInstance();
+            return property.setIfNull(current, instance);
+        }
+
+        Object instance = property.newInstance();
+        property.setValue(current, instance);
+        return instance;
     }
 }
@@ -5,6 +5,9 @@
  * <ul>
  *   <li>{@code PropertyOperations} - Handles standard Java bean property access</li>
  *   <li>{@code MapOperations} - Handles Map-based property access</li>
+ *   <li>{@code CopyOperations} - Copies a property between traversed source and target objects</li>
+ *   <li>{@code DumpLoader} - Loads memory-mapped files of path=value lines</li>
+ *   <li>{@code AtomicOperations} - Updates traversed properties atomically</li>
  * </ul>
  *
  * <p>These operations are used internally by the reflection utility to support
@@ -6,6 +6,7 @@
  * <p>This package contains:</p>
  * <ul>
  *   <li>Type resolution and validation utilities</li>
+ *   <li>Cached class and property metadata</li>
  *   <li>Property operations for getting/setting values</li>
  *   <li>Path traversal logic</li>
  * </ul>
@@ -0,0 +1,90 @@
+package io.github.rmkane.dotpath.internal.parsers;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * A {@link CharSequence} view of a slice of bytes, so that values received as bytes can be parsed
+ * without first being decoded into a {@code String}.
+ *
+ * <p>{@link #charAt(int)} maps each byte to one character, which is exact for ASCII content such as
+ * numbers, booleans and ISO dates. {@link #toString()} decodes the slice as UTF-8, so string values
+ * keep their non-ASCII characters. Since UTF-8 never encodes non-ASCII characters with ASCII bytes,
+ * splitting on ASCII delimiters and then decoding each part is also exact.</p>
+ *
+ * <p>The view reads the underlying bytes on every access and does not copy them.</p>
+ */
+public final class ByteSequence implements CharSequence {
+    private final byte[] bytes;
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int length;
+
+    private ByteSequence(byte[] bytes, ByteBuffer buffer, int offset, int length) {
+        this.bytes = bytes;
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Creates a view of a slice of a byte array.
+     *
+     * @param bytes  The bytes
+     * @param offset The index of the first byte
+     * @param length The number of bytes
+     * @return The view
+     * @throws IndexOutOfBoundsException if the slice is out of bounds
+     */
+    public static ByteSequence of(byte[] bytes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        return new ByteSequence(bytes, null, offset, length);
+    }
+
+    /**
+     * Creates a view of a slice of a buffer. Bytes are read with absolute indexes, so the position
+     * and limit of the buffer are neither used nor changed.
+     *
+     * @param buffer The buffer
+     * @param offset The absolute index of the first byte
+     * @param length The number of bytes
+     * @return The view
+     * @throws IndexOutOfBoundsException if the slice is out of the capacity of the buffer
+     */
+    public static ByteSequence of(ByteBuffer buffer, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, buffer.capacity());
+        if (buffer.hasArray()) {
+            return new ByteSequence(buffer.array(), null, buffer.arrayOffset() + offset, length);
+        }
+        return new ByteSequence(null, buffer, offset, length);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        Objects.checkIndex(index, length);
+        byte b = bytes != null ? bytes[offset + index] : buffer.get(offset + index);
+        return (char) (b & 0xff);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        Objects.checkFromToIndex(start, end, length);
+        return new ByteSequence(bytes, buffer, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        if (bytes != null) {
+            return new String(bytes, offset, length, StandardCharsets.UTF_8);
+        }
+        byte[] copy = new byte[length];
+        buffer.get(offset, copy);
+        return new String(copy, StandardCharsets.UTF_8);
+    }
+}
@@ -1,8 +1,6 @@
 package io.github.rmkane.dotpath.internal.parsers;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.ArrayList;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -15,7 +13,8 @@ import lombok.NoArgsConstructor;
 public final class CollectionParser {
     /**
      * Parses a comma-separated string into a List of strings.
-     * Each element is trimmed to remove leading and trailing whitespace.
+     * Each element is trimmed to remove leading and trailing whitespace. The input is scanned in place,
+     * so the only strings created are the elements themselves.
      *
      * <p>Example:
      * <pre>
@@ -25,15 +24,34 @@ public final class CollectionParser {
      * </pre>
      *
      * @param str The comma-separated string to parse
-     * @return A List containing the parsed and trimmed elements
+     * @return A mutable list containing the parsed and trimmed elements
      */
-    public static List<String> parseList(String str) {
-        if (str == null || str.trim().isEmpty()) {
-            return List.of();
+    public static ArrayList<String> parseList(CharSequence str) {
+        ArrayList<String> list = new ArrayList<>();
+        if (str == null) {
+            return list;
         }
-        return Arrays.stream(str.split(","))
-                .map(String::trim)
-                .filter(s -> !s.isEmpty())
-                .collect(Collectors.toList());
+        int length = str.length();
+        int start = 0;
+        while (start <= length) {
+            int end = start;
+            while (end < length && str.charAt(end) != ',') {
+                end++;
+            }
+            int next = end + 1;
+
+            // Trim the element as String.trim() does, skipping elements that end up empty
+            while (start < end && str.charAt(start) <= ' ') {
+                start++;
+            }
+            while (end > start && str.charAt(end - 1) <= ' ') {
+                end--;
+            }
+            if (start < end) {
+                list.add(str.subSequence(start, end).toString());
+            }
+            start = next;
+        }
+        return list;
     }
 }
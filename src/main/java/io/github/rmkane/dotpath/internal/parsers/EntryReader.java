@@ -0,0 +1,72 @@
+package io.github.rmkane.dotpath.internal.parsers;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Map;
+
+/**
+ * Reads {@code path=value} entries line by line, so that large inputs are processed without being
+ * loaded at once.
+ *
+ * <p>The format is the common subset of {@code .properties} files:</p>
+ * <ul>
+ *   <li>each entry is a single line, with the key separated from the value by the first {@code =}
+ *       or {@code :};</li>
+ *   <li>keys and values are trimmed;</li>
+ *   <li>blank lines and lines starting with {@code #} or {@code !} are ignored.</li>
+ * </ul>
+ *
+ * <p>Escapes and continuation lines are not supported; files relying on them can be loaded with
+ * {@link java.util.Properties#load(Reader)} instead.</p>
+ */
+public final class EntryReader {
+    private final BufferedReader reader;
+    private int lineNumber;
+
+    /**
+     * @param reader The reader to read entries from; it is not closed by this class
+     */
+    public EntryReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+    }
+
+    /**
+     * Reads the next entry, skipping blank lines and comments.
+     *
+     * @return The entry, or null at the end of the input
+     * @throws IOException              if the input cannot be read
+     * @throws IllegalArgumentException if the next line is not an entry; reading can continue with
+     *                                  the following line
+     */
+    public Map.Entry<String, String> next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            String trimmed = line.strip();
+            if (trimmed.isEmpty() || trimmed.charAt(0) == '#' || trimmed.charAt(0) == '!') {
+                continue;
+            }
+
+            int separator = separatorIndex(trimmed);
+            if (separator < 0) {
+                throw new IllegalArgumentException(
+                        "Invalid entry at line %d: expected path=value but got '%s'".formatted(lineNumber, trimmed));
+            }
+            return Map.entry(
+                    trimmed.substring(0, separator).strip(),
+                    trimmed.substring(separator + 1).strip());
+        }
+        return null;
+    }
+
+    private static int separatorIndex(String line) {
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '=' || c == ':') {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.rmkane.dotpath.internal.parsers;
+
+import java.lang.reflect.Array;
+
+/**
+ * Parses enum constants by name from character sequences, as {@link Enum#valueOf(Class, String)}
+ * does. The constants are placed once in an open-addressing table keyed by the hash code of their
+ * names, so a lookup hashes the input in place instead of converting it to a string.
+ *
+ * @param <E> The enum type
+ */
+public final class EnumParser<E extends Enum<E>> {
+    private final Class<E> type;
+    private final E[] table;
+    private final int mask;
+
+    private EnumParser(Class<E> type) {
+        this.type = type;
+        E[] constants = type.getEnumConstants();
+        int capacity = Integer.highestOneBit(Math.max(1, constants.length) * 2) * 2;
+        @SuppressWarnings("unchecked")
+        E[] slots = (E[]) Array.newInstance(type, capacity);
+        for (E constant : constants) {
+            int slot = constant.name().hashCode() & (capacity - 1);
+            while (slots[slot] != null) {
+                slot = (slot + 1) & (capacity - 1);
+            }
+            slots[slot] = constant;
+        }
+        this.table = slots;
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Creates a parser for an enum type. Classes of constants with a body are resolved to their
+     * enum type.
+     *
+     * @param type The enum type, or the class of one of its constants
+     * @return The parser
+     * @throws IllegalArgumentException if the type is not an enum
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static EnumParser<?> forType(Class<?> type) {
+        Class<?> enumType = type;
+        while (enumType != null && !enumType.isEnum()) {
+            enumType = enumType.getSuperclass();
+        }
+        if (enumType == null) {
+            throw new IllegalArgumentException("Not an enum type: " + type.getName());
+        }
+        return new EnumParser(enumType);
+    }
+
+    /**
+     * Returns the constant with the given name.
+     *
+     * @param name The exact name of the constant
+     * @return The constant
+     * @throws IllegalArgumentException if the enum has no constant with this name
+     */
+    public E parse(CharSequence name) {
+        int hash = 0;
+        for (int i = 0; i < name.length(); i++) {
+            hash = 31 * hash + name.charAt(i);
+        }
+        for (int slot = hash & mask; table[slot] != null; slot = (slot + 1) & mask) {
+            if (table[slot].name().contentEquals(name)) {
+                return table[slot];
+            }
+        }
+        throw new IllegalArgumentException("No enum constant " + type.getCanonicalName() + "." + name);
+    }
+}
@@ -0,0 +1,156 @@
+package io.github.rmkane.dotpath.internal.parsers;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Utility class for parsing numbers and booleans from character sequences without converting them
+ * to strings first. The results and accepted formats match the {@code String} based methods of the
+ * wrapper classes.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PrimitiveParser {
+    /**
+     * Powers of ten that are exactly representable as doubles.
+     */
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19,
+        1e20, 1e21, 1e22
+    };
+
+    /**
+     * The largest integer below which every long is exactly representable as a double.
+     */
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    /**
+     * Parses a signed decimal integer, as {@link Integer#parseInt(String)} does.
+     *
+     * @param seq The characters to parse
+     * @return The parsed value
+     * @throws NumberFormatException if the characters are not a valid int
+     */
+    public static int parseInt(CharSequence seq) {
+        return Integer.parseInt(seq, 0, seq.length(), 10);
+    }
+
+    /**
+     * Parses a signed decimal integer, as {@link Long#parseLong(String)} does.
+     *
+     * @param seq The characters to parse
+     * @return The parsed value
+     * @throws NumberFormatException if the characters are not a valid long
+     */
+    public static long parseLong(CharSequence seq) {
+        return Long.parseLong(seq, 0, seq.length(), 10);
+    }
+
+    /**
+     * Parses a boolean, as {@link Boolean#parseBoolean(String)} does: {@code true} ignoring case is
+     * true and anything else is false.
+     *
+     * @param seq The characters to parse
+     * @return The parsed value
+     */
+    public static boolean parseBoolean(CharSequence seq) {
+        if (seq == null || seq.length() != 4) {
+            return false;
+        }
+        for (int i = 0; i < 4; i++) {
+            if (Character.toLowerCase(seq.charAt(i)) != "true".charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses a double, as {@link Double#parseDouble(String)} does.
+     *
+     * <p>Plain decimals with at most 18 digits and a small exponent, which covers most values seen
+     * in practice, are computed with a single correctly rounded multiplication or division. Other
+     * inputs, such as hexadecimal or special values, fall back to {@link Double#parseDouble(String)}.</p>
+     *
+     * @param seq The characters to parse
+     * @return The parsed value
+     * @throws NumberFormatException if the characters are not a valid double
+     */
+    public static double parseDouble(CharSequence seq) {
+        int end = seq.length();
+        int i = 0;
+        // Leading and trailing whitespace is ignored, as String.trim() does
+        while (i < end && seq.charAt(i) <= ' ') {
+            i++;
+        }
+        while (end > i && seq.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        boolean negative = false;
+        if (i < end && (seq.charAt(i) == '-' || seq.charAt(i) == '+')) {
+            negative = seq.charAt(i) == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean point = false;
+        for (; i < end; i++) {
+            char c = seq.charAt(i);
+            if (c >= '0' && c <= '9') {
+                mantissa = mantissa * 10 + (c - '0');
+                digits++;
+                if (point) {
+                    scale--;
+                }
+            } else if (c == '.' && !point) {
+                point = true;
+            } else {
+                break;
+            }
+        }
+
+        if (i < end && (seq.charAt(i) == 'e' || seq.charAt(i) == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (seq.charAt(i) == '-' || seq.charAt(i) == '+')) {
+                negativeExponent = seq.charAt(i) == '-';
+                i++;
+            }
+            int exponent = 0;
+            int exponentDigits = 0;
+            for (; i < end && exponentDigits < 4; i++, exponentDigits++) {
+                char c = seq.charAt(i);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                exponent = exponent * 10 + (c - '0');
+            }
+            if (exponentDigits == 0) {
+                return Double.parseDouble(seq.toString());
+            }
+            scale += negativeExponent ? -exponent : exponent;
+        }
+
+        if (i != end || digits == 0 || digits > 18 || mantissa > MAX_EXACT_MANTISSA || Math.abs(scale) > 22) {
+            return Double.parseDouble(seq.toString());
+        }
+
+        // Both operands are exact, so the single operation rounds correctly
+        double value = scale < 0 ? mantissa / POWERS_OF_TEN[-scale] : mantissa * POWERS_OF_TEN[scale];
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parses a float, as {@link Float#parseFloat(String)} does.
+     *
+     * @param seq The characters to parse
+     * @return The parsed value
+     * @throws NumberFormatException if the characters are not a valid float
+     */
+    public static float parseFloat(CharSequence seq) {
+        // Rounding through a double may differ from rounding directly to a float
+        return Float.parseFloat(seq.toString());
+    }
+}
@@ -14,24 +14,76 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class TimeParser {
     /**
-     * Parses a string into a LocalDate using ISO_DATE format (yyyy-MM-dd).
+     * Parses a string into a LocalDate using ISO_DATE format (yyyy-MM-dd). Plain {@code yyyy-MM-dd}
+     * dates are read directly; other ISO forms, such as dates with an offset, go through the formatter.
      *
      * @param str The string to parse, must be in ISO date format
      * @return The parsed LocalDate
-     * @throws java.time.format.DateTimeParseException if the string cannot be parsed
+     * @throws java.time.DateTimeException if the string cannot be parsed
      */
-    public static LocalDate parseLocalDate(String str) {
+    public static LocalDate parseLocalDate(CharSequence str) {
+        if (isPlainDate(str, str.length())) {
+            return LocalDate.of(digits(str, 0, 4), digits(str, 5, 2), digits(str, 8, 2));
+        }
         return LocalDate.parse(str, DateTimeFormatter.ISO_DATE);
     }
 
     /**
-     * Parses a string into a LocalDateTime using ISO_DATE_TIME format (yyyy-MM-ddTHH:mm:ss).
+     * Parses a string into a LocalDateTime using ISO_DATE_TIME format (yyyy-MM-ddTHH:mm:ss). Plain
+     * {@code yyyy-MM-ddTHH:mm:ss} values are read directly; other ISO forms go through the formatter.
      *
      * @param str The string to parse, must be in ISO date-time format
      * @return The parsed LocalDateTime
-     * @throws java.time.format.DateTimeParseException if the string cannot be parsed
+     * @throws java.time.DateTimeException if the string cannot be parsed
      */
-    public static LocalDateTime parseLocalDateTime(String str) {
+    public static LocalDateTime parseLocalDateTime(CharSequence str) {
+        if (str.length() == 19
+                && isPlainDate(str, 10)
+                && str.charAt(10) == 'T'
+                && str.charAt(13) == ':'
+                && str.charAt(16) == ':'
+                && digits(str, 11, 2) >= 0
+                && digits(str, 14, 2) >= 0
+                && digits(str, 17, 2) >= 0) {
+            return LocalDateTime.of(
+                    digits(str, 0, 4),
+                    digits(str, 5, 2),
+                    digits(str, 8, 2),
+                    digits(str, 11, 2),
+                    digits(str, 14, 2),
+                    digits(str, 17, 2));
+        }
         return LocalDateTime.parse(str, DateTimeFormatter.ISO_DATE_TIME);
     }
+
+    /**
+     * Checks whether the first characters of a string are a {@code yyyy-MM-dd} date followed by
+     * nothing else when {@code length} is 10.
+     */
+    private static boolean isPlainDate(CharSequence str, int length) {
+        return length == 10
+                && str.length() >= 10
+                && str.charAt(4) == '-'
+                && str.charAt(7) == '-'
+                && digits(str, 0, 4) >= 0
+                && digits(str, 5, 2) >= 0
+                && digits(str, 8, 2) >= 0;
+    }
+
+    /**
+     * Reads a fixed number of decimal digits.
+     *
+     * @return The value, or -1 if any of the characters is not a digit
+     */
+    private static int digits(CharSequence str, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            char c = str.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
 }
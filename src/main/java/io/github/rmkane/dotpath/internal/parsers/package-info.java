@@ -5,8 +5,15 @@
  * <ul>
  *   <li>{@link io.github.rmkane.dotpath.internal.parsers.TimeParser} - Parses date and time strings using ISO formats
  *   <li>{@link io.github.rmkane.dotpath.internal.parsers.CollectionParser} - Parses strings into collections
+ *   <li>{@link io.github.rmkane.dotpath.internal.parsers.PrimitiveParser} - Parses numbers and booleans
+ *   <li>{@link io.github.rmkane.dotpath.internal.parsers.ByteSequence} - Exposes slices of bytes as character sequences
+ *   <li>{@link io.github.rmkane.dotpath.internal.parsers.EnumParser} - Parses enum constants by name
+ *   <li>{@link io.github.rmkane.dotpath.internal.parsers.EntryReader} - Reads path=value entries line by line
  * </ul>
  *
+ * <p>The parsers accept any {@link java.lang.CharSequence} and read it in place, so values received
+ * as bytes are converted without intermediate strings.
+ *
  * <p>These parsers are used internally by the type conversion system to support
  * converting string values to various types when using dot notation paths.
  *
@@ -0,0 +1,129 @@
+package io.github.rmkane.dotpath.internal.traversal;
+
+import java.lang.reflect.Type;
+
+import io.github.rmkane.dotpath.api.DotPathException;
+import io.github.rmkane.dotpath.internal.access.Accessors;
+import io.github.rmkane.dotpath.internal.access.PropertyAccessor;
+import io.github.rmkane.dotpath.internal.operations.IndexOperations;
+
+/**
+ * Reads and writes the element at a fixed index of a List or array, for index segments resolved
+ * once, such as by {@link PropertyChain}.
+ *
+ * <p>The primitive methods read and write elements of the matching primitive arrays directly,
+ * without boxing. Other containers, and indexes out of bounds, go through {@link IndexOperations}.</p>
+ */
+public final class ElementAccessor implements PropertyAccessor {
+    private static final IndexOperations indexOperations = new IndexOperations();
+
+    private final int index;
+    private final Type containerType;
+    private final boolean indexNext;
+
+    /**
+     * @param index         The index of the element
+     * @param containerType The declared type of the List or array, or null if unknown
+     * @param indexNext     Whether the next segment of the path is an index segment
+     */
+    public ElementAccessor(int index, Type containerType, boolean indexNext) {
+        this.index = index;
+        this.containerType = containerType;
+        this.indexNext = indexNext;
+    }
+
+    @Override
+    public Object get(Object target) throws DotPathException {
+        return indexOperations.getElement(target, index);
+    }
+
+    @Override
+    public void set(Object target, Object value) throws DotPathException {
+        indexOperations.setElement(target, index, value);
+    }
+
+    @Override
+    public int getInt(Object target) throws Exception {
+        if (target instanceof int[] array && index < array.length) {
+            return array[index];
+        }
+        return PropertyAccessor.super.getInt(target);
+    }
+
+    @Override
+    public long getLong(Object target) throws Exception {
+        if (target instanceof long[] array && index < array.length) {
+            return array[index];
+        }
+        if (target instanceof int[] array && index < array.length) {
+            return array[index];
+        }
+        return PropertyAccessor.super.getLong(target);
+    }
+
+    @Override
+    public double getDouble(Object target) throws Exception {
+        if (target instanceof double[] array && index < array.length) {
+            return array[index];
+        }
+        return PropertyAccessor.super.getDouble(target);
+    }
+
+    @Override
+    public boolean getBoolean(Object target) throws Exception {
+        if (target instanceof boolean[] array && index < array.length) {
+            return array[index];
+        }
+        return PropertyAccessor.super.getBoolean(target);
+    }
+
+    @Override
+    public void setInt(Object target, int value) throws Exception {
+        if (target instanceof int[] array && index < array.length) {
+            array[index] = value;
+        } else {
+            PropertyAccessor.super.setInt(target, value);
+        }
+    }
+
+    @Override
+    public void setLong(Object target, long value) throws Exception {
+        if (target instanceof long[] array && index < array.length) {
+            array[index] = value;
+        } else if (target instanceof double[] array && index < array.length) {
+            array[index] = Accessors.toDouble(value);
+        } else {
+            PropertyAccessor.super.setLong(target, value);
+        }
+    }
+
+    @Override
+    public void setDouble(Object target, double value) throws Exception {
+        if (target instanceof double[] array && index < array.length) {
+            array[index] = value;
+        } else {
+            PropertyAccessor.super.setDouble(target, value);
+        }
+    }
+
+    @Override
+    public void setBoolean(Object target, boolean value) throws Exception {
+        if (target instanceof boolean[] array && index < array.length) {
+            array[index] = value;
+        } else {
+            PropertyAccessor.super.setBoolean(target, value);
+        }
+    }
+
+    /**
+     * Reads the element, creating it if it is missing or null.
+     *
+     * @param target The List or array
+     * @return The existing or new element
+     * @throws DotPathException if the target is not a List or array, or the element cannot be
+     *                          created
+     */
+    Object getOrCreate(Object target) throws DotPathException {
+        return indexOperations.getOrCreateElement(target, index, containerType, indexNext);
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.rmkane.dotpath.internal.traversal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.github.rmkane.dotpath.api.DotPathException;
+import io.github.rmkane.dotpath.internal.ValidationUtils;
+import io.github.rmkane.dotpath.internal.operations.IndexOperations;
+
+/**
+ * Splits dot-notation paths into validated segments.
+ *
+ * <p>Each part of the path between dots is a property name or map key, optionally followed by
+ * indexes such as {@code items[3]} or {@code matrix[1][2]}. Indexes become segments of their own,
+ * in the canonical form of {@link IndexOperations#toSegment(int)}. The first part of a path may be
+ * an index alone, for roots that are Lists or arrays.</p>
+ */
+public class PathParser {
+    private final ValidationUtils validationUtils = new ValidationUtils();
+
+    /**
+     * Parses a dot-notation path into its segments, validating each segment once.
+     *
+     * @param path The dot-notation path to parse
+     * @return The path segments in traversal order
+     * @throws DotPathException if the path or any of its segments is empty, or an index is not a
+     *                          non-negative integer in brackets
+     */
+    public String[] parse(String path) throws DotPathException {
+        validationUtils.validateInput(path, "path");
+
+        List<String> segments = new ArrayList<>();
+        int start = 0;
+        int end;
+        while ((end = path.indexOf('.', start)) >= 0) {
+            addSegments(segments, path, start, end);
+            start = end + 1;
+        }
+        addSegments(segments, path, start, path.length());
+
+        return segments.toArray(String[]::new);
+    }
+
+    private void addSegments(List<String> segments, String path, int start, int end) throws DotPathException {
+        int bracket = path.indexOf('[', start);
+        if (bracket < 0 || bracket >= end) {
+            segments.add(segment(path, start, end));
+            return;
+        }
+
+        if (bracket > start || !segments.isEmpty()) {
+            segments.add(segment(path, start, bracket));
+        }
+        while (bracket < end) {
+            int close = path.indexOf(']', bracket);
+            int index = close >= 0 && close < end ? IndexOperations.parseIndex(path.substring(bracket, close + 1)) : -1;
+            if (index < 0) {
+                throw new DotPathException("Invalid index in path segment: " + path.substring(start, end));
+            }
+            segments.add(IndexOperations.toSegment(index));
+            bracket = close + 1;
+            if (bracket < end && path.charAt(bracket) != '[') {
+                throw new DotPathException("Invalid index in path segment: " + path.substring(start, end));
+            }
+        }
+    }
+
+    private String segment(String path, int start, int end) throws DotPathException {
+        String segment = path.substring(start, end);
+        validationUtils.validatePathSegment(segment);
+        return segment;
+    }
+}
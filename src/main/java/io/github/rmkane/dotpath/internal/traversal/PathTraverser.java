@@ -1,17 +1,33 @@
 package io.github.rmkane.dotpath.internal.traversal;
 
+import java.lang.reflect.Type;
 import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.github.rmkane.dotpath.api.DotPathException;
+import io.github.rmkane.dotpath.api.DotPathSettings;
+import io.github.rmkane.dotpath.internal.metadata.ClassMetadata;
+import io.github.rmkane.dotpath.internal.metadata.PropertyMetadata;
+import io.github.rmkane.dotpath.internal.operations.IndexOperations;
 import io.github.rmkane.dotpath.internal.operations.MapOperations;
 import io.github.rmkane.dotpath.internal.operations.PropertyOperations;
 
 /**
  * Handles path traversal operations with consistent behavior for maps and objects.
+ *
+ * <p>Index segments select elements of Lists and arrays, see {@link IndexOperations}. On maps they
+ * are keys like any other segment.</p>
  */
 public class PathTraverser {
+    /**
+     * Returned by {@link #findValue(Object, String)} when a path segment does not resolve.
+     */
+    public static final Object MISSING = new Object();
+
     private final PropertyOperations propertyOperations = new PropertyOperations();
     private final MapOperations mapOperations = new MapOperations();
+    private final IndexOperations indexOperations = new IndexOperations();
 
     /**
      * Traverses a path in an object and returns the object at the specified path segment.
@@ -21,13 +37,66 @@ public class PathTraverser {
      * @throws DotPathException if the path is invalid or inaccessible
      */
     public Object traversePath(PropertyContext context) throws DotPathException {
-        validateContext(context);
+        return traversePath(context.getTarget(), context.getPropertyName());
+    }
 
-        if (mapOperations.isMap(context.getTarget())) {
-            return mapOperations.getValue(mapOperations.asMap(context.getTarget()), context.getPropertyName());
+    /**
+     * Traverses a single path segment of an object without allocating a {@link PropertyContext}.
+     *
+     * @param target       The object containing the property
+     * @param propertyName The name of the property to access
+     * @return The value at the specified path
+     * @throws DotPathException if the path is invalid or inaccessible
+     */
+    public Object traversePath(Object target, String propertyName) throws DotPathException {
+        validateTarget(target, propertyName);
+
+        if (mapOperations.isMap(target)) {
+            return mapOperations.getValue(mapOperations.asMap(target), propertyName);
+        }
+
+        int index = IndexOperations.parseIndex(propertyName);
+        if (index >= 0) {
+            return indexOperations.getElement(target, index);
         }
 
-        return getPropertyValue(context);
+        return getPropertyValue(target, propertyName);
+    }
+
+    /**
+     * Looks up a single path segment of an object without creating intermediate objects. Missing
+     * keys and properties are reported with {@link #MISSING} instead of an exception.
+     *
+     * @param target       The object containing the property, may be null
+     * @param propertyName The name of the property to access
+     * @return The value, which may be null, or {@link #MISSING} if the target is null or has no
+     *         such key or property
+     * @throws DotPathException if the property exists but cannot be read
+     */
+    public Object findValue(Object target, String propertyName) throws DotPathException {
+        if (target == null) {
+            return MISSING;
+        }
+
+        if (target instanceof Map<?, ?> map) {
+            Object value = map.get(propertyName);
+            return value != null || map.containsKey(propertyName) ? value : MISSING;
+        }
+
+        int index = IndexOperations.parseIndex(propertyName);
+        if (index >= 0) {
+            return indexOperations.findElement(target, index, MISSING);
+        }
+
+        PropertyMetadata property = ClassMetadata.of(target.getClass()).getProperty(propertyName);
+        if (!property.exists()) {
+            return MISSING;
+        }
+        try {
+            return property.getValue(target);
+        } catch (Exception e) {
+            throw new DotPathException("Error traversing path segment: " + propertyName, e);
+        }
     }
 
     /**
@@ -39,40 +108,127 @@ public class PathTraverser {
      * @throws DotPathException if the path is invalid or inaccessible
      */
     public Object traversePathAndCreateIfNeeded(PropertyContext context) throws DotPathException {
-        validateContext(context);
+        return traversePathAndCreateIfNeeded(context.getTarget(), context.getPropertyName());
+    }
+
+    /**
+     * Traverses a single path segment of an object, creating the intermediate object if needed,
+     * without allocating a {@link PropertyContext}.
+     *
+     * @param target       The object containing the property
+     * @param propertyName The name of the property to access
+     * @return The value at the specified path, creating new objects as needed
+     * @throws DotPathException if the path is invalid or inaccessible
+     */
+    public Object traversePathAndCreateIfNeeded(Object target, String propertyName) throws DotPathException {
+        return traversePathAndCreateIfNeeded(target, propertyName, null, null);
+    }
+
+    /**
+     * Traverses a single path segment of an object, creating the intermediate object if needed.
+     * Map entries are created as a List if the next segment is an index segment, or else as a Map.
+     * List elements are created as described in
+     * {@link IndexOperations#getOrCreateElement(Object, int, Type, boolean)}.
+     *
+     * @param target       The object containing the property
+     * @param propertyName The name of the property to access
+     * @param targetType   The declared type of the target, see {@link #getDeclaredType}, or null if
+     *                     unknown
+     * @param nextSegment  The next segment of the path, or null if unknown
+     * @return The value at the specified path, creating new objects as needed
+     * @throws DotPathException if the path is invalid or inaccessible
+     */
+    public Object traversePathAndCreateIfNeeded(Object target, String propertyName, Type targetType, String nextSegment)
+            throws DotPathException {
+        validateTarget(target, propertyName);
+
+        if (mapOperations.isMap(target)) {
+            // Concurrent maps add the new List or map atomically, and both are safe to share in concurrent mode
+            if (nextSegment != null && IndexOperations.parseIndex(nextSegment) >= 0) {
+                return mapOperations.asMap(target).computeIfAbsent(propertyName, k -> IndexOperations.newList());
+            }
+            return DotPathSettings.isConcurrent()
+                    ? mapOperations.asMap(target).computeIfAbsent(propertyName, k -> new ConcurrentHashMap<>())
+                    : mapOperations.asMap(target).computeIfAbsent(propertyName, k -> new HashMap<>());
+        }
 
-        if (mapOperations.isMap(context.getTarget())) {
-            return mapOperations
-                    .asMap(context.getTarget())
-                    .computeIfAbsent(context.getPropertyName(), k -> new HashMap<>());
+        int index = IndexOperations.parseIndex(propertyName);
+        if (index >= 0) {
+            return indexOperations.getOrCreateElement(
+                    target, index, targetType, nextSegment != null && IndexOperations.parseIndex(nextSegment) >= 0);
         }
 
-        return getOrCreatePropertyValue(context);
+        return getOrCreatePropertyValue(target, propertyName);
+    }
+
+    /**
+     * Traverses the first segments of a path, creating intermediate objects if needed. The declared
+     * types of the properties holding Lists are tracked, so that missing elements are created with
+     * the declared element type.
+     *
+     * @param root     The root object
+     * @param segments The path segments
+     * @param count    The number of segments to traverse, less than the number of segments
+     * @return The object reached after the given number of segments
+     * @throws DotPathException if the path is invalid or inaccessible
+     */
+    public Object traversePathAndCreateIfNeeded(Object root, String[] segments, int count) throws DotPathException {
+        Object current = root;
+        Type currentType = null;
+        for (int i = 0; i < count; i++) {
+            String next = segments[i + 1];
+            Type nextType =
+                    IndexOperations.parseIndex(next) >= 0 ? getDeclaredType(current, segments[i], currentType) : null;
+            current = traversePathAndCreateIfNeeded(current, segments[i], currentType, next);
+            currentType = nextType;
+        }
+        return current;
+    }
+
+    /**
+     * Returns the declared type of the value at a path segment: the generic type of a bean property,
+     * or the element type of a declared List or array type.
+     *
+     * @param target       The object containing the property, may be null
+     * @param propertyName The name of the property
+     * @param targetType   The declared type of the target, or null if unknown
+     * @return The declared type, or null if unknown
+     */
+    public Type getDeclaredType(Object target, String propertyName, Type targetType) {
+        if (target == null || mapOperations.isMap(target)) {
+            return null;
+        }
+        if (IndexOperations.parseIndex(propertyName) >= 0) {
+            return IndexOperations.elementTypeOf(targetType != null ? targetType : target.getClass());
+        }
+        PropertyMetadata property = ClassMetadata.of(target.getClass()).getProperty(propertyName);
+        return property.exists() ? property.getGenericType() : null;
     }
 
-    private void validateContext(PropertyContext context) throws DotPathException {
-        if (context.getTarget() == null) {
-            throw new DotPathException("Null while traversing: " + context.getPropertyName());
+    private void validateTarget(Object target, String propertyName) throws DotPathException {
+        if (target == null) {
+            throw new DotPathException("Null while traversing: " + propertyName);
         }
     }
 
-    private Object getPropertyValue(PropertyContext context) throws DotPathException {
+    private Object getPropertyValue(Object target, String propertyName) throws DotPathException {
         try {
-            return propertyOperations.getPropertyValue(context.getTarget(), context.getPropertyName());
+            return propertyOperations.getPropertyValue(target, propertyName);
         } catch (Exception e) {
-            throw new DotPathException("Error traversing path segment: " + context.getPropertyName(), e);
+            throw new DotPathException("Error traversing path segment: " + propertyName, e);
         }
     }
 
-    private Object getOrCreatePropertyValue(PropertyContext context) throws DotPathException {
+    private Object getOrCreatePropertyValue(Object target, String propertyName) throws DotPathException {
         try {
-            Object value = propertyOperations.getPropertyValue(context.getTarget(), context.getPropertyName());
+            PropertyMetadata property = ClassMetadata.of(target.getClass()).getExistingProperty(propertyName);
+            Object value = property.getValue(target);
             if (value != null) {
                 return value;
             }
-            return propertyOperations.createAndSetIntermediateObject(context.getTarget(), context.getPropertyName());
+            return propertyOperations.createAndSetIntermediateObject(target, property);
         } catch (Exception e) {
-            throw new DotPathException("Error traversing path segment: " + context.getPropertyName(), e);
+            throw new DotPathException("Error traversing path segment: " + propertyName, e);
         }
     }
 }
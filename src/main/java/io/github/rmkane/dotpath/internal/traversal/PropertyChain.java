@@ -0,0 +1,201 @@
+package io.github.rmkane.dotpath.internal.traversal;
+
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.List;
+
+import io.github.rmkane.dotpath.api.DotPathException;
+import io.github.rmkane.dotpath.internal.access.PropertyAccessor;
+import io.github.rmkane.dotpath.internal.metadata.ClassMetadata;
+import io.github.rmkane.dotpath.internal.metadata.PropertyMetadata;
+import io.github.rmkane.dotpath.internal.operations.IndexOperations;
+import io.github.rmkane.dotpath.internal.operations.MapOperations;
+import io.github.rmkane.dotpath.internal.operations.PropertyOperations;
+
+/**
+ * A path resolved against the declared types of a root class, so that its properties and accessors
+ * are looked up once instead of on every access.
+ *
+ * <p>Segments are resolved statically as long as the declared type of the object holding them is a
+ * bean, or a List or array with a known element type for index segments. Once the path reaches a
+ * map, a property declared as {@code Object}, or a property the declared type of a non-final
+ * intermediate object does not have, the remaining segments are resolved against the runtime
+ * values, as in {@link PathTraverser}.</p>
+ */
+public final class PropertyChain {
+    /**
+     * Returned by {@link #get(Object)} when an intermediate object on the path is null.
+     */
+    public static final Object NULL_INTERMEDIATE = new Object();
+
+    private static final PathTraverser pathTraverser = new PathTraverser();
+    private static final PropertyOperations propertyOperations = new PropertyOperations();
+    private static final MapOperations mapOperations = new MapOperations();
+
+    private final String[] segments;
+
+    /**
+     * The statically resolved properties, null for index segments and for the segments resolved at
+     * runtime.
+     */
+    private final PropertyMetadata[] properties;
+
+    /**
+     * The accessors of the statically resolved segments, followed by nulls for the segments resolved
+     * at runtime.
+     */
+    private final PropertyAccessor[] accessors;
+
+    /**
+     * The declared type of the last segment, or null if it is only known at runtime
+     */
+    private final Class<?> type;
+
+    private PropertyChain(
+            String[] segments, PropertyMetadata[] properties, PropertyAccessor[] accessors, Class<?> type) {
+        this.segments = segments;
+        this.properties = properties;
+        this.accessors = accessors;
+        this.type = type;
+    }
+
+    /**
+     * Resolves a path against the declared types of a root class.
+     *
+     * @param rootClass The declared class of the root objects
+     * @param segments  The validated path segments
+     * @return The resolved chain
+     * @throws DotPathException if a property of the root class or of a final intermediate type does
+     *                          not exist
+     */
+    public static PropertyChain resolve(Class<?> rootClass, String[] segments) throws DotPathException {
+        PropertyMetadata[] properties = new PropertyMetadata[segments.length];
+        PropertyAccessor[] accessors = new PropertyAccessor[segments.length];
+        Type declared = rootClass;
+        Class<?> current = rootClass;
+        int i = 0;
+        for (; i < segments.length && current != null; i++) {
+            int index = IndexOperations.parseIndex(segments[i]);
+            if (index >= 0) {
+                if (!isIndexedType(current)) {
+                    break;
+                }
+                boolean indexNext = i + 1 < segments.length && IndexOperations.parseIndex(segments[i + 1]) >= 0;
+                accessors[i] = new ElementAccessor(index, declared, indexNext);
+                declared = IndexOperations.elementTypeOf(declared);
+                current = IndexOperations.rawType(declared);
+            } else {
+                if (!ClassMetadata.isBeanType(current)) {
+                    break;
+                }
+                if (i > 0
+                        && !Modifier.isFinal(current.getModifiers())
+                        && !ClassMetadata.of(current).getProperty(segments[i]).exists()) {
+                    // May be declared by the runtime subclass of the intermediate object
+                    break;
+                }
+                properties[i] = ClassMetadata.of(current).getExistingProperty(segments[i]);
+                accessors[i] = properties[i].getAccessor();
+                declared = properties[i].getGenericType();
+                current = properties[i].getType();
+            }
+        }
+        return new PropertyChain(segments, properties, accessors, i == segments.length ? current : null);
+    }
+
+    /**
+     * Returns the declared type of the last property of the path.
+     *
+     * @return The declared type, or null if the type is only known at runtime
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Reads the value at the end of the path without creating intermediate objects.
+     *
+     * @param root The root object
+     * @return The value, or {@link #NULL_INTERMEDIATE} if an intermediate object is null
+     * @throws Exception if a property is missing or cannot be read
+     */
+    public Object get(Object root) throws Exception {
+        return read(root, segments.length);
+    }
+
+    /**
+     * Reads the object holding the last segment of the path without creating intermediate objects.
+     *
+     * @param root The root object
+     * @return The parent object, or {@link #NULL_INTERMEDIATE} if it or an object before it is null
+     * @throws Exception if a property is missing or cannot be read
+     */
+    public Object getParent(Object root) throws Exception {
+        Object parent = read(root, segments.length - 1);
+        return parent != null ? parent : NULL_INTERMEDIATE;
+    }
+
+    /**
+     * Returns the accessor of the last segment, for reading it from {@link #getParent(Object)}
+     * without boxing.
+     *
+     * @return The accessor, or null if the last segment is only resolved at runtime
+     */
+    public PropertyAccessor getLeafAccessor() {
+        return accessors[segments.length - 1];
+    }
+
+    private Object read(Object root, int count) throws Exception {
+        Object current = root;
+        for (int i = 0; i < count; i++) {
+            if (current == null) {
+                return NULL_INTERMEDIATE;
+            }
+            current = accessors[i] != null
+                    ? accessors[i].get(current)
+                    : mapOperations.isMap(current)
+                            ? mapOperations.getValue(mapOperations.asMap(current), segments[i])
+                            : propertyOperations.getPropertyValue(current, segments[i]);
+        }
+        return current;
+    }
+
+    /**
+     * Writes the value at the end of the path, creating intermediate objects if needed. Values
+     * written to statically resolved properties must already match the declared type.
+     *
+     * @param root  The root object
+     * @param value The value to write
+     * @throws Exception if a property is missing or cannot be written
+     */
+    public void set(Object root, Object value) throws Exception {
+        Object current = root;
+        int last = segments.length - 1;
+        for (int i = 0; i < last; i++) {
+            if (accessors[i] instanceof ElementAccessor element) {
+                current = element.getOrCreate(current);
+            } else if (accessors[i] != null) {
+                Object next = accessors[i].get(current);
+                current =
+                        next != null ? next : propertyOperations.createAndSetIntermediateObject(current, properties[i]);
+            } else {
+                current = pathTraverser.traversePathAndCreateIfNeeded(current, segments[i], null, segments[i + 1]);
+            }
+        }
+
+        if (accessors[last] != null) {
+            accessors[last].set(current, value);
+        } else if (mapOperations.isMap(current)) {
+            mapOperations.setValue(mapOperations.asMap(current), segments[last], value);
+        } else {
+            propertyOperations.setValueOnObject(current, segments[last], value);
+        }
+    }
+
+    /**
+     * Checks whether values of a declared type are always Lists or arrays.
+     */
+    private static boolean isIndexedType(Class<?> type) {
+        return type.isArray() || List.class.isAssignableFrom(type);
+    }
+}
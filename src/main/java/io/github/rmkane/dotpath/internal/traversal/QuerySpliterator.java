@@ -0,0 +1,367 @@
+package io.github.rmkane.dotpath.internal.traversal;
+
+import java.lang.reflect.Array;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+import io.github.rmkane.dotpath.api.DotPathException;
+import io.github.rmkane.dotpath.api.UncheckedDotPathException;
+import io.github.rmkane.dotpath.internal.metadata.ClassMetadata;
+import io.github.rmkane.dotpath.internal.metadata.PropertyMetadata;
+
+/**
+ * Evaluates a query path lazily, walking the object graph once in depth-first order.
+ *
+ * <p>Query paths are dot-notation paths whose segments may also be {@link #WILDCARD}, which selects
+ * every child of the current value, or {@link #RECURSIVE}, which selects the current value and all
+ * of its descendants. The children of a value are the values of a Map, the elements of a List or
+ * array, or else the readable properties of a bean. Classes of the JDK, such as {@code String} or
+ * {@code Integer}, are leaves.</p>
+ *
+ * <p>Only the path from the root to the current value is kept, with one frame per wildcard, so
+ * memory use depends on the depth of the graph rather than on the number of results. Missing keys,
+ * properties and elements, as well as null values, produce no results. Recursive descent does not
+ * enter a value that is already being descended into, so cycles are visited once.</p>
+ *
+ * <p>Splitting divides the children of the outermost wildcard, which splits well when it selects the
+ * elements of a large List or array.</p>
+ */
+public final class QuerySpliterator implements Spliterator<Object> {
+    /**
+     * The segment selecting every child of a value
+     */
+    public static final String WILDCARD = "*";
+
+    /**
+     * The segment selecting a value and all of its descendants
+     */
+    public static final String RECURSIVE = "**";
+
+    private static final PathTraverser pathTraverser = new PathTraverser();
+
+    private final String[] segments;
+    private final Deque<Frame> stack = new ArrayDeque<>();
+
+    /**
+     * The root, until the first advance or split
+     */
+    private Object root;
+
+    /**
+     * The value reached by the last call of {@link #descend(Object, int)}
+     */
+    private Object result;
+
+    /**
+     * The child last received from the children of a frame
+     */
+    private Object child;
+
+    private final Consumer<Object> childSink = value -> child = value;
+
+    /**
+     * Creates a spliterator over the results of a query on a root object.
+     *
+     * @param root     The root object, may be null
+     * @param segments The validated query segments
+     */
+    public QuerySpliterator(Object root, String[] segments) {
+        this.root = root;
+        this.segments = segments;
+    }
+
+    private QuerySpliterator(String[] segments, Frame frame) {
+        this.segments = segments;
+        stack.push(frame);
+    }
+
+    /**
+     * Checks whether a segment is a wildcard or recursive segment.
+     *
+     * @param segment The path segment
+     * @return true if the segment selects more than one value
+     */
+    public static boolean isWildcard(String segment) {
+        return segment.equals(WILDCARD) || segment.equals(RECURSIVE);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Object> action) {
+        if (result != null) {
+            return emit(action);
+        }
+        if (root != null) {
+            Object start = root;
+            root = null;
+            if (descend(start, 0)) {
+                return emit(action);
+            }
+        }
+
+        while (!stack.isEmpty()) {
+            Frame frame = stack.peek();
+            if (!frame.children().tryAdvance(childSink)) {
+                stack.pop();
+                continue;
+            }
+            Object next = takeChild();
+            if (next != null && descend(next, frame.segment())) {
+                return emit(action);
+            }
+        }
+        return false;
+    }
+
+    private Object takeChild() {
+        Object next = child;
+        child = null;
+        return next;
+    }
+
+    private boolean emit(Consumer<? super Object> action) {
+        Object value = result;
+        result = null;
+        action.accept(value);
+        return true;
+    }
+
+    /**
+     * Follows the segments from a value, pushing a frame for the first wildcard.
+     *
+     * @param value   The value, not null
+     * @param segment The index of the next segment
+     * @return true if the value reached the end of the path, stored in {@link #result}
+     */
+    private boolean descend(Object value, int segment) {
+        Object current = value;
+        for (int i = segment; i < segments.length; i++) {
+            String name = segments[i];
+            if (name.equals(WILDCARD)) {
+                push(current, i + 1, false);
+                return false;
+            }
+            if (name.equals(RECURSIVE)) {
+                if (isDescending(current)) {
+                    // A cycle back to a value whose descendants are being visited
+                    return false;
+                }
+                push(current, i, true);
+                // The value itself matches the remaining segments, before its descendants
+                return descend(current, i + 1);
+            }
+            current = find(current, name);
+            if (current == null || current == PathTraverser.MISSING) {
+                return false;
+            }
+        }
+        result = current;
+        return true;
+    }
+
+    private static Object find(Object value, String name) {
+        try {
+            return pathTraverser.findValue(value, name);
+        } catch (DotPathException e) {
+            throw new UncheckedDotPathException(e);
+        }
+    }
+
+    private void push(Object parent, int segment, boolean recursive) {
+        Spliterator<?> children = children(parent);
+        if (children != null) {
+            stack.push(new Frame(parent, children, segment, recursive));
+        }
+    }
+
+    /**
+     * Checks whether recursive descent is already visiting the descendants of a value.
+     */
+    private boolean isDescending(Object value) {
+        for (Frame frame : stack) {
+            if (frame.recursive() && frame.parent() == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the children of a value, or null if it has none.
+     */
+    private static Spliterator<?> children(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            return map.isEmpty() ? null : map.values().spliterator();
+        }
+        if (value instanceof Collection<?> collection) {
+            return collection.isEmpty() ? null : collection.spliterator();
+        }
+        if (value instanceof Object[] array) {
+            return array.length == 0 ? null : Arrays.spliterator(array);
+        }
+        Class<?> type = value.getClass();
+        if (type.isArray()) {
+            int length = Array.getLength(value);
+            return length == 0 ? null : new ArraySpliterator(value, 0, length);
+        }
+        if (type.isEnum() || type.getName().startsWith("java.")) {
+            return null;
+        }
+        PropertyMetadata[] properties = ClassMetadata.of(type).getProperties();
+        return properties.length == 0 ? null : new PropertySpliterator(value, properties, 0, properties.length);
+    }
+
+    /**
+     * Splits off the first children of the outermost wildcard, once the values before it have been
+     * consumed. Wildcards with a single child are entered first, so that their own children can be
+     * split.
+     */
+    @Override
+    public Spliterator<Object> trySplit() {
+        if (root != null) {
+            Object start = root;
+            root = null;
+            descend(start, 0);
+        }
+
+        while (result == null && stack.size() == 1) {
+            Frame frame = stack.peek();
+            long size = frame.children().getExactSizeIfKnown();
+            if (size != 1) {
+                Spliterator<?> prefix = size != 0 ? frame.children().trySplit() : null;
+                return prefix != null ? new QuerySpliterator(segments, frame.withChildren(prefix)) : null;
+            }
+
+            stack.pop();
+            frame.children().tryAdvance(childSink);
+            Object next = takeChild();
+            if (next != null) {
+                // A result found here stays pending for the next advance
+                descend(next, frame.segment());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of children left in the outermost wildcard, as a lower bound of the number
+     * of results when each of them matches.
+     */
+    @Override
+    public long estimateSize() {
+        if (root != null) {
+            return Long.MAX_VALUE;
+        }
+        long pending = result != null ? 1 : 0;
+        return stack.isEmpty() ? pending : stack.peekLast().children().estimateSize() + pending;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+
+    /**
+     * The children of a value left to visit, with the index of the segment that applies to them.
+     */
+    private record Frame(Object parent, Spliterator<?> children, int segment, boolean recursive) {
+        Frame withChildren(Spliterator<?> prefix) {
+            return new Frame(parent, prefix, segment, recursive);
+        }
+    }
+
+    /**
+     * The elements of a primitive array.
+     */
+    private static final class ArraySpliterator extends Spliterators.AbstractSpliterator<Object> {
+        private final Object array;
+        private int index;
+        private final int end;
+
+        ArraySpliterator(Object array, int index, int end) {
+            super(end - index, ORDERED | SIZED | SUBSIZED | NONNULL);
+            this.array = array;
+            this.index = index;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Object> action) {
+            if (index >= end) {
+                return false;
+            }
+            action.accept(Array.get(array, index++));
+            return true;
+        }
+
+        @Override
+        public Spliterator<Object> trySplit() {
+            int mid = (index + end) >>> 1;
+            if (mid <= index) {
+                return null;
+            }
+            Spliterator<Object> prefix = new ArraySpliterator(array, index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - index;
+        }
+    }
+
+    /**
+     * The values of the readable properties of a bean, read as they are reached.
+     */
+    private static final class PropertySpliterator extends Spliterators.AbstractSpliterator<Object> {
+        private final Object bean;
+        private final PropertyMetadata[] properties;
+        private int index;
+        private final int end;
+
+        PropertySpliterator(Object bean, PropertyMetadata[] properties, int index, int end) {
+            super(end - index, ORDERED | SIZED | SUBSIZED);
+            this.bean = bean;
+            this.properties = properties;
+            this.index = index;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Object> action) {
+            if (index >= end) {
+                return false;
+            }
+            PropertyMetadata property = properties[index++];
+            try {
+                action.accept(property.getValue(bean));
+            } catch (Exception e) {
+                throw new UncheckedDotPathException(
+                        new DotPathException("Error reading property: " + property.getName(), e));
+            }
+            return true;
+        }
+
+        @Override
+        public Spliterator<Object> trySplit() {
+            int mid = (index + end) >>> 1;
+            if (mid <= index) {
+                return null;
+            }
+            Spliterator<Object> prefix = new PropertySpliterator(bean, properties, index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - index;
+        }
+    }
+}
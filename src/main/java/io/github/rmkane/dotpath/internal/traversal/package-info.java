@@ -3,8 +3,10 @@
  *
  * <p>This package provides:</p>
  * <ul>
+ *   <li>{@code PathParser} - Splits dot-notation paths into validated segments</li>
  *   <li>{@code PathTraverser} - Core logic for navigating through object properties</li>
  *   <li>{@code PropertyContext} - Represents the context for property operations</li>
+ *   <li>{@code PropertyChain} - A path resolved once against the declared types of a root class</li>
  * </ul>
  *
  * <p>The traversal system supports:</p>
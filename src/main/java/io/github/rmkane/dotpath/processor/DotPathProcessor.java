@@ -0,0 +1,385 @@
+package io.github.rmkane.dotpath.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Generates an {@code AccessorTable} for every class annotated with
+ * {@code @DotPathAccessible}, and for the bean classes reachable through its properties that are
+ * compiled in the same round, and registers the tables in
+ * {@code META-INF/services/io.github.rmkane.dotpath.spi.AccessorTable}.
+ *
+ * <p>Properties are discovered the same way the runtime resolves them: a public {@code getX()} (or
+ * {@code isX()} for booleans) getter, else a field, with an optional public {@code setX(T)} setter.
+ * Fields are only used when the generated table, which lives in the package of the class, can
+ * access them.</p>
+ */
+@SupportedAnnotationTypes(DotPathProcessor.ANNOTATION)
+public class DotPathProcessor extends AbstractProcessor {
+    static final String ANNOTATION = "io.github.rmkane.dotpath.api.DotPathAccessible";
+
+    private static final String TABLE_INTERFACE = "io.github.rmkane.dotpath.spi.AccessorTable";
+    private static final String TABLE_SUFFIX = "$DotPathAccessors";
+
+    private final Set<String> processedTypes = new HashSet<>();
+    private final Set<String> generatedTables = new LinkedHashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+
+        Set<TypeElement> roundTypes = new HashSet<>();
+        collectTypes(ElementFilter.typesIn(roundEnv.getRootElements()), roundTypes);
+
+        Deque<TypeElement> pending = new ArrayDeque<>();
+        TypeElement annotation = processingEnv.getElementUtils().getTypeElement(ANNOTATION);
+        if (annotation != null) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.CLASS) {
+                    error(element, "@DotPathAccessible can only be applied to classes");
+                } else {
+                    pending.add((TypeElement) element);
+                }
+            }
+        }
+
+        while (!pending.isEmpty()) {
+            TypeElement type = pending.pop();
+            if (!processedTypes.add(type.getQualifiedName().toString())) {
+                continue;
+            }
+            if (type.getModifiers().contains(Modifier.PRIVATE)) {
+                error(type, "@DotPathAccessible classes must not be private");
+                continue;
+            }
+
+            List<Property> properties = collectProperties(type);
+            writeTable(type, properties);
+
+            // Follow properties whose types are compiled in the same round
+            for (Property property : properties) {
+                TypeMirror erasure = processingEnv.getTypeUtils().erasure(property.type());
+                if (erasure.getKind() == TypeKind.DECLARED) {
+                    TypeElement propertyType = (TypeElement) ((DeclaredType) erasure).asElement();
+                    if (roundTypes.contains(propertyType)
+                            && propertyType.getKind() == ElementKind.CLASS
+                            && !propertyType.getModifiers().contains(Modifier.PRIVATE)) {
+                        pending.add(propertyType);
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private void collectTypes(Iterable<TypeElement> types, Set<TypeElement> result) {
+        for (TypeElement type : types) {
+            if (result.add(type)) {
+                collectTypes(ElementFilter.typesIn(type.getEnclosedElements()), result);
+            }
+        }
+    }
+
+    /**
+     * Collects the properties of a class in declaration order.
+     */
+    private List<Property> collectProperties(TypeElement type) {
+        List<? extends Element> members = processingEnv.getElementUtils().getAllMembers(type);
+        Map<String, ExecutableElement> getters = new LinkedHashMap<>();
+        Map<String, ExecutableElement> setters = new LinkedHashMap<>();
+
+        for (ExecutableElement method : ElementFilter.methodsIn(members)) {
+            Set<Modifier> modifiers = method.getModifiers();
+            if (!modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.STATIC)) {
+                continue;
+            }
+            String name = method.getSimpleName().toString();
+            if (method.getParameters().isEmpty() && method.getReturnType().getKind() != TypeKind.VOID) {
+                if (name.startsWith("get") && name.length() > 3 && !name.equals("getClass")) {
+                    getters.putIfAbsent(decapitalize(name.substring(3)), method);
+                } else if (name.startsWith("is") && name.length() > 2 && isBoolean(method.getReturnType())) {
+                    getters.putIfAbsent(decapitalize(name.substring(2)), method);
+                }
+            } else if (method.getParameters().size() == 1 && name.startsWith("set") && name.length() > 3) {
+                setters.putIfAbsent(name, method);
+            }
+        }
+
+        Map<String, Property> properties = new LinkedHashMap<>();
+        for (Map.Entry<String, ExecutableElement> entry : getters.entrySet()) {
+            String name = entry.getKey();
+            ExecutableElement getter = entry.getValue();
+            ExecutableElement setter = setters.get("set" + capitalize(name));
+            if (setter != null
+                    && !processingEnv
+                            .getTypeUtils()
+                            .isSameType(setter.getParameters().get(0).asType(), getter.getReturnType())) {
+                setter = null;
+            }
+            properties.put(name, new Property(name, getter.getReturnType(), getter, setter, null));
+        }
+
+        for (VariableElement field : ElementFilter.fieldsIn(members)) {
+            String name = field.getSimpleName().toString();
+            if (properties.containsKey(name) || !isAccessibleField(type, field)) {
+                continue;
+            }
+            ExecutableElement setter = setters.get("set" + capitalize(name));
+            if (setter != null
+                    && !processingEnv
+                            .getTypeUtils()
+                            .isSameType(setter.getParameters().get(0).asType(), field.asType())) {
+                setter = null;
+            }
+            properties.put(name, new Property(name, field.asType(), null, setter, field));
+        }
+
+        return new ArrayList<>(properties.values());
+    }
+
+    private boolean isAccessibleField(TypeElement type, VariableElement field) {
+        Set<Modifier> modifiers = field.getModifiers();
+        if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        return modifiers.contains(Modifier.PUBLIC)
+                || packageOf(field.getEnclosingElement()).equals(packageOf(type));
+    }
+
+    private void writeTable(TypeElement type, List<Property> properties) {
+        String packageName = packageOf(type).getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        String tableName = binaryName + TABLE_SUFFIX;
+        String simpleTableName = packageName.isEmpty() ? tableName : tableName.substring(packageName.length() + 1);
+        String typeName = erasure(type.asType());
+
+        try (Writer writer = processingEnv
+                        .getFiler()
+                        .createSourceFile(tableName, type)
+                        .openWriter();
+                PrintWriter out = new PrintWriter(writer)) {
+            if (!packageName.isEmpty()) {
+                out.printf("package %s;%n%n", packageName);
+            }
+            out.printf("@javax.annotation.processing.Generated(\"%s\")%n", DotPathProcessor.class.getName());
+            out.printf("@SuppressWarnings({\"unchecked\", \"rawtypes\"})%n");
+            out.printf("public final class %s implements %s {%n", simpleTableName, TABLE_INTERFACE);
+
+            out.printf("    private static final Class<?>[] TYPES = {");
+            for (int i = 0; i < properties.size(); i++) {
+                out.printf(
+                        "%s%s.class",
+                        i > 0 ? ", " : "", erasure(properties.get(i).type()));
+            }
+            out.printf("};%n%n");
+
+            out.printf("    @Override%n    public Class<?> type() {%n        return %s.class;%n    }%n%n", typeName);
+
+            out.printf("    @Override%n    public int indexOf(String property) {%n");
+            out.printf("        switch (property) {%n");
+            for (int i = 0; i < properties.size(); i++) {
+                out.printf(
+                        "            case \"%s\": return %d;%n",
+                        properties.get(i).name(), i);
+            }
+            out.printf("            default: return -1;%n        }%n    }%n%n");
+
+            out.printf("    @Override%n    public Class<?> propertyType(int index) {%n");
+            out.printf("        return TYPES[index];%n    }%n%n");
+
+            out.printf("    @Override%n    public boolean isWritable(int index) {%n");
+            out.printf("        switch (index) {%n");
+            for (int i = 0; i < properties.size(); i++) {
+                out.printf(
+                        "            case %d: return %s;%n",
+                        i, properties.get(i).isWritable());
+            }
+            out.printf("            default: throw new IndexOutOfBoundsException(index);%n        }%n    }%n%n");
+
+            out.printf("    @Override%n    public Object get(Object target, int index) {%n");
+            out.printf("        %s t = (%s) target;%n", typeName, typeName);
+            out.printf("        switch (index) {%n");
+            for (int i = 0; i < properties.size(); i++) {
+                Property property = properties.get(i);
+                String read = property.getter() != null
+                        ? "t." + property.getter().getSimpleName() + "()"
+                        : "t." + property.field().getSimpleName();
+                out.printf("            case %d: return %s;%n", i, read);
+            }
+            out.printf("            default: throw new IndexOutOfBoundsException(index);%n        }%n    }%n%n");
+
+            out.printf("    @Override%n    public void set(Object target, int index, Object value) {%n");
+            out.printf("        %s t = (%s) target;%n", typeName, typeName);
+            out.printf("        switch (index) {%n");
+            for (int i = 0; i < properties.size(); i++) {
+                Property property = properties.get(i);
+                String value = cast(property.type());
+                if (property.setter() != null) {
+                    out.printf(
+                            "            case %d: t.%s(%s); return;%n",
+                            i, property.setter().getSimpleName(), value);
+                } else if (property.isWritable()) {
+                    out.printf(
+                            "            case %d: t.%s = %s; return;%n",
+                            i, property.field().getSimpleName(), value);
+                }
+            }
+            out.printf("            default: throw new UnsupportedOperationException(String.valueOf(index));%n");
+            out.printf("        }%n    }%n%n");
+
+            out.printf("    @Override%n    public Object newInstance(int index) {%n");
+            out.printf("        switch (index) {%n");
+            for (int i = 0; i < properties.size(); i++) {
+                String creation = creation(type, properties.get(i).type());
+                if (creation != null) {
+                    out.printf("            case %d: return %s;%n", i, creation);
+                }
+            }
+            out.printf("            default: return null;%n        }%n    }%n");
+            out.printf("}%n");
+        } catch (IOException e) {
+            error(type, "Failed to write accessor table: " + e.getMessage());
+            return;
+        }
+
+        generatedTables.add(tableName);
+    }
+
+    private void writeServiceFile() {
+        if (generatedTables.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject file = processingEnv
+                    .getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", "META-INF/services/" + TABLE_INTERFACE);
+            try (PrintWriter out = new PrintWriter(file.openWriter())) {
+                for (String table : generatedTables) {
+                    out.println(table);
+                }
+            }
+        } catch (IOException e) {
+            processingEnv
+                    .getMessager()
+                    .printMessage(Diagnostic.Kind.ERROR, "Failed to register accessor tables: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the expression converting {@code value} to a property type. Boxed numbers are converted
+     * through {@link Number} so that the widening accepted by the reflective engines also works here.
+     */
+    private String cast(TypeMirror type) {
+        return switch (type.getKind()) {
+            case BOOLEAN -> "(Boolean) value";
+            case CHAR -> "(Character) value";
+            case BYTE, SHORT, INT, LONG, FLOAT, DOUBLE ->
+                "((Number) value)." + type.getKind().name().toLowerCase() + "Value()";
+            default -> "(" + erasure(type) + ") value";
+        };
+    }
+
+    /**
+     * Returns the expression creating an intermediate value of a property type, or null if the type
+     * cannot be instantiated from the generated table.
+     */
+    private String creation(TypeElement owner, TypeMirror type) {
+        TypeMirror erasure = processingEnv.getTypeUtils().erasure(type);
+        if (erasure.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+
+        TypeElement element = (TypeElement) ((DeclaredType) erasure).asElement();
+        if (element.getQualifiedName().contentEquals("java.util.Map")) {
+            return "new java.util.HashMap<>()";
+        }
+        if (element.getKind() != ElementKind.CLASS
+                || element.getModifiers().contains(Modifier.ABSTRACT)
+                || (element.getNestingKind() == NestingKind.MEMBER
+                        && !element.getModifiers().contains(Modifier.STATIC))) {
+            return null;
+        }
+
+        boolean samePackage = packageOf(element).equals(packageOf(owner));
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(element.getEnclosedElements())) {
+            Set<Modifier> modifiers = constructor.getModifiers();
+            if (constructor.getParameters().isEmpty()
+                    && (modifiers.contains(Modifier.PUBLIC)
+                            || (samePackage && !modifiers.contains(Modifier.PRIVATE)))) {
+                return "new " + erasure(type) + "()";
+            }
+        }
+        return null;
+    }
+
+    private String erasure(TypeMirror type) {
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+
+    private boolean isBoolean(TypeMirror type) {
+        return type.getKind() == TypeKind.BOOLEAN || type.toString().equals("java.lang.Boolean");
+    }
+
+    private PackageElement packageOf(Element element) {
+        return processingEnv.getElementUtils().getPackageOf(element);
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private static String capitalize(String s) {
+        return s.isEmpty() ? s : Character.toUpperCase(s.charAt(0)) + s.substring(1);
+    }
+
+    private static String decapitalize(String s) {
+        return s.isEmpty() ? s : Character.toLowerCase(s.charAt(0)) + s.substring(1);
+    }
+
+    /**
+     * A property discovered on a class, backed by a getter or else a field.
+     */
+    private record Property(
+            String name, TypeMirror type, ExecutableElement getter, ExecutableElement setter, VariableElement field) {
+        boolean isWritable() {
+            return setter != null || (field != null && !field.getModifiers().contains(Modifier.FINAL));
+        }
+    }
+}
@@ -0,0 +1,10 @@
+/**
+ * Compile-time support for DotPath.
+ *
+ * <p>This package provides:</p>
+ * <ul>
+ *   <li>{@code DotPathProcessor} - Generates accessor tables for classes annotated with
+ *       {@code @DotPathAccessible}</li>
+ * </ul>
+ */
+package io.github.rmkane.dotpath.processor;
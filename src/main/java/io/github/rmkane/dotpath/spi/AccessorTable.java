@@ -0,0 +1,69 @@
+package io.github.rmkane.dotpath.spi;
+
+/**
+ * Reflection-free access to the properties of a single class. Implementations are generated by the
+ * DotPath annotation processor for classes annotated with
+ * {@link io.github.rmkane.dotpath.api.DotPathAccessible} and discovered through
+ * {@link java.util.ServiceLoader}.
+ *
+ * <p>Properties are addressed by an index obtained once from {@link #indexOf(String)}, so each
+ * access is a switch over a small integer rather than a string lookup.</p>
+ */
+public interface AccessorTable {
+    /**
+     * Returns the class whose properties this table accesses.
+     *
+     * @return The accessed class
+     */
+    Class<?> type();
+
+    /**
+     * Returns the index of a property.
+     *
+     * @param property The property name
+     * @return The property index, or -1 if the table has no such property
+     */
+    int indexOf(String property);
+
+    /**
+     * Returns the declared type of a property.
+     *
+     * @param index The property index
+     * @return The declared type
+     */
+    Class<?> propertyType(int index);
+
+    /**
+     * Checks whether a property has a setter or a writable field.
+     *
+     * @param index The property index
+     * @return true if {@link #set(Object, int, Object)} is supported for the property
+     */
+    boolean isWritable(int index);
+
+    /**
+     * Reads a property.
+     *
+     * @param target The object to read from
+     * @param index  The property index
+     * @return The property value
+     */
+    Object get(Object target, int index);
+
+    /**
+     * Writes a property.
+     *
+     * @param target The object to write to
+     * @param index  The property index
+     * @param value  The value to write
+     */
+    void set(Object target, int index, Object value);
+
+    /**
+     * Creates a new instance of the declared type of a property, used for intermediate objects.
+     *
+     * @param index The property index
+     * @return The new instance, or null if the declared type cannot be instantiated
+     */
+    Object newInstance(int index);
+}
@@ -0,0 +1,12 @@
+/**
+ * Service provider interfaces implemented by code generated for DotPath.
+ *
+ * <p>This package provides:</p>
+ * <ul>
+ *   <li>{@code AccessorTable} - Reflection-free property access generated at compile time</li>
+ * </ul>
+ *
+ * <p>Implementations are registered in {@code META-INF/services} by the annotation processor and
+ * should not normally be written by hand.</p>
+ */
+package io.github.rmkane.dotpath.spi;
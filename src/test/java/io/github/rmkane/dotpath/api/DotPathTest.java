@@ -2,15 +2,41 @@ package io.github.rmkane.dotpath.api;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Period;
+import java.time.temporal.TemporalAmount;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import io.github.rmkane.dotpath.model.Point;
+import io.github.rmkane.dotpath.model.Route;
 import io.github.rmkane.dotpath.model.State;
+import io.github.rmkane.dotpath.model.Station;
+import io.github.rmkane.dotpath.model.Thermometer;
 
 class DotPathTest {
     @Test
@@ -149,6 +175,19 @@ class DotPathTest {
         DotPath.copy(source, target, "properties.score");
         assertEquals(1000, target.getProperties().get("score"));
 
+        // Compatibility between a map and a bean is checked once per classes and segment
+        Map<String, Object> values = new HashMap<>(Map.of("count", 7, "player", 8));
+        Map<String, Object> sourceRoot = new HashMap<>(Map.of("state", values));
+        Map<String, Object> targetRoot = new HashMap<>(Map.of("state", target));
+        for (int i = 0; i < 2; i++) {
+            DotPath.copy(sourceRoot, targetRoot, "state.count");
+            assertEquals(7, target.getCount());
+            assertThrows(DotPathException.class, () -> DotPath.copy(sourceRoot, targetRoot, "state.player"));
+        }
+        values.put("player", "Player2");
+        DotPath.copy(sourceRoot, targetRoot, "state.player");
+        assertEquals("Player2", target.getPlayer());
+
         // Test type incompatibility with completely different types
         String incompatibleTarget = "This is a String, not a State";
 
@@ -205,6 +244,241 @@ class DotPathTest {
         assertEquals(1000, state.getProperties().get("score"));
     }
 
+    @Test
+    void testSetFromStringPlans() throws Exception {
+        CompiledPath count = DotPath.compile("count");
+
+        // The converter resolved for one root is reused for later roots of the same class
+        for (int i = 0; i < 3; i++) {
+            State state = State.builder().build();
+            count.setFromString(state, String.valueOf(i));
+            assertEquals(i, state.getCount());
+        }
+
+        // Roots of another class, including maps, are resolved from their runtime values
+        Map<String, Object> map = new HashMap<>();
+        count.setFromString(map, "7");
+        assertEquals(7, map.get("count"));
+
+        State state = State.builder().build();
+        count.setFromString(state, "8");
+        assertEquals(8, state.getCount());
+
+        DotPathException exception = assertThrows(
+                DotPathException.class,
+                () -> count.setFromString(State.builder().build(), "eight"));
+        assertEquals("Error setting value from string at path: count", exception.getMessage());
+        assertTrue(exception.getCause().getMessage().contains("Failed to convert value 'eight' to type int"));
+
+        // Roots of alternating classes keep their own plans
+        CompiledPath value = DotPath.compile("value");
+        for (int i = 0; i < 3; i++) {
+            State alternating = State.builder().build();
+            value.setFromString(alternating, i + ".5");
+            value.setFromString(map, String.valueOf(i));
+            assertEquals(i + 0.5, alternating.getValue());
+            assertEquals(i, map.get("value"));
+        }
+
+        // Properties only declared by the runtime class of an intermediate object resolve at runtime
+        Station station = Station.builder().sensor(new Thermometer()).build();
+        DotPath.setFromString(station, "sensor.reading", "21.5");
+        assertEquals(21.5, ((Thermometer) station.getSensor()).getReading());
+        assertEquals(List.of(21.5), DotPath.compile("sensor.reading").extract(List.of(station)));
+        assertThrows(DotPathException.class, () -> DotPath.setFromString(station, "sensor.missing", "1"));
+    }
+
+    @Test
+    void testSetFromSlices() throws Exception {
+        State state = State.builder().build();
+        byte[] bytes = "count=42;value=-12.5e-1;player=José;level=7".getBytes(StandardCharsets.UTF_8);
+
+        DotPath.setFromString(state, "count", bytes, 6, 2);
+        assertEquals(42, state.getCount());
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+        DotPath.setFromString(state, "value", buffer, 15, 8);
+        assertEquals(-1.25, state.getValue());
+        assertEquals(bytes.length, buffer.position());
+
+        DotPath.setFromString(state, "player", bytes, 31, 5);
+        assertEquals("José", state.getPlayer());
+
+        DotPath.setFromString(state, "properties.level", new StringBuilder("7"));
+        assertEquals(7, state.getProperties().get("level"));
+
+        assertThrows(DotPathException.class, () -> DotPath.setFromString(state, "count", bytes, 40, 10));
+        assertThrows(DotPathException.class, () -> DotPath.setFromString(state, "count", new StringBuilder(" ")));
+
+        // Decimals are parsed exactly as Double.parseDouble does
+        for (String value : List.of("0.1", "3.14", "-0.0", "1e22", "123456789012345678", "2.5E-3", "1e-30", "NaN")) {
+            DotPath.setFromString(state, "value", new StringBuilder(value));
+            assertEquals(Double.parseDouble(value), state.getValue(), value);
+        }
+    }
+
+    @Test
+    void testConverterRegistry() throws Exception {
+        State state = State.builder().build();
+        state.getProperties().put("day", DayOfWeek.MONDAY);
+        state.getProperties().put("id", new UUID(0, 0));
+        state.getProperties().put("timeout", Duration.ZERO);
+
+        // Enums are converted by constant name without registration
+        DotPath.setFromString(state, "properties.day", "FRIDAY");
+        assertEquals(DayOfWeek.FRIDAY, state.getProperties().get("day"));
+        assertThrows(DotPathException.class, () -> DotPath.setFromString(state, "properties.day", "friday"));
+
+        // Converters can be registered for exact types and for supertypes
+        assertThrows(DotPathException.class, () -> DotPath.setFromString(state, "properties.id", "x"));
+        ConverterRegistry.register(UUID.class, value -> UUID.fromString(value.toString()));
+        UUID id = UUID.randomUUID();
+        DotPath.setFromString(state, "properties.id", id.toString());
+        assertEquals(id, state.getProperties().get("id"));
+
+        ConverterRegistry.registerSubtypes(
+                TemporalAmount.class, type -> type == Duration.class ? Duration::parse : null);
+        DotPath.setFromString(state, "properties.timeout", "PT5S");
+        assertEquals(Duration.ofSeconds(5), state.getProperties().get("timeout"));
+        assertNull(ConverterRegistry.find(Period.class));
+        assertNotNull(ConverterRegistry.find(Duration.class));
+    }
+
+    @Test
+    void testApply() throws Exception {
+        State state = State.builder().build();
+        Properties properties = new Properties();
+        properties.setProperty("count", "3");
+        properties.setProperty("position.x", "10");
+        DotPath.applyProperties(state, properties);
+        assertEquals(3, state.getCount());
+        assertEquals(10, state.getPosition().getX());
+
+        DotPath.applyEnv(state, "APP_", Map.of("APP_POSITION_Y", "20", "APP_COUNT", "4", "HOME", "/root"));
+        assertEquals(20, state.getPosition().getY());
+        assertEquals(4, state.getCount());
+
+        // Segments match camelCase properties ignoring case; map keys stay in lower case
+        Route route = Route.builder().build();
+        DotPath.applyEnv(route, "APP_", Map.of("APP_MAXSTOPS", "7", "APP_NAME", "north"));
+        assertEquals(7, route.getMaxStops());
+        assertEquals("north", route.getName());
+        DotPath.applyEnv(state, "APP_", Map.of("APP_PROPERTIES_MAXLEVEL", "high"));
+        assertEquals("high", state.getProperties().get("maxlevel"));
+
+        String input =
+                """
+                # Comments and blank lines are skipped
+
+                player = Player1
+                position.x: 30
+                not an entry
+                count=five
+                properties..level=5
+                properties.level=6
+                """;
+        DotPathException exception =
+                assertThrows(DotPathException.class, () -> DotPath.apply(state, new StringReader(input)));
+        assertEquals("Failed to apply 3 of 6 entries", exception.getMessage());
+        assertEquals(3, exception.getSuppressed().length);
+
+        // The valid entries are applied despite the failures
+        assertEquals("Player1", state.getPlayer());
+        assertEquals(30, state.getPosition().getX());
+        assertEquals(6, state.getProperties().get("level"));
+    }
+
+    @Test
+    void testLoad(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("state.properties");
+        Files.writeString(file, "count=5\r\nposition.x = 10\n# comment\nposition.y=20\nproperties.level=7\n");
+
+        State state = State.builder().build();
+        DotPath.load(state, file);
+        assertEquals(5, state.getCount());
+        assertEquals(10, state.getPosition().getX());
+        assertEquals(20, state.getPosition().getY());
+        assertEquals(7, state.getProperties().get("level"));
+
+        // Chunks loaded in parallel are merged into the map root
+        StringBuilder dump = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            dump.append("group")
+                    .append(i % 10)
+                    .append(".item")
+                    .append(i)
+                    .append('=')
+                    .append(i)
+                    .append('\n');
+        }
+        dump.append("group0.item0=first\n");
+        Files.writeString(file, dump);
+
+        Map<String, Object> root = new HashMap<>();
+        root.put("group0", new HashMap<>(Map.of("existing", true)));
+        DotPath.load(root, file, 4);
+        assertEquals(10, root.size());
+        assertEquals(999, DotPath.<Integer>get(root, "group9.item999"));
+        assertEquals("first", DotPath.get(root, "group0.item0"));
+        assertEquals(true, DotPath.get(root, "group0.existing"));
+
+        // Entries reaching beans and typed values in the root are applied as by a serial load
+        dump.setLength(0);
+        for (int i = 0; i < 1000; i++) {
+            dump.append("group")
+                    .append(i % 10)
+                    .append(".item")
+                    .append(i)
+                    .append('=')
+                    .append(i)
+                    .append('\n');
+            dump.append("state.count=").append(i).append('\n');
+        }
+        dump.append("state.position.x=10\nstate.value=2\nlimit=7\n");
+        Files.writeString(file, dump);
+
+        Map<String, Map<String, Object>> loaded = new HashMap<>();
+        for (int parallelism : new int[] {1, 4}) {
+            Map<String, Object> mixed = new HashMap<>();
+            mixed.put("state", State.builder().player("Player1").build());
+            mixed.put("limit", 1L);
+            DotPath.load(mixed, file, parallelism);
+            loaded.put(parallelism == 1 ? "serial" : "parallel", mixed);
+        }
+        assertEquals(loaded.get("serial"), loaded.get("parallel"));
+        State loadedState = (State) loaded.get("parallel").get("state");
+        assertEquals(999, loadedState.getCount());
+        assertEquals("Player1", loadedState.getPlayer());
+        assertEquals(10, loadedState.getPosition().getX());
+        assertEquals(7L, loaded.get("parallel").get("limit"));
+
+        // Indexes are segments of their own, as in DotPath.set, also when chunks are merged
+        dump.setLength(0);
+        for (int i = 0; i < 1000; i++) {
+            dump.append("items[").append(i % 20).append("].name").append(i % 3).append("=x\n");
+        }
+        dump.append("matrix[1][02]=5\n");
+        Files.writeString(file, dump);
+        for (int parallelism : new int[] {1, 4}) {
+            Map<String, Object> indexed = new HashMap<>();
+            DotPath.load(indexed, file, parallelism);
+            assertEquals(20, DotPath.<List<?>>get(indexed, "items").size());
+            assertEquals(Map.of("name0", "x", "name1", "x", "name2", "x"), DotPath.get(indexed, "items[19]"));
+            assertEquals(5, DotPath.<Integer>get(indexed, "matrix[1][2]"));
+        }
+        Map<String, Object> expected = new HashMap<>();
+        DotPath.set(expected, "items[1].name", "x");
+        Files.writeString(file, "items[1].name=x\n");
+        Map<String, Object> indexed = new HashMap<>();
+        DotPath.load(indexed, file);
+        assertEquals(expected, indexed);
+
+        Files.writeString(file, "count=five\nnot an entry\nposition..x=1\nitems[x]=1\nplayer=Player1\n");
+        DotPathException exception = assertThrows(DotPathException.class, () -> DotPath.load(state, file));
+        assertEquals(4, exception.getSuppressed().length);
+        assertEquals("Player1", state.getPlayer());
+    }
+
     @Test
     void testMapOperations() throws Exception {
         Map<String, Object> map = new HashMap<>();
@@ -262,6 +536,20 @@ class DotPathTest {
         assertEquals("new value", ((Map<?, ?>) map.get("nested")).get("inner"));
     }
 
+    @Test
+    void testInheritedProperties() throws Exception {
+        // Static fields of a subclass do not hide the instance field of a superclass
+        Thermometer thermometer = new Thermometer();
+        DotPath.set(thermometer, "label", "T1");
+        assertEquals("T1", DotPath.get(thermometer, "label"));
+        assertEquals("thermometer", Thermometer.label);
+
+        // Setters accepting a supertype of the property are used
+        DotPath.set(thermometer, "reading", 21.5);
+        assertEquals(21.5, thermometer.getReading());
+        assertEquals(1, thermometer.getUpdates());
+    }
+
     @Test
     void testNullIntermediateObjects() throws Exception {
         // Create a State with null position
@@ -284,4 +572,814 @@ class DotPathTest {
         DotPath.setFromString(state, "position.x", "30");
         assertEquals(30, state.getPosition().getX());
     }
+
+    @Test
+    void testCompiledPath() throws Exception {
+        State source = State.builder()
+                .count(42)
+                .position(Point.builder().x(10).y(20).build())
+                .build();
+        State target = State.builder().build();
+
+        CompiledPath positionX = DotPath.compile("position.x");
+        assertEquals("position.x", positionX.getPath());
+        assertSame(positionX, DotPath.compile("position.x"));
+
+        // The same compiled path can be evaluated against many roots
+        Integer x = positionX.get(source);
+        assertEquals(10, x);
+
+        positionX.set(target, 30);
+        assertEquals(30, target.getPosition().getX());
+
+        positionX.setFromString(target, "40");
+        assertEquals(40, target.getPosition().getX());
+
+        positionX.copy(source, target);
+        assertEquals(10, target.getPosition().getX());
+
+        // Invalid paths are rejected when compiled
+        assertThrows(DotPathException.class, () -> DotPath.compile(null));
+        assertThrows(DotPathException.class, () -> DotPath.compile(" "));
+        assertThrows(DotPathException.class, () -> DotPath.compile("position..x"));
+        assertThrows(DotPathException.class, () -> DotPath.compile("position.x."));
+    }
+
+    @Test
+    void testMissingAndNullProperties() throws Exception {
+        State state = State.builder().player("Player1").build();
+
+        // Reference properties can be cleared, primitives cannot
+        DotPath.set(state, "player", null);
+        assertNull(state.getPlayer());
+        assertThrows(DotPathException.class, () -> DotPath.set(state, "count", null));
+
+        // Unknown properties are reported with the class they were looked up in
+        DotPathException exception = assertThrows(DotPathException.class, () -> DotPath.get(state, "missing"));
+        assertTrue(exception
+                .getCause()
+                .getMessage()
+                .contains("Property 'missing' not found in class %s".formatted(State.class.getName())));
+    }
+
+    @Test
+    void testAccessorEngines() throws Exception {
+        AccessorEngine original = DotPathSettings.getAccessorEngine();
+        try {
+            for (AccessorEngine engine : AccessorEngine.values()) {
+                DotPathSettings.setAccessorEngine(engine);
+
+                State state = State.builder().build();
+                DotPath.set(state, "position.x", 10);
+                DotPath.set(state, "count", 42);
+                DotPath.setFromString(state, "value", "3.14");
+
+                assertEquals(10, DotPath.<Integer>get(state, "position.x"), engine.name());
+                assertEquals(42, DotPath.<Integer>get(state, "count"), engine.name());
+                assertEquals(3.14, DotPath.<Double>get(state, "value"), engine.name());
+            }
+        } finally {
+            DotPathSettings.setAccessorEngine(original);
+        }
+    }
+
+    @Test
+    void testGeneratedPaths() throws Exception {
+        DotPathSettings.setGeneratedPaths(true);
+        try {
+            State state = State.builder().build();
+
+            // Intermediate objects are created by the generated accessor as well
+            DotPath.set(state, "position.x", 10);
+            assertEquals(10, state.getPosition().getX());
+            assertEquals(10, DotPath.<Integer>get(state, "position.x"));
+
+            DotPath.set(state, "count", 42);
+            assertEquals(42, DotPath.<Integer>get(state, "count"));
+
+            // Paths through maps fall back to the generic traversal
+            DotPath.set(state, "properties.level", 5);
+            assertEquals(5, DotPath.<Integer>get(state, "properties.level"));
+
+            assertThrows(DotPathException.class, () -> DotPath.set(state, "position.x", "not a number"));
+            assertThrows(DotPathException.class, () -> DotPath.get(state, "position.missing"));
+
+            // Values are checked against the declared type as in generic mode
+            assertThrows(DotPathException.class, () -> DotPath.set(state, "value", 3));
+            assertThrows(DotPathException.class, () -> DotPath.set(state, "count", null));
+            assertEquals(0.0, state.getValue());
+        } finally {
+            DotPathSettings.setGeneratedPaths(false);
+        }
+        State state = State.builder().build();
+        assertThrows(DotPathException.class, () -> DotPath.set(state, "value", 3));
+        assertThrows(DotPathException.class, () -> DotPath.set(state, "count", null));
+    }
+
+    @Test
+    void testGetAll() throws Exception {
+        State state = State.builder()
+                .count(42)
+                .player("Player1")
+                .position(Point.builder().x(10).y(20).build())
+                .build();
+        state.getProperties().put("level", 5);
+
+        PathSet paths =
+                DotPath.compileAll(List.of("position.x", "count", "position.y", "position", "properties.level"));
+        assertEquals(5, paths.size());
+
+        Object[] values = paths.getAll(state);
+        assertArrayEquals(new Object[] {10, 42, 20, state.getPosition(), 5}, values);
+
+        Map<String, Object> byPath = DotPath.getAll(state, List.of("player", "position.y", "properties.level"));
+        assertEquals(List.of("player", "position.y", "properties.level"), List.copyOf(byPath.keySet()));
+        assertEquals("Player1", byPath.get("player"));
+        assertEquals(20, byPath.get("position.y"));
+
+        // Intermediate objects are created as with get
+        State empty = State.builder().build();
+        assertArrayEquals(
+                new Object[] {0, 0},
+                DotPath.compileAll(List.of("position.x", "position.y")).getAll(empty));
+        assertNotNull(empty.getPosition());
+
+        assertThrows(DotPathException.class, () -> DotPath.getAll(state, List.of("count", "missing")));
+        assertThrows(DotPathException.class, () -> DotPath.getAll(state, List.of("properties.missing")));
+        assertThrows(DotPathException.class, () -> DotPath.compileAll(List.of("count", "position..x")));
+        assertThrows(DotPathException.class, () -> paths.getAll(null));
+    }
+
+    @Test
+    void testSetAll() throws Exception {
+        State state = State.builder().build();
+
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("count", 42);
+        values.put("position.x", 10);
+        values.put("position.y", 20);
+        values.put("properties.level", 5);
+        DotPath.setAll(state, values);
+        assertEquals(42, state.getCount());
+        assertEquals(Point.builder().x(10).y(20).build(), state.getPosition());
+        assertEquals(5, state.getProperties().get("level"));
+
+        Map<String, String> strings = new LinkedHashMap<>();
+        strings.put("value", "3.14");
+        strings.put("position.x", "30");
+        strings.put("position.y", "40");
+        strings.put("properties.level", "6");
+        strings.put("properties.nested.name", "test");
+        DotPath.setAllFromStrings(state, strings);
+        assertEquals(3.14, state.getValue());
+        assertEquals(30, state.getPosition().getX());
+        assertEquals(40, state.getPosition().getY());
+        assertEquals(6, state.getProperties().get("level"));
+        assertEquals("test", DotPath.get(state, "properties.nested.name"));
+
+        // All paths are attempted and every failure is reported
+        Map<String, String> invalid = new LinkedHashMap<>();
+        invalid.put("count", "not a number");
+        invalid.put("player", "Player1");
+        invalid.put("missing.x", "1");
+        DotPathException exception =
+                assertThrows(DotPathException.class, () -> DotPath.setAllFromStrings(state, invalid));
+        assertEquals(2, exception.getSuppressed().length);
+        assertEquals("Player1", state.getPlayer());
+
+        PathSet paths = DotPath.compileAll(List.of("count", "player"));
+        assertThrows(DotPathException.class, () -> paths.setAll(state, new Object[] {1}));
+    }
+
+    @Test
+    void testCopyAll() throws Exception {
+        State source = State.builder()
+                .count(42)
+                .player("Player1")
+                .position(Point.builder().x(10).y(20).build())
+                .build();
+        source.getProperties().put("level", 5);
+
+        // Missing intermediate objects are created in the target
+        State target = State.builder().position(null).build();
+        DotPath.copy(source, target, "position.x");
+        assertEquals(10, target.getPosition().getX());
+
+        target = State.builder().build();
+        DotPath.copyAll(source, target, List.of("count", "player", "position.x", "position.y", "properties.level"));
+        assertEquals(42, target.getCount());
+        assertEquals("Player1", target.getPlayer());
+        assertEquals(source.getPosition(), target.getPosition());
+        assertNotSame(source.getPosition(), target.getPosition());
+        assertEquals(5, target.getProperties().get("level"));
+
+        // All paths are attempted and every failure is reported
+        State partial = State.builder().build();
+        partial.getProperties().put("level", "high");
+        DotPathException exception = assertThrows(
+                DotPathException.class,
+                () -> DotPath.copyAll(source, partial, List.of("properties.level", "count", "missing")));
+        assertEquals(2, exception.getSuppressed().length);
+        assertEquals(42, partial.getCount());
+
+        assertThrows(DotPathException.class, () -> DotPath.copyAll(source, "target", List.of("count")));
+    }
+
+    @Test
+    void testMappingPlan() throws Exception {
+        MappingPlan<State, Point> toPoint = DotPath.mapping(State.class, Point.class)
+                .map("count", "x")
+                .map("position.y", "y")
+                .build();
+
+        State state = State.builder().count(42).position(new Point(0, 3)).build();
+        assertEquals(Point.builder().x(42).y(3).build(), toPoint.map(state, Point::new));
+
+        List<Point> points =
+                toPoint.mapAll(List.of(state, State.builder().count(1).build()), Point::new);
+        assertEquals(List.of(new Point(42, 3), new Point(1, 0)), points);
+
+        // Narrowing is rejected when the plan is built, or when a runtime value would lose information
+        assertThrows(DotPathException.class, () -> DotPath.mapping(State.class, Point.class)
+                .map("value", "y")
+                .build());
+        MappingPlan<State, Point> fromMap = DotPath.mapping(State.class, Point.class)
+                .map("properties.x", "x")
+                .build();
+        state.getProperties().put("x", 7L);
+        assertEquals(7, fromMap.map(state, Point::new).getX());
+        state.getProperties().put("x", 3.9);
+        assertThrows(DotPathException.class, () -> fromMap.map(state, Point::new));
+        state.getProperties().put("x", 1L << 40);
+        assertThrows(DotPathException.class, () -> fromMap.map(state, Point::new));
+
+        // Numbers are widened, intermediate objects are created and maps are written at runtime
+        MappingPlan<Point, State> toState = DotPath.mapping(Point.class, State.class)
+                .map("x", "value")
+                .map("y", "position.x")
+                .map("x", "properties.x")
+                .build();
+        State target = toState.map(new Point(5, 7), State::new);
+        assertEquals(5.0, target.getValue());
+        assertEquals(7, target.getPosition().getX());
+        assertEquals(5, target.getProperties().get("x"));
+
+        // Widening between declared types may round, as in the language
+        Thermometer thermometer = new Thermometer();
+        thermometer.setSerial((1L << 53) + 1);
+        State rounded = DotPath.mapping(Thermometer.class, State.class)
+                .map("serial", "value")
+                .build()
+                .map(thermometer, State::new);
+        assertEquals((double) ((1L << 53) + 1), rounded.getValue());
+
+        // Mappings with a null source intermediate object are skipped
+        MappingPlan<State, State> copy = DotPath.mapping(State.class, State.class)
+                .map("position.x", "count")
+                .map("player", "player")
+                .build();
+        target = State.builder().count(9).build();
+        copy.apply(State.builder().player("Player1").build(), target);
+        assertEquals(9, target.getCount());
+        assertEquals("Player1", target.getPlayer());
+
+        // Types and properties are checked when the plan is built
+        assertThrows(DotPathException.class, () -> DotPath.mapping(State.class, Point.class)
+                .map("player", "x")
+                .build());
+        assertThrows(DotPathException.class, () -> DotPath.mapping(State.class, Point.class)
+                .map("missing", "x")
+                .build());
+    }
+
+    @Test
+    void testPrimitiveAccessors() throws Exception {
+        AccessorEngine original = DotPathSettings.getAccessorEngine();
+        try {
+            for (AccessorEngine engine : AccessorEngine.values()) {
+                DotPathSettings.setAccessorEngine(engine);
+
+                State state = State.builder().build();
+                DotPath.setInt(state, "count", 42);
+                DotPath.setDouble(state, "value", 3.14);
+                DotPath.setInt(state, "position.x", 10);
+                DotPath.setBoolean(state, "properties.enabled", true);
+                DotPath.setLong(state, "properties.total", 7L);
+
+                assertEquals(42, DotPath.getInt(state, "count"), engine.name());
+                assertEquals(42L, DotPath.getLong(state, "count"), engine.name());
+                assertEquals(42.0, DotPath.getDouble(state, "count"), engine.name());
+                assertEquals(3.14, DotPath.getDouble(state, "value"), engine.name());
+                assertEquals(10, DotPath.compile("position.x").getInt(state), engine.name());
+                assertTrue(DotPath.getBoolean(state, "properties.enabled"), engine.name());
+                assertEquals(7L, DotPath.getLong(state, "properties.total"), engine.name());
+                assertEquals(7, DotPath.getInt(state, "properties.total"), engine.name());
+
+                // Values are converted to and from the property type only without loss
+                assertThrows(DotPathException.class, () -> DotPath.getInt(state, "value"));
+                assertThrows(DotPathException.class, () -> DotPath.getLong(state, "value"));
+                DotPath.setInt(state, "value", 5);
+                DotPath.setLong(state, "value", 6L);
+                assertEquals(6.0, state.getValue(), engine.name());
+                assertEquals(6, DotPath.getInt(state, "value"), engine.name());
+                DotPath.setDouble(state, "count", 8.0);
+                DotPath.setLong(state, "count", 9L);
+                assertEquals(9, state.getCount(), engine.name());
+                assertThrows(DotPathException.class, () -> DotPath.setDouble(state, "count", 9.5));
+                assertThrows(DotPathException.class, () -> DotPath.setLong(state, "count", 1L << 40));
+                assertThrows(DotPathException.class, () -> DotPath.setLong(state, "value", (1L << 53) + 1));
+                assertEquals(9, state.getCount(), engine.name());
+                assertEquals(6.0, state.getValue(), engine.name());
+                state.getProperties().put("big", (1L << 53) + 1);
+                state.getProperties().put("huge", 1L << 40);
+                assertThrows(DotPathException.class, () -> DotPath.getDouble(state, "properties.big"));
+                assertThrows(DotPathException.class, () -> DotPath.getInt(state, "properties.huge"));
+
+                Thermometer thermometer = new Thermometer();
+                DotPath.setBoolean(thermometer, "calibrated", true);
+                assertTrue(thermometer.isCalibrated(), engine.name());
+                assertTrue(DotPath.getBoolean(thermometer, "calibrated"), engine.name());
+
+                // Leaf types are checked once per class, for roots of alternating classes
+                CompiledPath count = DotPath.compile("count");
+                Map<String, Object> map = new HashMap<>();
+                for (int i = 0; i < 2; i++) {
+                    count.setInt(map, i);
+                    count.setInt(state, i);
+                    assertEquals(i, map.get("count"), engine.name());
+                    assertEquals(i, count.getInt(state), engine.name());
+                    assertThrows(DotPathException.class, () -> count.setBoolean(state, true));
+                }
+                count.setBoolean(map, true);
+                assertTrue(count.getBoolean(map), engine.name());
+
+                assertThrows(DotPathException.class, () -> DotPath.setInt(state, "player", 1));
+                assertThrows(DotPathException.class, () -> DotPath.getInt(state, "player"));
+                assertThrows(DotPathException.class, () -> DotPath.getBoolean(state, "count"));
+                assertThrows(DotPathException.class, () -> DotPath.getInt(state, "properties.missing"));
+            }
+        } finally {
+            DotPathSettings.setAccessorEngine(original);
+        }
+    }
+
+    @Test
+    void testTryGetAndExists() throws Exception {
+        State state = State.builder().count(42).player(null).build();
+        state.getProperties().put("level", 5);
+        state.getProperties().put("empty", null);
+
+        assertEquals(Optional.of(42), DotPath.tryGet(state, "count"));
+        assertEquals(Optional.of(5), DotPath.tryGet(state, "properties.level"));
+        assertEquals(Optional.empty(), DotPath.tryGet(state, "player"));
+        assertEquals(Optional.empty(), DotPath.tryGet(state, "missing"));
+        assertEquals(Optional.empty(), DotPath.tryGet(state, "properties.missing.deeper"));
+
+        // Lookups do not create intermediate objects
+        assertEquals(Optional.empty(), DotPath.tryGet(state, "position.x"));
+        assertNull(state.getPosition());
+
+        assertEquals(42, DotPath.getOrDefault(state, "count", 0));
+        assertEquals(-1, DotPath.getOrDefault(state, "position.x", -1));
+        assertEquals("none", DotPath.getOrDefault(state, "properties.missing", "none"));
+        assertNull(DotPath.getOrDefault(state, "properties.empty", "none"));
+
+        assertTrue(DotPath.exists(state, "count"));
+        assertTrue(DotPath.exists(state, "player"));
+        assertTrue(DotPath.exists(state, "properties.empty"));
+        assertFalse(DotPath.exists(state, "missing"));
+        assertFalse(DotPath.exists(state, "position.x"));
+
+        assertThrows(DotPathException.class, () -> DotPath.tryGet(null, "count"));
+    }
+
+    @Test
+    void testConcurrentMode() throws Exception {
+        DotPathSettings.setConcurrent(true);
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            for (int round = 0; round < 200; round++) {
+                State state = State.builder().build();
+                Map<String, Object> root = new ConcurrentHashMap<>();
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<?>> writes = new ArrayList<>();
+                for (int i = 0; i < 4; i++) {
+                    int id = i;
+                    writes.add(executor.submit(() -> {
+                        start.await();
+                        DotPath.set(state, id % 2 == 0 ? "position.x" : "position.y", id + 1);
+                        DotPath.set(root, "a.b.k" + id, id);
+                        DotPath.set(root, "items[" + id + "].k", id);
+                        // Leaf writes past the end of the same List
+                        for (int index = id; index < 200; index += 4) {
+                            DotPath.set(root, "values[" + index + "]", index);
+                        }
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for (Future<?> write : writes) {
+                    write.get();
+                }
+
+                // Sibling writes through the same new intermediate objects are all kept
+                assertNotEquals(0, state.getPosition().getX());
+                assertNotEquals(0, state.getPosition().getY());
+                assertEquals(4, DotPath.<Map<String, Object>>get(root, "a.b").size());
+                assertInstanceOf(ConcurrentHashMap.class, root.get("a"));
+                assertEquals(
+                        Collections.synchronizedList(new ArrayList<>()).getClass(),
+                        root.get("items").getClass());
+                for (int i = 0; i < 4; i++) {
+                    assertEquals(i, DotPath.<Integer>get(root, "items[" + i + "].k"));
+                }
+                List<?> values = DotPath.get(root, "values");
+                assertEquals(200, values.size());
+                for (int i = 0; i < 200; i++) {
+                    assertEquals(i, values.get(i));
+                }
+            }
+        } finally {
+            DotPathSettings.setConcurrent(false);
+        }
+    }
+
+    @Test
+    void testAtomicOperations() throws Exception {
+        State state = State.builder().count(1).build();
+        Map<String, Object> root = new ConcurrentHashMap<>();
+
+        assertTrue(DotPath.compareAndSet(state, "count", 1, 2));
+        assertFalse(DotPath.compareAndSet(state, "count", 1, 3));
+        assertTrue(DotPath.compareAndSet(state, "player", null, "Player1"));
+        assertTrue(DotPath.compareAndSet(state, "player", new String("Player1"), "Player2"));
+        assertEquals("Player2", state.getPlayer());
+        assertTrue(DotPath.compareAndSet(root, "stats.status", null, "ready"));
+        assertFalse(DotPath.compareAndSet(root, "stats.status", "busy", "done"));
+
+        assertEquals(2, DotPath.getAndAdd(state, "count", 5));
+        assertEquals(8, DotPath.incrementAndGet(state, "count"));
+        assertEquals(1, DotPath.incrementAndGet(root, "stats.hits"));
+        assertEquals(1, root.get("stats") instanceof Map<?, ?> stats ? stats.get("hits") : null);
+        assertThrows(DotPathException.class, () -> DotPath.incrementAndGet(state, "value"));
+
+        assertEquals(1.5, DotPath.accumulate(state, "value", 1.5, Double::sum));
+        assertEquals(4.0, DotPath.accumulate(state, "value", 2.5, Double::sum));
+        assertEquals("Player2!", DotPath.accumulate(state, "player", "!", String::concat));
+        assertEquals(3, DotPath.accumulate(root, "stats.max", 3, Math::max));
+
+        // Concurrent increments of a field and of a map entry are not lost
+        DotPathSettings.setConcurrent(true);
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            List<Future<?>> updates = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                updates.add(executor.submit(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        DotPath.incrementAndGet(state, "position.x");
+                        DotPath.incrementAndGet(root, "counters.total");
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> update : updates) {
+                update.get();
+            }
+        } finally {
+            DotPathSettings.setConcurrent(false);
+        }
+        assertEquals(4000, state.getPosition().getX());
+        assertEquals(4000, DotPath.<Integer>get(root, "counters.total"));
+    }
+
+    @Test
+    void testGuardedRoot() throws Exception {
+        State state = State.builder().position(Point.builder().build()).count(0).build();
+        GuardedRoot<State> guarded = GuardedRoot.of(state);
+        PathSet paths = DotPath.compileAll(List.of("position.x", "position.y", "count"));
+
+        guarded.set("count", 5);
+        guarded.setFromString("position.y", "7");
+        guarded.copyFrom(State.builder().player("Alice").build(), "player");
+        assertEquals(5, state.getCount());
+        assertEquals(7, DotPath.<Integer>get(state, "position.y"));
+        assertEquals("Alice", guarded.<String>get("player"));
+        assertEquals(Map.of("count", 5), guarded.getAll(List.of("count")));
+        assertThrows(DotPathException.class, () -> guarded.get("missing"));
+        assertThrows(DotPathException.class, () -> GuardedRoot.of(null));
+
+        // Reads through missing intermediate objects leave the root unchanged
+        State empty = State.builder().build();
+        GuardedRoot<State> unwritten = GuardedRoot.of(empty);
+        assertNull(unwritten.get("position.x"));
+        assertArrayEquals(new Object[] {null, null, 0}, unwritten.getAll(paths));
+        Map<String, Object> expected = new HashMap<>();
+        expected.put("position.y", null);
+        expected.put("count", 0);
+        assertEquals(expected, unwritten.getAll(List.of("position.y", "count")));
+        assertThrows(DotPathException.class, () -> unwritten.get("properties.config.level"));
+        assertNull(empty.getPosition());
+        assertEquals(Map.of(), empty.getProperties());
+        assertThrows(DotPathException.class, () -> guarded.get("position.missing"));
+
+        // A writer keeps x, y and count equal; readers never see them torn
+        AtomicBoolean done = new AtomicBoolean();
+        try (ExecutorService executor = Executors.newFixedThreadPool(3)) {
+            Future<?> writer = executor.submit(() -> {
+                for (int i = 1; i <= 20_000; i++) {
+                    guarded.setAll(Map.of("position.x", i, "position.y", i, "count", i));
+                }
+                done.set(true);
+                return null;
+            });
+            List<Future<?>> readers = new ArrayList<>();
+            for (int r = 0; r < 2; r++) {
+                readers.add(executor.submit(() -> {
+                    while (!done.get()) {
+                        Object[] values = guarded.getAll(paths);
+                        assertEquals(values[0], values[1]);
+                        assertEquals(values[0], values[2]);
+                    }
+                    return null;
+                }));
+            }
+            writer.get();
+            for (Future<?> reader : readers) {
+                reader.get();
+            }
+        }
+        assertEquals(20_000, state.getCount());
+    }
+
+    @Test
+    void testIndexedPaths() throws Exception {
+        Route route = Route.builder()
+                .waypoints(new ArrayList<>(List.of(Point.builder().x(1).y(2).build())))
+                .scores(new int[] {10, 20, 30})
+                .build();
+
+        // Elements of Lists and arrays, on beans and at the root
+        assertEquals(2, DotPath.<Integer>get(route, "waypoints[0].y"));
+        assertEquals(20, DotPath.<Integer>get(route, "scores[1]"));
+        assertEquals(30, DotPath.compile("scores[2]").getInt(route));
+        assertEquals(1, DotPath.<Integer>get(route.getWaypoints(), "[0].x"));
+        assertThrows(DotPathException.class, () -> DotPath.get(route, "scores[3]"));
+        assertThrows(DotPathException.class, () -> DotPath.get(route, "scores[-1]"));
+        assertThrows(DotPathException.class, () -> DotPath.get(route, "scores[x]"));
+        assertThrows(DotPathException.class, () -> DotPath.get(route, "scores[1]x"));
+
+        // Writes past the end of a List grow it, creating elements of the declared type
+        DotPath.set(route, "waypoints[2].x", 5);
+        assertEquals(3, route.getWaypoints().size());
+        assertNull(route.getWaypoints().get(1));
+        assertEquals(5, route.getWaypoints().get(2).getX());
+        DotPath.setFromString(route, "waypoints[1].y", "7");
+        assertEquals(7, route.getWaypoints().get(1).getY());
+        DotPath.compile("scores[0]").setInt(route, 11);
+        DotPath.setFromString(route, "scores[1]", "21");
+        assertArrayEquals(new int[] {11, 21, 30}, route.getScores());
+        assertThrows(DotPathException.class, () -> DotPath.set(route, "scores[3]", 40));
+        assertThrows(DotPathException.class, () -> DotPath.set(route, "scores[0]", "text"));
+
+        // Missing lists are created, and nested indexes create nested lists in maps
+        Route empty = Route.builder().waypoints(null).build();
+        DotPath.set(empty, "waypoints[0].x", 3);
+        assertEquals(3, empty.getWaypoints().get(0).getX());
+        Map<String, Object> root = new HashMap<>();
+        DotPath.set(root, "matrix[1][2]", 4);
+        assertEquals(Arrays.asList(null, Arrays.asList(null, null, 4)), root.get("matrix"));
+        assertEquals(4, DotPath.<Integer>get(root, "matrix[1][2]"));
+
+        // Batch reads and copies traverse the same elements
+        assertArrayEquals(
+                new Object[] {1, 5},
+                DotPath.compileAll(List.of("waypoints[0].x", "waypoints[2].x")).getAll(route));
+        Route copy = Route.builder().build();
+        DotPath.copy(route, copy, "waypoints[2].x");
+        assertEquals(5, copy.getWaypoints().get(2).getX());
+        assertEquals(12, DotPath.incrementAndGet(route, "scores[0]"));
+    }
+
+    @Test
+    void testQuery() throws Exception {
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put(
+                "orders",
+                List.of(
+                        Map.of("lines", List.of(Map.of("sku", "A"), Map.of("sku", "B"))),
+                        Map.of("lines", List.of(Map.of("sku", "C"), Map.of("qty", 2)))));
+
+        // Wildcards over Lists and Maps, and recursive descent, in depth-first order
+        assertEquals(
+                List.of("A", "B", "C"),
+                DotPath.query(root, "orders.*.lines.*.sku").toList());
+        assertEquals(List.of("A", "B", "C"), DotPath.query(root, "**.sku").toList());
+        assertEquals(
+                List.of("B"),
+                DotPath.query(root, "orders[0].lines.*.sku").skip(1).toList());
+        assertEquals(0, DotPath.query(root, "orders.*.missing.*").count());
+
+        // Wildcards over bean properties and arrays, skipping null values
+        State state =
+                State.builder().position(Point.builder().x(10).y(20).build()).build();
+        assertEquals(List.of(10, 20), DotPath.query(state, "position.*").toList());
+        Route route = Route.builder().scores(new int[] {1, 2, 3}).build();
+        assertEquals(List.of(1, 2, 3), DotPath.query(route, "scores.*").toList());
+        assertEquals(
+                List.of(route.getScores(), 1, 2, 3, 0),
+                DotPath.query(route, "**").skip(2).toList());
+
+        // Cycles are descended into once
+        Map<String, Object> cyclic = new HashMap<>();
+        cyclic.put("self", cyclic);
+        cyclic.put("value", 1);
+        assertEquals(List.of(1), DotPath.query(cyclic, "**.value").toList());
+
+        // Parallel streams split the first wildcard and keep the encounter order
+        List<Point> points = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            points.add(Point.builder().x(i).build());
+        }
+        PathQuery query = DotPath.compileQuery("waypoints.*.x");
+        Route large = Route.builder().waypoints(points).build();
+        assertNotNull(query.spliterator(large).trySplit());
+        List<Integer> xs = query.<Integer>stream(large).parallel().toList();
+        assertEquals(10_000, xs.size());
+        assertEquals(points.get(9_999).getX(), xs.get(9_999));
+        assertEquals(
+                49_995_000L,
+                query.<Integer>stream(large).parallel().mapToLong(x -> x).sum());
+        assertThrows(DotPathException.class, () -> DotPath.query(null, "*"));
+    }
+
+    @Test
+    void testExtract() throws Exception {
+        List<State> states = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            states.add(State.builder()
+                    .count(i)
+                    .position(i % 2 == 0 ? Point.builder().x(i).build() : null)
+                    .build());
+        }
+        states.set(1, null);
+
+        // Large collections are split across threads, keeping the order of the roots
+        List<Integer> counts = DotPath.extract(states, "count");
+        assertEquals(5_000, counts.size());
+        assertEquals(4_999, counts.get(4_999));
+        assertNull(counts.get(1));
+
+        // Null intermediate objects give null without being created
+        List<Integer> xs = DotPath.extract(new LinkedList<>(states), "position.x");
+        assertEquals(4_998, xs.get(4_998));
+        assertNull(xs.get(3));
+        assertNull(states.get(3).getPosition());
+
+        Object[][] rows = DotPath.extractAll(states, List.of("count", "position.x"));
+        assertArrayEquals(new Object[] {4, 4}, rows[4]);
+        assertArrayEquals(new Object[] {null, null}, rows[1]);
+        assertThrows(DotPathException.class, () -> DotPath.extract(states, "missing"));
+        assertThrows(DotPathException.class, () -> DotPath.extract(null, "count"));
+    }
+
+    @Test
+    void testProject() throws Exception {
+        List<State> states = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            states.add(State.builder()
+                    .player("p" + i)
+                    .count(i)
+                    .value(i / 2.0)
+                    .position(i % 2 == 0 ? Point.builder().x(i).build() : null)
+                    .build());
+        }
+        states.set(2, null);
+        List<String> before = states.stream().map(String::valueOf).toList();
+
+        // Primitive leaves are read into primitive arrays, with null rows marked in a bitmap
+        ColumnSet columns = DotPath.project(states, "count", "position.x", "value", "player");
+        assertEquals(5_000, columns.size());
+        assertEquals(List.of("count", "position.x", "value", "player"), columns.getPaths());
+
+        Column counts = columns.get("count");
+        assertEquals(int.class, counts.getType());
+        assertEquals(4_999, counts.getInts()[4_999]);
+        assertTrue(counts.isNull(2));
+        assertEquals(1, counts.nullCount());
+
+        Column xs = columns.get(1);
+        assertEquals(4_998, xs.getInts()[4_998]);
+        assertTrue(xs.isNull(3));
+        assertNull(xs.get(3));
+        assertEquals(2_501, xs.nullCount());
+
+        // Roots are not modified, including those with null intermediate objects
+        assertEquals(before, states.stream().map(String::valueOf).toList());
+
+        assertEquals(2_499.5, columns.get("value").getDoubles()[4_999]);
+        assertEquals(Object.class, columns.get("player").getType());
+        assertEquals("p4", columns.get("player").getObjects()[4]);
+
+        // Values of later roots of other classes must fit the column type of the first root
+        List<Object> mixed = new ArrayList<>(List.of(State.builder().count(1).build(), Map.of("count", 2.0)));
+        assertEquals(2, DotPath.project(mixed, "count").get(0).getInts()[1]);
+        mixed.add(Map.of("count", 2.5));
+        assertThrows(DotPathException.class, () -> DotPath.project(mixed, "count"));
+        mixed.set(2, Map.of("count", 1L << 40));
+        assertThrows(DotPathException.class, () -> DotPath.project(mixed, "count"));
+
+        assertThrows(IllegalStateException.class, counts::getDoubles);
+        assertThrows(IllegalArgumentException.class, () -> columns.get("missing"));
+        assertThrows(DotPathException.class, () -> DotPath.project(states, "missing"));
+        assertThrows(DotPathException.class, () -> DotPath.project(null, "count"));
+    }
+
+    @Test
+    void testComparator() throws Exception {
+        List<State> states = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            states.add(State.builder()
+                    .player("p" + (i % 7))
+                    .count(i % 100)
+                    .value(-i)
+                    .position(i % 3 == 0 ? null : Point.builder().x(i % 10).build())
+                    .build());
+        }
+        states.set(5, null);
+
+        // Keys are read from compiled paths, with null roots and null intermediates last by default
+        PathComparator<State> byX = DotPath.comparingInt("position.x");
+        List<State> sorted = new ArrayList<>(states);
+        sorted.sort(byX);
+        assertEquals(0, sorted.get(0).getPosition().getX());
+        assertNull(sorted.get(4_999).getPosition());
+        assertNull(states.get(0).getPosition());
+
+        PathComparator<State> order = DotPath.<State>comparator("player")
+                .thenComparingInt("position.x")
+                .nullsFirst()
+                .thenComparingDouble("value");
+        List<State> expected = new ArrayList<>(states.subList(0, 500));
+        expected.sort(order);
+        assertEquals("p0", expected.get(1).getPlayer());
+        assertNull(expected.get(1).getPosition());
+
+        // Large lists read every key once into arrays and sort to the same stable order
+        for (PathComparator<State> comparator : List.of(
+                order,
+                order.reversed(),
+                byX,
+                byX.reversed(),
+                DotPath.<State>comparingInt("count").reversed(),
+                DotPath.<State>comparingLong("count"))) {
+            List<State> direct = new ArrayList<>(states);
+            direct.sort(comparator);
+            List<State> decorated = new LinkedList<>(states);
+            comparator.sort(decorated);
+            assertEquals(direct, decorated, comparator.toString());
+        }
+
+        List<State> counts = new ArrayList<>(states);
+        counts.remove(5);
+        DotPath.<State>comparingInt("count").reversed().sort(counts);
+        assertEquals(99, counts.get(0).getCount());
+        assertEquals(-99.0, counts.get(0).getValue());
+
+        // Roots of different classes alternate between their resolved paths and sort as List.sort
+        List<Object> mixed = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            mixed.add(
+                    i % 2 == 0
+                            ? State.builder().count(i % 50).build()
+                            : new HashMap<>(Map.of("count", (double) (i % 30))));
+        }
+        PathComparator<Object> byCount = DotPath.comparingInt("count");
+        List<Object> direct = new ArrayList<>(mixed);
+        direct.sort(byCount);
+        byCount.sort(mixed);
+        assertEquals(direct, mixed);
+
+        mixed.add(new HashMap<>(Map.of("count", 2.5)));
+        assertThrows(DotPathException.class, () -> byCount.sort(mixed));
+
+        assertEquals("position.x desc nulls first", byX.reversed().toString());
+        assertThrows(UncheckedDotPathException.class, () -> DotPath.comparator("missing")
+                .compare(states.get(0), states.get(1)));
+        assertThrows(DotPathException.class, () -> DotPath.<State>comparator("missing")
+                .sort(states));
+        assertThrows(DotPathException.class, () -> DotPath.comparator(""));
+    }
+
+    @Test
+    void testStackTraces() throws Exception {
+        assertTrue(DotPathSettings.isStackTraces());
+        try {
+            DotPathSettings.setStackTraces(false);
+            DotPathException exception = assertThrows(
+                    DotPathException.class, () -> DotPath.get(State.builder().build(), "missing"));
+            assertEquals(0, exception.getStackTrace().length);
+            assertNotNull(exception.getCause());
+        } finally {
+            DotPathSettings.setStackTraces(true);
+        }
+        assertTrue(new DotPathException("test").getStackTrace().length > 0);
+    }
 }
@@ -0,0 +1,24 @@
+package io.github.rmkane.dotpath.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Route {
+    private String name;
+
+    @Builder.Default
+    private List<Point> waypoints = new ArrayList<>();
+
+    private int[] scores;
+
+    private int maxStops;
+}
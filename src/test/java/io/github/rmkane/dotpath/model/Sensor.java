@@ -0,0 +1,5 @@
+package io.github.rmkane.dotpath.model;
+
+public class Sensor {
+    private String label;
+}
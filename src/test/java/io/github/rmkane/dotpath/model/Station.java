@@ -0,0 +1,15 @@
+package io.github.rmkane.dotpath.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Station {
+    private String name;
+    private Sensor sensor;
+}
@@ -0,0 +1,39 @@
+package io.github.rmkane.dotpath.model;
+
+public class Thermometer extends Sensor {
+    public static String label = "thermometer";
+
+    private double reading;
+    private int updates;
+    private boolean calibrated;
+    private long serial;
+
+    public double getReading() {
+        return reading;
+    }
+
+    public void setReading(Number reading) {
+        this.reading = reading.doubleValue();
+        updates++;
+    }
+
+    public int getUpdates() {
+        return updates;
+    }
+
+    public boolean isCalibrated() {
+        return calibrated;
+    }
+
+    public void setCalibrated(boolean calibrated) {
+        this.calibrated = calibrated;
+    }
+
+    public long getSerial() {
+        return serial;
+    }
+
+    public void setSerial(long serial) {
+        this.serial = serial;
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.rmkane.dotpath.processor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.rmkane.dotpath.api.DotPath;
+import io.github.rmkane.dotpath.internal.metadata.ClassMetadata;
+import io.github.rmkane.dotpath.internal.metadata.PropertyMetadata;
+
+class DotPathProcessorTest {
+    private static final String ORDER =
+            """
+            package sample;
+
+            import io.github.rmkane.dotpath.api.DotPathAccessible;
+
+            @DotPathAccessible
+            public class Order {
+                private Customer customer;
+                long total;
+                private boolean paid;
+
+                public Customer getCustomer() { return customer; }
+                public void setCustomer(Customer customer) { this.customer = customer; }
+                public boolean isPaid() { return paid; }
+            }
+            """;
+
+    private static final String CUSTOMER =
+            """
+            package sample;
+
+            public class Customer {
+                private String name;
+
+                public String getName() { return name; }
+                public void setName(String name) { this.name = name; }
+            }
+            """;
+
+    @Test
+    void testGeneratedAccessorTables(@TempDir Path dir) throws Exception {
+        Path sources = Files.createDirectories(dir.resolve("src/sample"));
+        Path generated = Files.createDirectories(dir.resolve("generated"));
+        Path classes = Files.createDirectories(dir.resolve("classes"));
+        Files.writeString(sources.resolve("Order.java"), ORDER);
+        Files.writeString(sources.resolve("Customer.java"), CUSTOMER);
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        int result = compiler.run(
+                null,
+                null,
+                null,
+                "-proc:full",
+                "-processor",
+                DotPathProcessor.class.getName(),
+                "-classpath",
+                System.getProperty("java.class.path"),
+                "-d",
+                classes.toString(),
+                "-s",
+                generated.toString(),
+                sources.resolve("Order.java").toString(),
+                sources.resolve("Customer.java").toString());
+        assertEquals(0, result);
+
+        // Tables are generated for the annotated class and the bean reachable from it
+        assertTrue(Files.exists(generated.resolve("sample/Order$DotPathAccessors.java")));
+        assertTrue(Files.exists(generated.resolve("sample/Customer$DotPathAccessors.java")));
+        List<String> services =
+                Files.readAllLines(classes.resolve("META-INF/services/io.github.rmkane.dotpath.spi.AccessorTable"));
+        assertEquals(List.of("sample.Order$DotPathAccessors", "sample.Customer$DotPathAccessors"), services);
+
+        try (URLClassLoader loader = new URLClassLoader(
+                new URL[] {classes.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> orderClass = loader.loadClass("sample.Order");
+            Object order = orderClass.getConstructor().newInstance();
+
+            // Intermediate objects are created through the table
+            DotPath.set(order, "customer.name", "Alice");
+            assertEquals("Alice", DotPath.get(order, "customer.name"));
+
+            DotPath.set(order, "total", 42);
+            assertEquals(42L, DotPath.<Long>get(order, "total"));
+            DotPath.setFromString(order, "total", "7");
+            assertEquals(7L, DotPath.<Long>get(order, "total"));
+            assertEquals(false, DotPath.<Boolean>get(order, "paid"));
+            assertThrows(Exception.class, () -> DotPath.set(order, "paid", true));
+
+            // Properties are resolved from the table without reflection
+            PropertyMetadata customer = ClassMetadata.of(orderClass).getExistingProperty("customer");
+            assertNull(customer.getGetter());
+            assertNull(customer.getField());
+            assertEquals(loader.loadClass("sample.Customer"), customer.getType());
+        }
+    }
+}